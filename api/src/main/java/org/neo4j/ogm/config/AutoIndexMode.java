@@ -33,6 +33,12 @@ public enum AutoIndexMode {
      */
     VALIDATE("validate"),
 
+    /**
+     * Compares the indexes and constraints in the database with those defined in metadata on startup, then drops the
+     * ones no longer defined and creates the missing ones. Those already in place are left untouched.
+     */
+    UPDATE("update"),
+
     /**
      * Runs validate then creates a file (in same dir where launched) with the cypher used to build indexes and constraints.
      */
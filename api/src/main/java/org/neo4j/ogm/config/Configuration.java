@@ -38,6 +38,7 @@ public class Configuration {
 	private String trustStrategy;
 	private String trustCertFile;
 	private AutoIndexMode autoIndex;
+	private Integer autoIndexAwaitTimeout;
 	private String generatedIndexesOutputDir;
 	private String generatedIndexesOutputFilename;
 	private String neo4jHaPropertiesFile;
@@ -62,6 +63,7 @@ public class Configuration {
 		this.connectionLivenessCheckTimeout = builder.connectionLivenessCheckTimeout;
         this.verifyConnection = builder.verifyConnection != null ? builder.verifyConnection : false;
         this.autoIndex = builder.autoIndex != null ? AutoIndexMode.fromString(builder.autoIndex) : AutoIndexMode.NONE;
+		this.autoIndexAwaitTimeout = builder.autoIndexAwaitTimeout;
 		this.generatedIndexesOutputDir = builder.generatedIndexesOutputDir != null ? builder.generatedIndexesOutputDir : ".";
 		this.generatedIndexesOutputFilename = builder.generatedIndexesOutputFilename != null ? builder.generatedIndexesOutputFilename : "generated_indexes.cql";
 		this.neo4jHaPropertiesFile = builder.neo4jHaPropertiesFile;
@@ -99,6 +101,13 @@ public class Configuration {
 		return autoIndex;
 	}
 
+	/**
+	 * @return how many seconds to wait for the indexes built at startup to come online, <code>null</code> not to wait
+	 */
+	public Integer getAutoIndexAwaitTimeout() {
+		return autoIndexAwaitTimeout;
+	}
+
 	public String getDumpDir() {
 		return generatedIndexesOutputDir;
 	}
@@ -188,6 +197,8 @@ public class Configuration {
 		if (trustCertFile != null ? !trustCertFile.equals(that.trustCertFile) : that.trustCertFile != null)
 			return false;
 		if (autoIndex != that.autoIndex) return false;
+		if (autoIndexAwaitTimeout != null ? !autoIndexAwaitTimeout.equals(that.autoIndexAwaitTimeout) : that.autoIndexAwaitTimeout != null)
+			return false;
 		if (generatedIndexesOutputDir != null ? !generatedIndexesOutputDir.equals(that.generatedIndexesOutputDir) : that.generatedIndexesOutputDir != null)
 			return false;
 		if (generatedIndexesOutputFilename != null ? !generatedIndexesOutputFilename.equals(that.generatedIndexesOutputFilename) : that.generatedIndexesOutputFilename != null)
@@ -206,6 +217,7 @@ public class Configuration {
 		result = 31 * result + (trustStrategy != null ? trustStrategy.hashCode() : 0);
 		result = 31 * result + (trustCertFile != null ? trustCertFile.hashCode() : 0);
 		result = 31 * result + (autoIndex != null ? autoIndex.hashCode() : 0);
+		result = 31 * result + (autoIndexAwaitTimeout != null ? autoIndexAwaitTimeout.hashCode() : 0);
 		result = 31 * result + (generatedIndexesOutputDir != null ? generatedIndexesOutputDir.hashCode() : 0);
 		result = 31 * result + (generatedIndexesOutputFilename != null ? generatedIndexesOutputFilename.hashCode() : 0);
 		result = 31 * result + (neo4jHaPropertiesFile != null ? neo4jHaPropertiesFile.hashCode() : 0);
@@ -229,6 +241,7 @@ public class Configuration {
 					.connectionLivenessCheckTimeout(builder.connectionLivenessCheckTimeout)
                     .verifyConnection(builder.verifyConnection)
                     .autoIndex(builder.autoIndex)
+					.autoIndexAwaitTimeout(builder.autoIndexAwaitTimeout)
 					.generatedIndexesOutputDir(builder.generatedIndexesOutputDir)
 					.generatedIndexesOutputFilename(builder.generatedIndexesOutputFilename)
 					.neo4jHaPropertiesFile(builder.neo4jHaPropertiesFile)
@@ -246,6 +259,7 @@ public class Configuration {
 		private static final String CONNECTION_LIVENESS_CHECK_TIMEOUT = "connection.liveness.check.timeout";
         private static final String VERIFY_CONNECTION = "verify.connection";
         private static final String AUTO_INDEX = "indexes.auto";
+		private static final String AUTO_INDEX_AWAIT_TIMEOUT = "indexes.auto.await.timeout";
 		private static final String GENERATED_INDEXES_OUTPUT_DIR = "indexes.auto.dump.dir";
 		private static final String GENERATED_INDEXES_OUTPUT_FILENAME = "indexes.auto.dump.filename";
 		private static final String NEO4J_HA_PROPERTIES_FILE = "neo4j.ha.properties.file";
@@ -259,6 +273,7 @@ public class Configuration {
         private Integer connectionLivenessCheckTimeout;
         private Boolean verifyConnection;
         private String autoIndex;
+		private Integer autoIndexAwaitTimeout;
 		private String generatedIndexesOutputDir;
 		private String generatedIndexesOutputFilename;
 		private String neo4jHaPropertiesFile;
@@ -314,6 +329,9 @@ public class Configuration {
                     case AUTO_INDEX:
 						this.autoIndex = (String) entry.getValue();
 						break;
+					case AUTO_INDEX_AWAIT_TIMEOUT:
+						this.autoIndexAwaitTimeout = Integer.valueOf((String) entry.getValue());
+						break;
 					case GENERATED_INDEXES_OUTPUT_DIR:
 						this.generatedIndexesOutputDir = (String) entry.getValue();
 						break;
@@ -421,6 +439,19 @@ public class Configuration {
 			return this;
 		}
 
+		/**
+		 * Seconds to wait for the indexes created by {@link org.neo4j.ogm.config.AutoIndexMode#ASSERT} or
+		 * {@link org.neo4j.ogm.config.AutoIndexMode#UPDATE} to come online before the SessionFactory is returned.
+		 * <p>
+		 * By default startup doesn't wait, the database populates new indexes in the background.
+		 *
+		 * @param autoIndexAwaitTimeout seconds to wait for, <code>null</code> not to wait
+		 */
+		public Builder autoIndexAwaitTimeout(Integer autoIndexAwaitTimeout) {
+			this.autoIndexAwaitTimeout = autoIndexAwaitTimeout;
+			return this;
+		}
+
 		public Builder generatedIndexesOutputDir(String generatedIndexesOutputDir) {
 			this.generatedIndexesOutputDir = generatedIndexesOutputDir;
 			return this;
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.driver;
+
+import java.lang.reflect.Array;
+import java.util.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.neo4j.ogm.config.ObjectMapperFactory;
+
+/**
+ * Converts the parameters of a statement into values the Bolt and embedded drivers accept.
+ * <p>
+ * The values are the ones a round trip through the OGM's {@link ObjectMapper} produces (integral numbers as
+ * <code>Long</code>, decimals as <code>Double</code>, enums and characters as <code>String</code>, arrays and
+ * collections as <code>List</code>, except for <code>byte[]</code> which is kept), but the parameters are walked
+ * once instead of being written to and read back from a buffer of JSON tokens. Maps and lists whose content is already
+ * native are returned as they are, a copy is only made of a container that holds a value to convert. Values of any
+ * other type still go through the {@link ObjectMapper}.
+ */
+public final class ParameterConversion {
+
+    private static final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
+
+    private ParameterConversion() {
+    }
+
+    /**
+     * @param parameters the parameters of a statement, may be <code>null</code>
+     * @return the converted parameters, <code>parameters</code> itself if there was nothing to convert
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> convertParameters(Map<String, ?> parameters) {
+        if (parameters == null) {
+            return new HashMap<>();
+        }
+        return (Map<String, Object>) convertMap(parameters);
+    }
+
+    static Object convert(Object value) {
+        if (value == null || value instanceof String || value instanceof Long || value instanceof Double
+                || value instanceof Boolean || value instanceof byte[]) {
+            return value;
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Float) {
+            return ((Float) value).doubleValue();
+        }
+        if (value instanceof Character) {
+            return value.toString();
+        }
+        if (value instanceof Enum) {
+            return ((Enum) value).name();
+        }
+        if (value instanceof Map) {
+            return convertMap((Map<?, ?>) value);
+        }
+        if (value instanceof List) {
+            return convertList((List<?>) value);
+        }
+        if (value instanceof Collection) {
+            return convertAll((Collection<?>) value);
+        }
+        if (value.getClass().isArray()) {
+            return convertArray(value);
+        }
+        return mapper.convertValue(value, Object.class);
+    }
+
+    private static Map<?, ?> convertMap(Map<?, ?> map) {
+        Map<String, Object> converted = null;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object key = entry.getKey();
+            Object value = entry.getValue();
+            Object convertedValue = convert(value);
+            if (converted == null && (convertedValue != value || !(key instanceof String))) {
+                converted = copyUntil(map, key);
+            }
+            if (converted != null) {
+                converted.put(String.valueOf(key), convertedValue);
+            }
+        }
+        return converted == null ? map : converted;
+    }
+
+    // copies the entries preceding the given key, all of which are native
+    private static Map<String, Object> copyUntil(Map<?, ?> map, Object key) {
+        Map<String, Object> copy = new HashMap<>(Math.max(16, (int) (map.size() / 0.75f) + 1));
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getKey() == key) {
+                break;
+            }
+            copy.put((String) entry.getKey(), entry.getValue());
+        }
+        return copy;
+    }
+
+    private static List<?> convertList(List<?> list) {
+        List<Object> converted = null;
+        int i = 0;
+        for (Object element : list) {
+            Object convertedElement = convert(element);
+            if (converted == null && convertedElement != element) {
+                converted = new ArrayList<>(list.size());
+                converted.addAll(list.subList(0, i));
+            }
+            if (converted != null) {
+                converted.add(convertedElement);
+            }
+            i++;
+        }
+        return converted == null ? list : converted;
+    }
+
+    private static List<Object> convertAll(Collection<?> collection) {
+        List<Object> converted = new ArrayList<>(collection.size());
+        for (Object element : collection) {
+            converted.add(convert(element));
+        }
+        return converted;
+    }
+
+    private static Object convertArray(Object array) {
+        if (array instanceof char[]) {
+            return new String((char[]) array);
+        }
+        int length = Array.getLength(array);
+        List<Object> converted = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            converted.add(convert(Array.get(array, i)));
+        }
+        return converted;
+    }
+}
@@ -15,7 +15,9 @@ package org.neo4j.ogm.result.adapter;
 
 import java.util.*;
 
+import org.neo4j.ogm.model.Edge;
 import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
 import org.neo4j.ogm.response.model.DefaultGraphModel;
 import org.neo4j.ogm.response.model.NodeModel;
 import org.neo4j.ogm.response.model.RelationshipModel;
@@ -84,15 +86,7 @@ public abstract class GraphModelAdapter extends BaseAdapter implements ResultAda
 
             nodeIdentities.add(nodeId(node));
 
-            NodeModel nodeModel = new NodeModel();
-            nodeModel.setId(nodeId(node));
-            List<String> labelNames = labels(node);
-
-            nodeModel.setLabels(labelNames.toArray(new String[]{}));
-
-            nodeModel.setProperties(convertArrayPropertiesToIterable(properties(node)));
-
-            graphModel.getNodes().add(nodeModel);
+            graphModel.getNodes().add(node(node));
         }
     }
 
@@ -102,17 +96,47 @@ public abstract class GraphModelAdapter extends BaseAdapter implements ResultAda
 
             edgeIdentities.add(relationshipId(relationship));
 
-            RelationshipModel edgeModel = new RelationshipModel();
-            edgeModel.setId(relationshipId(relationship));
-            edgeModel.setType(relationshipType(relationship));
-            edgeModel.setStartNode(startNodeId(relationship));
-            edgeModel.setEndNode(endNodeId(relationship));
-
-            edgeModel.setProperties(convertArrayPropertiesToIterable(properties(relationship)));
-            graphModel.getRelationships().add(edgeModel);
+            graphModel.getRelationships().add(edge(relationship));
         }
     }
 
+    /**
+     * Builds the node of the graph model of a node of the result, copying its labels and properties by default.
+     * Adapters of drivers whose nodes can be read directly may return a view of them instead.
+     *
+     * @param node a node of the result
+     * @return the node of the graph model
+     */
+    protected Node node(Object node) {
+        NodeModel nodeModel = new NodeModel();
+        nodeModel.setId(nodeId(node));
+        List<String> labelNames = labels(node);
+
+        nodeModel.setLabels(labelNames.toArray(new String[]{}));
+
+        nodeModel.setProperties(convertArrayPropertiesToIterable(properties(node)));
+
+        return nodeModel;
+    }
+
+    /**
+     * Builds the edge of the graph model of a relationship of the result, copying its properties by default.
+     * Adapters of drivers whose relationships can be read directly may return a view of them instead.
+     *
+     * @param relationship a relationship of the result
+     * @return the edge of the graph model
+     */
+    protected Edge edge(Object relationship) {
+        RelationshipModel edgeModel = new RelationshipModel();
+        edgeModel.setId(relationshipId(relationship));
+        edgeModel.setType(relationshipType(relationship));
+        edgeModel.setStartNode(startNodeId(relationship));
+        edgeModel.setEndNode(endNodeId(relationship));
+
+        edgeModel.setProperties(convertArrayPropertiesToIterable(properties(relationship)));
+        return edgeModel;
+    }
+
     public abstract boolean isPath(Object value);
 
     public abstract boolean isNode(Object value);
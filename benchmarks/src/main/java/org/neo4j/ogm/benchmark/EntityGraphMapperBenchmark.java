@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.context.EntityGraphMapper;
+import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.cypher.compiler.CompileContext;
+import org.neo4j.ogm.cypher.compiler.Compiler;
+import org.neo4j.ogm.domain.cineasts.annotated.Movie;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.session.request.RowStatementFactory;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * The save path: {@link EntityGraphMapper#map(Object, int)} building a {@link CompileContext} for an entity graph,
+ * and {@link Compiler#getAllStatements()} turning it into Cypher.
+ * <p>
+ * New entities exercise node and relationship creation. Loaded entities exercise the dirty checks against the
+ * {@link MappingContext} and the bookkeeping of the relationships already known to the session.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EntityGraphMapperBenchmark {
+
+    @Param({"10", "100"})
+    public int movies;
+
+    private MetaData metaData;
+
+    @Setup
+    public void setUp() {
+        metaData = Fixtures.metaData();
+    }
+
+    /**
+     * A fresh graph of new entities per invocation, saving must not see ids assigned by a previous invocation.
+     */
+    @State(Scope.Thread)
+    public static class NewEntities {
+
+        List<Movie> movies;
+
+        @Setup(Level.Invocation)
+        public void setUp(EntityGraphMapperBenchmark benchmark) {
+            movies = Fixtures.cineastsEntities(benchmark.movies, 5);
+        }
+    }
+
+    /**
+     * Entities hydrated into a session, one property of each root changed so that it is dirty.
+     */
+    @State(Scope.Thread)
+    public static class LoadedEntities {
+
+        MappingContext mappingContext;
+        List<Movie> movies;
+
+        @Setup(Level.Iteration)
+        public void setUp(EntityGraphMapperBenchmark benchmark) {
+            mappingContext = new MappingContext(benchmark.metaData);
+            movies = new ArrayList<>();
+            GraphEntityMapper mapper = new GraphEntityMapper(benchmark.metaData, mappingContext);
+            for (Movie movie : mapper.map(Movie.class, new ListResponse<>(Fixtures.cineastsGraph(benchmark.movies, 5)))) {
+                movie.setYear(movie.getYear() + 1);
+                movies.add(movie);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<CompileContext> mapNewEntities(NewEntities state) {
+        MappingContext mappingContext = new MappingContext(metaData);
+        List<CompileContext> contexts = new ArrayList<>(state.movies.size());
+        for (Movie movie : state.movies) {
+            contexts.add(new EntityGraphMapper(metaData, mappingContext).map(movie, -1));
+        }
+        return contexts;
+    }
+
+    @Benchmark
+    public List<Statement> compileNewEntities(NewEntities state) {
+        MappingContext mappingContext = new MappingContext(metaData);
+        List<Statement> statements = new ArrayList<>();
+        for (Movie movie : state.movies) {
+            statements.addAll(compile(new EntityGraphMapper(metaData, mappingContext).map(movie, -1)));
+        }
+        return statements;
+    }
+
+    @Benchmark
+    public List<Statement> compileLoadedEntities(LoadedEntities state) {
+        List<Statement> statements = new ArrayList<>();
+        for (Movie movie : state.movies) {
+            statements.addAll(compile(new EntityGraphMapper(metaData, state.mappingContext).map(movie, 1)));
+        }
+        return statements;
+    }
+
+    private static List<Statement> compile(CompileContext context) {
+        Compiler compiler = context.getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+        return compiler.getAllStatements();
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.*;
+
+import org.neo4j.ogm.domain.canonical.Mappable;
+import org.neo4j.ogm.domain.cineasts.annotated.Actor;
+import org.neo4j.ogm.domain.cineasts.annotated.Movie;
+import org.neo4j.ogm.domain.cineasts.annotated.Rating;
+import org.neo4j.ogm.domain.cineasts.annotated.User;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.response.model.DefaultRowModel;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.response.model.RelationshipModel;
+import org.neo4j.ogm.utils.EntityUtils;
+
+/**
+ * In-memory fixtures built from the cineasts, social and canonical test domains.
+ * <p>
+ * Graph models are shaped like the rows a driver returns for a load query: one {@link GraphModel} per row,
+ * each holding a root node and its neighbourhood.
+ */
+final class Fixtures {
+
+    // social.User is left out, its label clashes with cineasts User
+    static final String[] DOMAIN_PACKAGES = {
+            "org.neo4j.ogm.domain.cineasts.annotated",
+            "org.neo4j.ogm.domain.social.Person",
+            "org.neo4j.ogm.domain.canonical.Mappable"
+    };
+
+    private Fixtures() {
+    }
+
+    static MetaData metaData() {
+        return new MetaData(DOMAIN_PACKAGES);
+    }
+
+    /**
+     * One row per movie, each with its cast (ACTS_IN relationship entities) and a rating user (RATED relationship entity).
+     */
+    static List<GraphModel> cineastsGraph(int movies, int castSize) {
+        List<GraphModel> rows = new ArrayList<>(movies);
+        long nodeId = 0;
+        long relId = 0;
+        for (int m = 0; m < movies; m++) {
+            List<NodeModel> nodes = new ArrayList<>();
+            List<RelationshipModel> relationships = new ArrayList<>();
+
+            Map<String, Object> movieProperties = new HashMap<>();
+            movieProperties.put("title", "Movie " + m);
+            movieProperties.put("year", 1950L + m % 70);
+            movieProperties.put("uuid", new UUID(0, nodeId).toString());
+            NodeModel movie = node(nodeId++, movieProperties, "Movie");
+            nodes.add(movie);
+
+            for (int a = 0; a < castSize; a++) {
+                Map<String, Object> actorProperties = new HashMap<>();
+                actorProperties.put("name", "Actor " + m + "-" + a);
+                actorProperties.put("uuid", new UUID(0, nodeId).toString());
+                NodeModel actor = node(nodeId++, actorProperties, "Actor");
+                nodes.add(actor);
+
+                Map<String, Object> roleProperties = new HashMap<>();
+                roleProperties.put("role", "Role " + a);
+                relationships.add(relationship(relId++, "ACTS_IN", actor.getId(), movie.getId(), roleProperties));
+            }
+
+            Map<String, Object> userProperties = new HashMap<>();
+            userProperties.put("login", "user" + m);
+            userProperties.put("name", "User " + m);
+            userProperties.put("password", "secret");
+            userProperties.put("nicknames", Arrays.asList("u" + m, "user-" + m));
+            NodeModel user = node(nodeId++, userProperties, "User");
+            nodes.add(user);
+
+            Map<String, Object> ratingProperties = new HashMap<>();
+            ratingProperties.put("stars", (long) (m % 5));
+            ratingProperties.put("comment", "Comment " + m);
+            relationships.add(relationship(relId++, "RATED", user.getId(), movie.getId(), ratingProperties));
+
+            rows.add(graph(nodes, relationships));
+        }
+        return rows;
+    }
+
+    /**
+     * One row per person, each with the people it likes connected through LIKES relationships.
+     */
+    static List<GraphModel> socialGraph(int people, int likes) {
+        List<GraphModel> rows = new ArrayList<>(people);
+        long relId = 0;
+        for (int p = 0; p < people; p++) {
+            List<NodeModel> nodes = new ArrayList<>();
+            List<RelationshipModel> relationships = new ArrayList<>();
+
+            nodes.add(node(p, Collections.singletonMap("name", "Person " + p), "Person"));
+            for (int l = 1; l <= likes; l++) {
+                long liked = (p + l) % people;
+                nodes.add(node(liked, Collections.singletonMap("name", "Person " + liked), "Person"));
+                relationships.add(relationship(relId++, "LIKES", p, liked, Collections.emptyMap()));
+            }
+            rows.add(graph(nodes, relationships));
+        }
+        return rows;
+    }
+
+    /**
+     * One wide node per row, covering every primitive, boxed, array and collection property of {@link Mappable}.
+     */
+    static List<GraphModel> canonicalGraph(int count) {
+        List<GraphModel> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("primitiveInt", (long) i);
+            properties.put("primitiveLong", (long) i);
+            properties.put("primitiveByte", 1L);
+            properties.put("primitiveShort", 2L);
+            properties.put("primitiveBoolean", true);
+            properties.put("primitiveChar", "c");
+            properties.put("primitiveFloat", 1.5d);
+            properties.put("primitiveDouble", 2.5d);
+            properties.put("primitiveIntArray", Arrays.asList(1L, 2L, 3L));
+            properties.put("primitiveLongArray", Arrays.asList(1L, 2L, 3L));
+            properties.put("primitiveFloatArray", Arrays.asList(1.5d, 2.5d));
+            properties.put("primitiveDoubleArray", Arrays.asList(1.5d, 2.5d));
+            properties.put("objectInteger", (long) i);
+            properties.put("objectLong", (long) i);
+            properties.put("objectFloat", 1.5d);
+            properties.put("objectDouble", 2.5d);
+            properties.put("objectString", "Mappable " + i);
+            properties.put("objectIntegerArray", Arrays.asList(1L, 2L, 3L));
+            properties.put("objectStringArray", Arrays.asList("a", "b", "c"));
+            properties.put("listOfString", Arrays.asList("a", "b", "c"));
+            rows.add(graph(Collections.singletonList(node(i, properties, "Mappable")), Collections.emptyList()));
+        }
+        return rows;
+    }
+
+    /**
+     * New (transient) movies, each with its cast and one rating, ready to be saved.
+     */
+    static List<Movie> cineastsEntities(int movies, int castSize) {
+        List<Movie> result = new ArrayList<>(movies);
+        for (int m = 0; m < movies; m++) {
+            Movie movie = new Movie("Movie " + m, 1950 + m % 70);
+            for (int a = 0; a < castSize; a++) {
+                new Actor("Actor " + m + "-" + a).playedIn(movie, "Role " + a);
+            }
+            User user = new User("user" + m, "User " + m, "secret");
+            Rating rating = new Rating();
+            rating.setUser(user);
+            rating.setMovie(movie);
+            rating.setStars(m % 5);
+            rating.setComment("Comment " + m);
+            user.setRatings(new HashSet<>(Collections.singletonList(rating)));
+            movie.setRatings(new HashSet<>(Collections.singletonList(rating)));
+            result.add(movie);
+        }
+        return result;
+    }
+
+    /**
+     * Wide entities with a graph id already assigned, as if they had been loaded.
+     */
+    static List<Mappable> mappables(MetaData metaData, int count) {
+        List<Mappable> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Mappable mappable = new Mappable();
+            EntityUtils.setIdentity(mappable, (long) i, metaData);
+            mappable.setPrimitiveInt(i);
+            mappable.setPrimitiveLong(i);
+            mappable.setPrimitiveIntArray(new int[]{1, 2, 3});
+            mappable.setPrimitiveDoubleArray(new double[]{1.5d, 2.5d});
+            mappable.setObjectInteger(i);
+            mappable.setObjectString("Mappable " + i);
+            mappable.setObjectStringArray(new String[]{"a", "b", "c"});
+            mappable.setListOfString(Arrays.asList("a", "b", "c"));
+            result.add(mappable);
+        }
+        return result;
+    }
+
+    /**
+     * Rows of the shape returned by the save statements: a reference, the database id and the entity type.
+     */
+    static List<RowModel> idRows(int count) {
+        String[] columns = {"ref", "id", "type"};
+        List<RowModel> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new DefaultRowModel(new Object[]{-1L - i, (long) i, "node"}, columns));
+        }
+        return rows;
+    }
+
+    /**
+     * Single column rows, as returned by a scalar query.
+     */
+    static List<RowModel> scalarRows(int count) {
+        String[] columns = {"count"};
+        List<RowModel> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new DefaultRowModel(new Object[]{(long) i}, columns));
+        }
+        return rows;
+    }
+
+    private static NodeModel node(long id, Map<String, Object> properties, String... labels) {
+        NodeModel node = new NodeModel();
+        node.setId(id);
+        node.setLabels(labels);
+        node.setProperties(properties);
+        return node;
+    }
+
+    private static RelationshipModel relationship(long id, String type, long start, long end, Map<String, Object> properties) {
+        RelationshipModel relationship = new RelationshipModel();
+        relationship.setId(id);
+        relationship.setType(type);
+        relationship.setStartNode(start);
+        relationship.setEndNode(end);
+        relationship.setProperties(properties);
+        return relationship;
+    }
+
+    private static GraphModel graph(List<NodeModel> nodes, List<RelationshipModel> relationships) {
+        DefaultGraphModel graph = new DefaultGraphModel();
+        graph.setNodes(nodes.toArray(new NodeModel[0]));
+        graph.setRelationships(relationships.toArray(new RelationshipModel[0]));
+        return graph;
+    }
+}
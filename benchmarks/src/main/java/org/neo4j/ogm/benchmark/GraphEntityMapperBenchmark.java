@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.domain.canonical.Mappable;
+import org.neo4j.ogm.domain.cineasts.annotated.Movie;
+import org.neo4j.ogm.domain.social.Person;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.GraphModel;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Hydration of graph responses into entities by {@link GraphEntityMapper#map(Class, org.neo4j.ogm.response.Response)},
+ * starting from an empty {@link MappingContext} each time, as a freshly opened session would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GraphEntityMapperBenchmark {
+
+    @Param({"100", "1000"})
+    public int rows;
+
+    private MetaData metaData;
+    private List<GraphModel> cineasts;
+    private List<GraphModel> social;
+    private List<GraphModel> canonical;
+
+    @Setup
+    public void setUp() {
+        metaData = Fixtures.metaData();
+        cineasts = Fixtures.cineastsGraph(rows, 5);
+        social = Fixtures.socialGraph(rows, 10);
+        canonical = Fixtures.canonicalGraph(rows);
+    }
+
+    @Benchmark
+    public Iterable<Movie> mapMoviesWithRelationshipEntities() {
+        return mapper().map(Movie.class, new ListResponse<>(cineasts));
+    }
+
+    @Benchmark
+    public Iterable<Person> mapPeopleWithCollections() {
+        return mapper().map(Person.class, new ListResponse<>(social));
+    }
+
+    @Benchmark
+    public Iterable<Mappable> mapWideEntities() {
+        return mapper().map(Mappable.class, new ListResponse<>(canonical));
+    }
+
+    private GraphEntityMapper mapper() {
+        return new GraphEntityMapper(metaData, new MappingContext(metaData));
+    }
+}
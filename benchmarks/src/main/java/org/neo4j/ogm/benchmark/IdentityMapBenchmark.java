@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.domain.canonical.Mappable;
+import org.neo4j.ogm.metadata.MetaData;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The entity footprints kept for dirty checking: hashing every property of wide entities when they are
+ * registered in the {@link MappingContext}, and again each time {@link MappingContext#isDirty(Object)} is asked.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IdentityMapBenchmark {
+
+    @Param({"1000", "10000"})
+    public int entities;
+
+    private MetaData metaData;
+    private List<Mappable> mappables;
+    private MappingContext registered;
+
+    @Setup
+    public void setUp() {
+        metaData = Fixtures.metaData();
+        mappables = Fixtures.mappables(metaData, entities);
+        registered = new MappingContext(metaData);
+        for (Mappable mappable : mappables) {
+            registered.addNodeEntity(mappable);
+        }
+    }
+
+    @Benchmark
+    public MappingContext remember() {
+        MappingContext mappingContext = new MappingContext(metaData);
+        for (Mappable mappable : mappables) {
+            mappingContext.addNodeEntity(mappable);
+        }
+        return mappingContext;
+    }
+
+    @Benchmark
+    public void isDirty(Blackhole blackhole) {
+        for (Mappable mappable : mappables) {
+            blackhole.consume(registered.isDirty(mappable));
+        }
+    }
+}
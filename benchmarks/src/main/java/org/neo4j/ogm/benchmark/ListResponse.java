@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.neo4j.ogm.response.Response;
+
+/**
+ * A {@link Response} over a list of pre-built models, standing in for a driver response.
+ *
+ * @param <T> the model type
+ */
+class ListResponse<T> implements Response<T> {
+
+    private final Iterator<T> models;
+    private final String[] columns;
+
+    ListResponse(List<T> models, String... columns) {
+        this.models = models.iterator();
+        this.columns = columns;
+    }
+
+    @Override
+    public T next() {
+        return models.hasNext() ? models.next() : null;
+    }
+
+    @Override
+    public void close() {
+        // nothing to release
+    }
+
+    @Override
+    public String[] columns() {
+        return columns;
+    }
+}
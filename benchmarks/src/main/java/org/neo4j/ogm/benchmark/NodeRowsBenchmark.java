@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.cypher.compiler.builders.statement.NewNodeStatementBuilder;
+import org.neo4j.ogm.driver.ParameterConversion;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.session.request.RowStatementFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The rows of the statement saving a batch of new nodes with the same labels and properties, up to the parameters the
+ * Bolt driver packs: rows of {@link HashMap}s, as the node statement builders used to encode them, against the
+ * array-backed rows they build now.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NodeRowsBenchmark {
+
+    @Param({"1000", "10000"})
+    public int entities;
+
+    private Set<Node> nodes;
+
+    @Setup
+    public void setUp() {
+        nodes = new LinkedHashSet<>();
+        for (int i = 0; i < entities; i++) {
+            Map<String, Object> properties = new LinkedHashMap<>();
+            properties.put("primitiveInt", i);
+            properties.put("primitiveLong", (long) i);
+            properties.put("primitiveDouble", i * 1.5d);
+            properties.put("primitiveBoolean", i % 2 == 0);
+            properties.put("objectString", "Mappable " + i);
+            properties.put("objectStringArray", new String[]{"a", "b", "c"});
+            properties.put("objectInteger", null);
+            NodeModel node = new NodeModel();
+            node.setId((long) -i - 1);
+            node.setLabels(new String[]{"Mappable"});
+            node.setProperties(properties);
+            nodes.add(node);
+        }
+    }
+
+    @Benchmark
+    public void hashMaps(Blackhole blackhole) {
+        List<Map> rows = new ArrayList<>();
+        for (Node node : nodes) {
+            Map<String, Object> rowMap = new HashMap<>();
+            rowMap.put("nodeRef", node.getId());
+            rowMap.put("type", "node");
+            Map<String, Object> props = new HashMap<>();
+            for (Property<String, Object> property : node.getPropertyList()) {
+                if (property.getValue() != null) {
+                    props.put(property.getKey(), property.getValue());
+                }
+            }
+            rowMap.put("props", props);
+            rows.add(rowMap);
+        }
+        blackhole.consume(ParameterConversion.convertParameters(Collections.singletonMap("rows", rows)));
+    }
+
+    @Benchmark
+    public void compactRows(Blackhole blackhole) {
+        NewNodeStatementBuilder builder = new NewNodeStatementBuilder(nodes, new RowStatementFactory());
+        blackhole.consume(ParameterConversion.convertParameters(builder.build().getParameters()));
+    }
+}
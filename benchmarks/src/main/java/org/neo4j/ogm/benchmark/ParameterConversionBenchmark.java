@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.context.EntityGraphMapper;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.cypher.compiler.CompileContext;
+import org.neo4j.ogm.cypher.compiler.Compiler;
+import org.neo4j.ogm.domain.canonical.Mappable;
+import org.neo4j.ogm.driver.ParameterConversion;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.session.request.RowStatementFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The parameters of the statements saving a batch of new wide entities, as the Bolt and embedded drivers prepare
+ * them before running each statement: the {@link ObjectMapper} round trip they used to make against
+ * {@link ParameterConversion}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParameterConversionBenchmark {
+
+    private static final TypeReference<HashMap<String, Object>> MAP_TYPE_REF = new TypeReference<HashMap<String, Object>>() {
+    };
+
+    @Param({"1000", "10000"})
+    public int entities;
+
+    private final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
+
+    private List<Statement> statements;
+
+    @Setup
+    public void setUp() {
+        MetaData metaData = Fixtures.metaData();
+        EntityGraphMapper entityGraphMapper = new EntityGraphMapper(metaData, new MappingContext(metaData));
+        CompileContext context = null;
+        for (int i = 0; i < entities; i++) {
+            Mappable mappable = new Mappable();
+            mappable.setPrimitiveInt(i);
+            mappable.setPrimitiveLong(i);
+            mappable.setPrimitiveIntArray(new int[]{1, 2, 3});
+            mappable.setPrimitiveDoubleArray(new double[]{1.5d, 2.5d});
+            mappable.setObjectInteger(i);
+            mappable.setObjectString("Mappable " + i);
+            mappable.setObjectStringArray(new String[]{"a", "b", "c"});
+            mappable.setListOfString(Arrays.asList("a", "b", "c"));
+            context = entityGraphMapper.map(mappable, 0);
+        }
+        Compiler compiler = context.getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+        statements = compiler.getAllStatements();
+    }
+
+    @Benchmark
+    public void objectMapper(Blackhole blackhole) {
+        for (Statement statement : statements) {
+            Map<String, Object> parameters = mapper.convertValue(statement.getParameters(), MAP_TYPE_REF);
+            blackhole.consume(parameters);
+        }
+    }
+
+    @Benchmark
+    public void parameterConversion(Blackhole blackhole) {
+        for (Statement statement : statements) {
+            blackhole.consume(ParameterConversion.convertParameters(statement.getParameters()));
+        }
+    }
+}
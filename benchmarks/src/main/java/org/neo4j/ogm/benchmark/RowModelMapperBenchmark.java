@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.context.EntityRowModelMapper;
+import org.neo4j.ogm.model.RowModel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Consumption of row responses: scalar query results through {@link EntityRowModelMapper}, and the
+ * (ref, id, type) rows returned by save statements, read column by column the way the id registration does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RowModelMapperBenchmark {
+
+    @Param({"1000", "100000"})
+    public int rows;
+
+    private List<RowModel> scalarRows;
+    private List<RowModel> idRows;
+
+    @Setup
+    public void setUp() {
+        scalarRows = Fixtures.scalarRows(rows);
+        idRows = Fixtures.idRows(rows);
+    }
+
+    @Benchmark
+    public Iterable<Long> mapScalars() {
+        return new EntityRowModelMapper().map(Long.class, new ListResponse<>(scalarRows, "count"));
+    }
+
+    @Benchmark
+    public void readIdMappings(Blackhole blackhole) {
+        ListResponse<RowModel> response = new ListResponse<>(idRows, "ref", "id", "type");
+        RowModel rowModel;
+        while ((rowModel = response.next()) != null) {
+            Object[] values = rowModel.getValues();
+            String[] variables = rowModel.variables();
+            for (int i = 0; i < variables.length; i++) {
+                if (variables[i].equals("id") || variables[i].equals("ref")) {
+                    blackhole.consume(((Number) values[i]).longValue());
+                } else if (variables[i].equals("type")) {
+                    blackhole.consume(values[i]);
+                }
+            }
+        }
+    }
+}
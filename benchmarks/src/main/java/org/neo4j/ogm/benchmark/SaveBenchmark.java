@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.context.EntityGraphMapper;
+import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.cypher.compiler.Compiler;
+import org.neo4j.ogm.domain.cineasts.annotated.Movie;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.session.request.RowStatementFactory;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Saving one loaded entity and its direct relationships in a session that has loaded many others. The time taken
+ * should depend on the entity saved, not on the number of relationships the session knows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SaveBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int sessionMovies;
+
+    private MetaData metaData;
+    private MappingContext mappingContext;
+    private Movie movie;
+
+    @Setup
+    public void setUp() {
+        metaData = Fixtures.metaData();
+        mappingContext = new MappingContext(metaData);
+        GraphEntityMapper mapper = new GraphEntityMapper(metaData, mappingContext);
+        Iterable<Movie> movies = mapper.map(Movie.class, new ListResponse<>(Fixtures.cineastsGraph(sessionMovies, 5)));
+        movie = movies.iterator().next();
+        movie.setYear(movie.getYear() + 1);
+    }
+
+    @Benchmark
+    public List<Statement> saveOneEntity() {
+        Compiler compiler = new EntityGraphMapper(metaData, mappingContext).map(movie, 1).getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+        return compiler.getAllStatements();
+    }
+}
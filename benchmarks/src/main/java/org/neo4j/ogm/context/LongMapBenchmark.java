@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The graph id keyed registers of the {@link MappingContext} and {@link IdentityMap}: {@link LongObjectMap} and
+ * {@link LongLongMap} against the boxed {@link HashMap}s they replaced.
+ * <p>
+ * The <code>fill</code> benchmarks build a register the way a load does. Run them with <code>-prof gc</code>, the
+ * normalized allocation rate (<code>gc.alloc.rate.norm</code>) is the footprint of a register of that size.
+ * <p>
+ * Lives in the context package, the maps are package private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LongMapBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int entries;
+
+    private final Object entity = new Object();
+
+    private LongObjectMap<Object> longObjectMap;
+    private Map<Long, Object> objectHashMap;
+    private LongLongMap longLongMap;
+    private Map<Long, Long> longHashMap;
+
+    @Setup
+    public void setUp() {
+        longObjectMap = fillLongObjectMap();
+        objectHashMap = fillObjectHashMap();
+        longLongMap = fillLongLongMap();
+        longHashMap = fillLongHashMap();
+    }
+
+    @Benchmark
+    public LongObjectMap<Object> fillLongObjectMap() {
+        LongObjectMap<Object> map = new LongObjectMap<>();
+        for (long id = 0; id < entries; id++) {
+            map.putIfAbsent(id, entity);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Map<Long, Object> fillObjectHashMap() {
+        Map<Long, Object> map = new HashMap<>();
+        for (long id = 0; id < entries; id++) {
+            map.putIfAbsent(id, entity);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public LongLongMap fillLongLongMap() {
+        LongLongMap map = new LongLongMap();
+        for (long id = 0; id < entries; id++) {
+            map.put(id, id * 0x9E3779B97F4A7C15L);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Map<Long, Long> fillLongHashMap() {
+        Map<Long, Long> map = new HashMap<>();
+        for (long id = 0; id < entries; id++) {
+            map.put(id, id * 0x9E3779B97F4A7C15L);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public void getLongObjectMap(Blackhole blackhole) {
+        for (long id = 0; id < entries; id++) {
+            blackhole.consume(longObjectMap.get(id));
+        }
+    }
+
+    @Benchmark
+    public void getObjectHashMap(Blackhole blackhole) {
+        for (long id = 0; id < entries; id++) {
+            blackhole.consume(objectHashMap.get(id));
+        }
+    }
+
+    @Benchmark
+    public void getLongLongMap(Blackhole blackhole) {
+        for (long id = 0; id < entries; id++) {
+            blackhole.consume(longLongMap.get(id, 0L));
+        }
+    }
+
+    @Benchmark
+    public void getLongHashMap(Blackhole blackhole) {
+        for (long id = 0; id < entries; id++) {
+            blackhole.consume(longHashMap.get(id));
+        }
+    }
+}
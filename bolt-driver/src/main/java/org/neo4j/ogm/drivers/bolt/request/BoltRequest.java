@@ -15,15 +15,13 @@ package org.neo4j.ogm.drivers.bolt.request;
 
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.neo4j.driver.v1.StatementResult;
 import org.neo4j.driver.v1.exceptions.ClientException;
-import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.driver.ParameterConversion;
 import org.neo4j.ogm.drivers.bolt.response.GraphModelResponse;
 import org.neo4j.ogm.drivers.bolt.response.GraphRowModelResponse;
 import org.neo4j.ogm.drivers.bolt.response.RestModelResponse;
@@ -50,14 +48,8 @@ public class BoltRequest implements Request {
 
     private final TransactionManager transactionManager;
 
-    private static final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
-
     private final Logger LOGGER = LoggerFactory.getLogger(BoltRequest.class);
 
-    private TypeReference<HashMap<String, Object>> MAP_TYPE_REF = new TypeReference<HashMap<String, Object>>() {
-    };
-
-
     public BoltRequest(TransactionManager transactionManager) {
         this.transactionManager = transactionManager;
     }
@@ -79,45 +71,18 @@ public class BoltRequest implements Request {
         return new RowModelResponse(executeRequest(request), transactionManager);
     }
 
+    /**
+     * Sends all the statements of the request before reading the result of any of them. Within a transaction the
+     * driver pipelines them, the statements go out back to back and the rows of each result are read as the
+     * response is consumed, one statement after the other.
+     */
     @Override
     public Response<RowModel> execute(DefaultRequest query) {
-        final List<RowModel> rowmodels = new ArrayList<>();
-        String[] columns = null;
+        final List<StatementResult> results = new ArrayList<>();
         for (Statement statement : query.getStatements()) {
-            StatementResult result = executeRequest(statement);
-            if (columns == null) {
-                List<String> columnSet = result.keys();
-                columns = columnSet.toArray(new String[columnSet.size()]);
-            }
-            RowModelResponse rowModelResponse = new RowModelResponse(result, transactionManager);
-            RowModel model;
-            while ((model = rowModelResponse.next()) != null) {
-                rowmodels.add(model);
-            }
-            result.consume();
+            results.add(executeRequest(statement));
         }
-
-        final String[] finalColumns = columns;
-        return new Response<RowModel>() {
-            int currentRow = 0;
-
-            @Override
-            public RowModel next() {
-                if (currentRow < rowmodels.size()) {
-                    return rowmodels.get(currentRow++);
-                }
-                return null;
-            }
-
-            @Override
-            public void close() {
-            }
-
-            @Override
-            public String[] columns() {
-                return finalColumns;
-            }
-        };
+        return new MultiStatementResponse(results);
     }
 
     @Override
@@ -141,8 +106,8 @@ public class BoltRequest implements Request {
         BoltTransaction tx;
         try {
 
-            Map<String, Object> parameterMap = mapper.convertValue(request.getParameters(), MAP_TYPE_REF);
-            LOGGER.info("Request: {} with params {}", request.getStatement(), parameterMap);
+            Map<String, Object> parameterMap = ParameterConversion.convertParameters(request.getParameters());
+            LOGGER.debug("Request: {} with params {}", request.getStatement(), parameterMap);
 
             if (transactionManager.getCurrentTransaction() == null) {
                 org.neo4j.ogm.transaction.Transaction autoCommitTx = transactionManager.openTransaction();
@@ -170,4 +135,83 @@ public class BoltRequest implements Request {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * The rows of several results, read lazily one result after the other.
+     */
+    private class MultiStatementResponse implements Response<RowModel> {
+
+        private final Iterator<StatementResult> results;
+        private final String[] columns;
+
+        private StatementResult result;
+        private RowModelResponse rows;
+        private boolean closed;
+
+        MultiStatementResponse(List<StatementResult> results) {
+            this.results = results.iterator();
+            if (advance()) {
+                List<String> keys = result.keys();
+                this.columns = keys.toArray(new String[keys.size()]);
+            } else {
+                this.columns = null;
+            }
+        }
+
+        @Override
+        public RowModel next() {
+            while (rows != null) {
+                RowModel model = rows.next();
+                if (model != null) {
+                    return model;
+                }
+                advance();
+            }
+            return null;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            // read what is left, the failure of a statement must not go unnoticed
+            if (transactionManager.getCurrentTransaction() != null) {
+                while (rows != null) {
+                    consume(result::consume);
+                    advance();
+                }
+            }
+        }
+
+        @Override
+        public String[] columns() {
+            return columns;
+        }
+
+        private boolean advance() {
+            if (!results.hasNext()) {
+                result = null;
+                rows = null;
+                return false;
+            }
+            result = results.next();
+            // waits for the first rows of the result, a failed statement reports its error here
+            consume(() -> rows = new RowModelResponse(result, transactionManager));
+            return true;
+        }
+
+        private void consume(Runnable read) {
+            try {
+                read.run();
+            } catch (ClientException ce) {
+                BoltTransaction tx = (BoltTransaction) transactionManager.getCurrentTransaction();
+                if (tx != null) {
+                    tx.rollback();
+                }
+                throw new CypherException("Error executing Cypher", ce, ce.code(), ce.getMessage());
+            }
+        }
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.bolt.response;
+
+import java.util.List;
+
+import org.neo4j.driver.v1.types.Relationship;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.Property;
+
+/**
+ * An {@link Edge} of a graph model reading the properties of a relationship of a Bolt result, in place of a
+ * {@link org.neo4j.ogm.response.model.RelationshipModel} copying them.
+ */
+final class BoltEdge implements Edge {
+
+    private final Relationship relationship;
+    private final Long id;
+
+    BoltEdge(Relationship relationship) {
+        this.relationship = relationship;
+        this.id = relationship.id();
+    }
+
+    @Override
+    public String getType() {
+        return relationship.type();
+    }
+
+    @Override
+    public Long getStartNode() {
+        return relationship.startNodeId();
+    }
+
+    @Override
+    public Long getEndNode() {
+        return relationship.endNodeId();
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public List<Property<String, Object>> getPropertyList() {
+        return new BoltProperties(relationship);
+    }
+
+    @Override
+    public String getPrimaryIdName() {
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("(%d)-[%s]->(%d)", relationship.startNodeId(), relationship.type(), relationship.endNodeId());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        return id.equals(((BoltEdge) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+}
@@ -16,6 +16,9 @@ package org.neo4j.ogm.drivers.bolt.response;
 import java.util.List;
 import java.util.Map;
 
+import org.neo4j.driver.v1.types.Relationship;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.Node;
 import org.neo4j.ogm.result.adapter.GraphModelAdapter;
 
 /**
@@ -76,6 +79,16 @@ public class BoltGraphModelAdapter extends GraphModelAdapter {
         return entityAdapter.properties(container);
     }
 
+    @Override
+    protected Node node(Object node) {
+        return new BoltNode((org.neo4j.driver.v1.types.Node) node);
+    }
+
+    @Override
+    protected Edge edge(Object relationship) {
+        return new BoltEdge((Relationship) relationship);
+    }
+
     @Override
     public List<Object> nodesInPath(Object pathValue) {
         return entityAdapter.nodesInPath(pathValue);
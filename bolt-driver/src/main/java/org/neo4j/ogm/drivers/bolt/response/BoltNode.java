@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.bolt.response;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.model.Property;
+
+/**
+ * A {@link Node} of a graph model reading the labels and properties of a node of a Bolt result, in place of a
+ * {@link org.neo4j.ogm.response.model.NodeModel} copying them.
+ */
+final class BoltNode implements Node {
+
+    private final org.neo4j.driver.v1.types.Node node;
+    private final Long id;
+    private final String[] labels;
+
+    BoltNode(org.neo4j.driver.v1.types.Node node) {
+        this.node = node;
+        this.id = node.id();
+        String[] labels = toArray(node.labels());
+        Arrays.sort(labels);
+        this.labels = labels;
+    }
+
+    private static String[] toArray(Iterable<String> labels) {
+        if (labels instanceof Collection) {
+            return ((Collection<String>) labels).toArray(new String[0]);
+        }
+        List<String> list = new ArrayList<>();
+        labels.forEach(list::add);
+        return list.toArray(new String[0]);
+    }
+
+    @Override
+    public String[] getLabels() {
+        return labels;
+    }
+
+    @Override
+    public String[] getRemovedLabels() {
+        return null;
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public List<Property<String, Object>> getPropertyList() {
+        return new BoltProperties(node);
+    }
+
+    @Override
+    public String getPrimaryIndex() {
+        return null;
+    }
+
+    @Override
+    public String labelSignature() {
+        return String.join(",", labels);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        return id.equals(((BoltNode) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.bolt.response;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+
+import org.neo4j.driver.v1.types.Entity;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.response.model.PropertyModel;
+import org.neo4j.ogm.result.adapter.AdapterUtils;
+
+/**
+ * A read only view of the properties of a node or relationship of a Bolt result, reading each value from the entity
+ * when it is iterated rather than copying them all into a map first.
+ */
+final class BoltProperties extends AbstractList<Property<String, Object>> {
+
+    private final Entity entity;
+
+    BoltProperties(Entity entity) {
+        this.entity = entity;
+    }
+
+    @Override
+    public Iterator<Property<String, Object>> iterator() {
+        Iterator<String> keys = entity.keys().iterator();
+        return new Iterator<Property<String, Object>>() {
+
+            @Override
+            public boolean hasNext() {
+                return keys.hasNext();
+            }
+
+            @Override
+            public Property<String, Object> next() {
+                return property(keys.next());
+            }
+        };
+    }
+
+    @Override
+    public Property<String, Object> get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+        }
+        Iterator<String> keys = entity.keys().iterator();
+        for (int i = 0; i < index; i++) {
+            keys.next();
+        }
+        return property(keys.next());
+    }
+
+    @Override
+    public int size() {
+        return entity.size();
+    }
+
+    private Property<String, Object> property(String key) {
+        Object value = entity.get(key).asObject();
+        if (value != null && value.getClass().isArray()) {
+            // as BaseAdapter#convertArrayPropertiesToIterable
+            value = AdapterUtils.convertToIterable(value);
+        }
+        return new PropertyModel<>(key, value);
+    }
+}
@@ -17,8 +17,13 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.neo4j.ogm.config.Configuration;
 import org.neo4j.ogm.driver.Driver;
@@ -46,6 +51,8 @@ public class AutoIndexManager {
 
     private static final Map<String, Object> EMPTY_MAP = Collections.emptyMap();
 
+    private static final long AWAIT_POLL_INTERVAL_MILLIS = 100;
+
     private final List<AutoIndex> indexes;
 
     private final Configuration configuration;
@@ -91,6 +98,11 @@ public class AutoIndexManager {
         switch (configuration.getAutoIndex()) {
             case ASSERT:
                 assertIndexes();
+                awaitIndexes();
+                break;
+            case UPDATE:
+                updateIndexes();
+                awaitIndexes();
                 break;
             case VALIDATE:
                 validateIndexes();
@@ -141,13 +153,7 @@ public class AutoIndexManager {
                     continue;
                 }
                 for (AutoIndex index : indexes) {
-                	String description = index.getDescription();
-                	
-                	// The rowModel values below, as returned from the request to Neo4j, do not contain escape characters
-                	// Therefore remove escape characters from the description so as to correctly match the rowModel values
-                	description = description.replace("`", "");
-
-                    if (description.replaceAll("\\s+", "").equalsIgnoreCase(((String) rowModel.getValues()[0]).replaceAll("\\s+", ""))) {
+                    if (normalise(index.getDescription()).equals(normalise((String) rowModel.getValues()[0]))) {
                         copyOfIndexes.remove(index);
                     }
                 }
@@ -180,19 +186,7 @@ public class AutoIndexManager {
                     continue;
                 }
                 // can replace this with a lookup of the Index by description but attaching DROP here is faster.
-                String statement = (String) rowModel.getValues()[0];
-
-                // The statement is provided by the response from Neo4j and may not be property escaped for execution
-                if (statement.startsWith("CONSTRAINT")) {
-                	statement = escapeConstraintStatement(statement);	
-                } else if (statement.startsWith("INDEX")) {
-                	statement = escapeIndexStatement(statement);
-                }
-                
-                final String dropStatement = "DROP " + statement;
-
-                LOGGER.debug("[{}] added to drop statements.", dropStatement);
-                dropStatements.add(new RowDataStatement(dropStatement, EMPTY_MAP));
+                dropStatements.add(dropStatement((String) rowModel.getValues()[0]));
             }
         }
 
@@ -206,6 +200,170 @@ public class AutoIndexManager {
         create();
     }
 
+    private void updateIndexes() {
+
+        LOGGER.debug("Updating Indexes.");
+
+        Map<String, String> existingIndexes = existingIndexes();
+
+        Set<String> definedIndexes = new HashSet<>();
+        List<Statement> createStatements = new ArrayList<>();
+        for (AutoIndex index : indexes) {
+            String key = normalise(index.getDescription());
+            definedIndexes.add(key);
+            if (!existingIndexes.containsKey(key)) {
+                Statement createStatement = index.getCreateStatement();
+                LOGGER.debug("[{}] added to create statements.", createStatement);
+                createStatements.add(createStatement);
+            }
+        }
+
+        List<Statement> dropStatements = new ArrayList<>();
+        for (Map.Entry<String, String> existingIndex : existingIndexes.entrySet()) {
+            if (!definedIndexes.contains(existingIndex.getKey())) {
+                dropStatements.add(dropStatement(existingIndex.getValue()));
+            }
+        }
+
+        LOGGER.info("Dropping {} and creating {} indexes and constraints, {} are up to date.",
+                dropStatements.size(), createStatements.size(), indexes.size() - createStatements.size());
+
+        // obsolete ones go first, an index must be dropped before a constraint on the same property can be created
+        execute(dropStatements);
+        // indexes created in one request are populated by the database together, in the background
+        execute(createStatements);
+    }
+
+    /**
+     * @return the descriptions of the indexes and constraints in the database by their normalised form, leaving out
+     * the indexes backing unique constraints
+     */
+    private Map<String, String> existingIndexes() {
+        Map<String, String> existingIndexes = new LinkedHashMap<>();
+        // one procedure per request, the columns of both results differ
+        query("CALL db.constraints()", rowModel -> {
+            String description = (String) column(rowModel, "description");
+            existingIndexes.put(normalise(description), description);
+        });
+        query("CALL db.indexes()", rowModel -> {
+            if (!"node_unique_property".equals(column(rowModel, "type"))) {
+                String description = (String) column(rowModel, "description");
+                existingIndexes.put(normalise(description), description);
+            }
+        });
+        return existingIndexes;
+    }
+
+    /**
+     * Waits for the indexes defined in metadata to come online, if configured to.
+     */
+    private void awaitIndexes() {
+        Integer timeout = configuration.getAutoIndexAwaitTimeout();
+        if (timeout == null || timeout <= 0) {
+            return;
+        }
+
+        Set<String> definedIndexes = new HashSet<>();
+        for (AutoIndex index : indexes) {
+            definedIndexes.add(normalise(index.getDescription()));
+        }
+
+        LOGGER.debug("Waiting up to {}s for indexes to come online.", timeout);
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(timeout);
+        while (true) {
+            List<String> populating = new ArrayList<>();
+            query("CALL db.indexes()", rowModel -> {
+                String description = (String) column(rowModel, "description");
+                if (!definedIndexes.contains(normalise(description))) {
+                    return;
+                }
+                Object state = column(rowModel, "state");
+                if ("FAILED".equals(state)) {
+                    throw new MissingIndexException("Population of index failed: " + description);
+                }
+                if (!"ONLINE".equals(state)) {
+                    populating.add(description);
+                }
+            });
+
+            if (populating.isEmpty()) {
+                return;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                LOGGER.warn("Indexes still not online after {}s: {}", timeout, populating);
+                return;
+            }
+            try {
+                Thread.sleep(AWAIT_POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void query(String procedure, Consumer<RowModel> consumer) {
+        DefaultRequest request = new DefaultRequest();
+        request.setStatements(Collections.singletonList(new RowDataStatement(procedure, EMPTY_MAP)));
+
+        try (Response<RowModel> response = driver.request().execute(request)) {
+            RowModel rowModel;
+            while ((rowModel = response.next()) != null) {
+                consumer.accept(rowModel);
+            }
+        }
+    }
+
+    private void execute(List<Statement> statements) {
+        if (statements.isEmpty()) {
+            return;
+        }
+        DefaultRequest request = new DefaultRequest();
+        request.setStatements(statements);
+
+        try (Response<RowModel> response = driver.request().execute(request)) {
+            // Success
+        }
+    }
+
+    private static Object column(RowModel rowModel, String column) {
+        String[] variables = rowModel.variables();
+        for (int i = 0; i < variables.length; i++) {
+            if (variables[i].equals(column)) {
+                return rowModel.getValues()[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The descriptions returned by Neo4j do not contain escape characters and are spaced differently from the ones
+     * built from metadata, both are compared without escape characters and whitespace. Labels and properties are
+     * case sensitive, so is the comparison.
+     *
+     * @param description the description of an index or constraint
+     * @return its normalised form
+     */
+    private static String normalise(String description) {
+        return description.replace("`", "").replaceAll("\\s+", "");
+    }
+
+    private Statement dropStatement(String description) {
+        String statement = description;
+
+        // The statement is provided by the response from Neo4j and may not be property escaped for execution
+        if (statement.startsWith("CONSTRAINT")) {
+            statement = escapeConstraintStatement(statement);
+        } else if (statement.startsWith("INDEX")) {
+            statement = escapeIndexStatement(statement);
+        }
+
+        final String dropStatement = "DROP " + statement;
+
+        LOGGER.debug("[{}] added to drop statements.", dropStatement);
+        return new RowDataStatement(dropStatement, EMPTY_MAP);
+    }
+
     private DefaultRequest buildProcedures() {
         List<Statement> procedures = new ArrayList<>();
 
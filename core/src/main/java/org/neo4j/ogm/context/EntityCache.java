@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.context;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
+
+/**
+ * A cache of the graphs returned when entities are loaded by id, shared by the sessions of a SessionFactory.
+ * <p>
+ * Only entity types annotated with {@link org.neo4j.ogm.annotation.Cached} are cached. An entry is the graph models of
+ * the response, not the entities hydrated from it: each session hydrates its own entities from the cached graph as
+ * it would from the database. Entries are keyed by the type, the native or primary id, the depth and the load
+ * strategy of the load.
+ * <p>
+ * Entries are invalidated when a node or relationship they contain is saved or deleted through a session of the
+ * factory, when a transaction that wrote to them ends, and entirely when a Cypher query may have written to the
+ * database. Writes made outside of the factory are only seen once an entry expires. The least recently used entries
+ * are evicted when the cache is full.
+ * <p>
+ * Sessions don't read from nor populate the cache within a transaction, and don't populate it while a transaction of
+ * the factory has written to a graph and not yet ended, so that no uncommitted or outdated graph gets cached.
+ */
+public class EntityCache {
+
+    private final int maximumSize;
+    private final long timeToLiveNanos;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, Set<Key>> keysByNodeId = new HashMap<>();
+    private final Map<Long, Set<Key>> keysByRelationshipId = new HashMap<>();
+
+    // the ids written by each transaction which has not ended yet
+    private final Map<Object, Written> pendingWrites = new IdentityHashMap<>();
+    private long invalidations;
+
+    /**
+     * @param maximumSize the number of entries beyond which the least recently used ones are evicted
+     * @param timeToLive how long an entry is used for once cached
+     * @param unit the unit of timeToLive
+     */
+    public EntityCache(int maximumSize, long timeToLive, TimeUnit unit) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be at least 1: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.timeToLiveNanos = unit.toNanos(timeToLive);
+    }
+
+    /**
+     * @param classInfo the type of the entity loaded
+     * @param id its native id or primary id
+     * @param depth the depth of the load
+     * @param strategy the load strategy, or any other value the graph returned depends on
+     * @return the key of the load
+     */
+    public static Key key(ClassInfo classInfo, Object id, int depth, Object strategy) {
+        Object lookup = classInfo.primaryIndexField() == null ? id : new LabelPrimaryId(classInfo, id);
+        return new Key(classInfo.name(), lookup, depth, strategy);
+    }
+
+    /**
+     * @param key the key of a load
+     * @return the graph models of the cached response, <code>null</code> when not cached or expired
+     */
+    public synchronized List<GraphModel> get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.cachedAt > timeToLiveNanos) {
+            remove(key);
+            return null;
+        }
+        return entry.graphs;
+    }
+
+    /**
+     * A stamp to pass to {@link #put(Key, List, long)}, taken before the database is queried.
+     *
+     * @return the current stamp
+     */
+    public synchronized long stamp() {
+        return invalidations;
+    }
+
+    /**
+     * Caches the graph models of a response, unless anything was invalidated since the stamp was taken, or a
+     * transaction that wrote has not ended yet: the response could then be outdated already.
+     *
+     * @param key the key of the load
+     * @param graphs the graph models of its response
+     * @param stamp the stamp taken before the database was queried
+     */
+    public synchronized void put(Key key, List<GraphModel> graphs, long stamp) {
+        if (stamp != invalidations || !pendingWrites.isEmpty()) {
+            return;
+        }
+        remove(key);
+        Entry entry = new Entry(Collections.unmodifiableList(new ArrayList<>(graphs)));
+        entries.put(key, entry);
+        for (GraphModel graph : graphs) {
+            for (Node node : graph.getNodes()) {
+                index(keysByNodeId, node.getId(), key);
+            }
+            for (Edge edge : graph.getRelationships()) {
+                index(keysByRelationshipId, edge.getId(), key);
+                index(keysByNodeId, edge.getStartNode(), key);
+                index(keysByNodeId, edge.getEndNode(), key);
+            }
+        }
+        if (entries.size() > maximumSize) {
+            remove(entries.keySet().iterator().next());
+        }
+    }
+
+    /**
+     * Invalidates the entries containing nodes or relationships written by a transaction. They are invalidated again
+     * when the transaction ends, see {@link #transactionEnded(Object)}.
+     *
+     * @param transaction the transaction that wrote, <code>null</code> when the write was auto committed
+     * @param nodeIds the ids of the nodes written, including the ends of the relationships written
+     * @param relationshipIds the ids of the relationships written
+     */
+    public synchronized void written(Object transaction, Collection<Long> nodeIds, Collection<Long> relationshipIds) {
+        invalidate(nodeIds, relationshipIds);
+        if (transaction != null) {
+            Written written = pendingWrites.computeIfAbsent(transaction, tx -> new Written());
+            written.nodeIds.addAll(nodeIds);
+            written.relationshipIds.addAll(relationshipIds);
+        }
+    }
+
+    /**
+     * Invalidates every entry, as a transaction might have written to any of them. They are all invalidated again
+     * when the transaction ends, see {@link #transactionEnded(Object)}.
+     *
+     * @param transaction the transaction that wrote, <code>null</code> when the write was auto committed
+     */
+    public synchronized void writtenAll(Object transaction) {
+        invalidateAll();
+        if (transaction != null) {
+            pendingWrites.computeIfAbsent(transaction, tx -> new Written()).all = true;
+        }
+    }
+
+    /**
+     * Invalidates, once more, the entries written by a transaction which committed or rolled back. A session might
+     * have cached them as they were before the transaction committed.
+     *
+     * @param transaction the transaction
+     */
+    public synchronized void transactionEnded(Object transaction) {
+        Written written = pendingWrites.remove(transaction);
+        if (written == null) {
+            return;
+        }
+        if (written.all) {
+            invalidateAll();
+        } else {
+            invalidate(written.nodeIds, written.relationshipIds);
+        }
+    }
+
+    /**
+     * @param nodeIds the ids of nodes written
+     * @param relationshipIds the ids of relationships written
+     */
+    public synchronized void invalidate(Collection<Long> nodeIds, Collection<Long> relationshipIds) {
+        invalidations++;
+        for (Long nodeId : nodeIds) {
+            removeAll(keysByNodeId.get(nodeId));
+        }
+        for (Long relationshipId : relationshipIds) {
+            removeAll(keysByRelationshipId.get(relationshipId));
+        }
+    }
+
+    /**
+     * Invalidates every entry.
+     */
+    public synchronized void invalidateAll() {
+        invalidations++;
+        entries.clear();
+        keysByNodeId.clear();
+        keysByRelationshipId.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void removeAll(Set<Key> keys) {
+        if (keys != null) {
+            for (Key key : new ArrayList<>(keys)) {
+                remove(key);
+            }
+        }
+    }
+
+    private void remove(Key key) {
+        Entry entry = entries.remove(key);
+        if (entry == null) {
+            return;
+        }
+        for (GraphModel graph : entry.graphs) {
+            for (Node node : graph.getNodes()) {
+                unindex(keysByNodeId, node.getId(), key);
+            }
+            for (Edge edge : graph.getRelationships()) {
+                unindex(keysByRelationshipId, edge.getId(), key);
+                unindex(keysByNodeId, edge.getStartNode(), key);
+                unindex(keysByNodeId, edge.getEndNode(), key);
+            }
+        }
+    }
+
+    private static void index(Map<Long, Set<Key>> keysById, Long id, Key key) {
+        keysById.computeIfAbsent(id, k -> new HashSet<>()).add(key);
+    }
+
+    private static void unindex(Map<Long, Set<Key>> keysById, Long id, Key key) {
+        Set<Key> keys = keysById.get(id);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            keysById.remove(id);
+        }
+    }
+
+    /**
+     * The key of a load by id.
+     */
+    public static final class Key {
+
+        private final String type;
+        private final Object id;
+        private final int depth;
+        private final Object strategy;
+
+        private Key(String type, Object id, int depth, Object strategy) {
+            this.type = type;
+            this.id = id;
+            this.depth = depth;
+            this.strategy = strategy;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Key key = (Key) o;
+
+            return depth == key.depth && type.equals(key.type) && id.equals(key.id) && Objects.equals(strategy, key.strategy);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = type.hashCode();
+            result = 31 * result + id.hashCode();
+            result = 31 * result + depth;
+            result = 31 * result + Objects.hashCode(strategy);
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return "Key{" + type + ", id=" + id + ", depth=" + depth + ", strategy=" + strategy + '}';
+        }
+    }
+
+    private static final class Entry {
+
+        private final List<GraphModel> graphs;
+        private final long cachedAt = System.nanoTime();
+
+        private Entry(List<GraphModel> graphs) {
+            this.graphs = graphs;
+        }
+    }
+
+    private static final class Written {
+
+        private final Set<Long> nodeIds = new HashSet<>();
+        private final Set<Long> relationshipIds = new HashSet<>();
+        private boolean all;
+    }
+}
@@ -32,8 +32,8 @@ import org.neo4j.ogm.utils.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
 
 
 /**
@@ -75,11 +75,8 @@ public class EntityGraphMapper implements EntityMapper {
         }
 
         // add all the relationships we know about. This includes the relationships that
-        // won't be modified by the mapping request.
-        for (MappedRelationship mappedRelationship : mappingContext.getRelationships()) {
-            LOGGER.debug("context-init: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-            compiler.context().registerRelationship(mappedRelationship);
-        }
+        // won't be modified by the mapping request, only the ones of the nodes reached are looked at.
+        compiler.context().registerRelationships(mappingContext.mappedRelationships());
 
         LOGGER.debug("context initialised with {} relationships", mappingContext.getRelationships().size());
 
@@ -147,47 +144,39 @@ public class EntityGraphMapper implements EntityMapper {
     private void deleteObsoleteRelationships(Compiler compiler) {
         CompileContext context = compiler.context();
 
-        Iterator<MappedRelationship> mappedRelationshipIterator = mappingContext.getRelationships().iterator();
-        while (mappedRelationshipIterator.hasNext()) {
-            MappedRelationship mappedRelationship = mappedRelationshipIterator.next();
-
-            // if we cannot remove this relationship from the compile context, it
-            // means the user has deleted the relationship
-            if (!context.removeRegisteredRelationship(mappedRelationship)) {
+        // the known relationships deregistered and not registered again have been deleted by the user
+        for (Mappable deregistered : new ArrayList<>(context.getDeregisteredRelationships())) {
+            MappedRelationship mappedRelationship = (MappedRelationship) deregistered;
 
-                LOGGER.debug("context-del: {}", mappedRelationship);
+            LOGGER.debug("context-del: {}", mappedRelationship);
 
-                // tell the compiler to prepare a statement that will delete the relationship from the graph
-                compiler.unrelate(mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId(), mappedRelationship.getRelationshipId());
+            // tell the compiler to prepare a statement that will delete the relationship from the graph
+            compiler.unrelate(mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId(), mappedRelationship.getRelationshipId());
 
-                // remove all nodes that are referenced by this relationship in the mapping context
-                // this will ensure that stale versions of these objects don't exist
-                clearRelatedObjects(mappedRelationship.getStartNodeId());
-                clearRelatedObjects(mappedRelationship.getEndNodeId());
+            // remove all nodes that are referenced by this relationship in the mapping context
+            // this will ensure that stale versions of these objects don't exist
+            clearRelatedObjects(mappedRelationship.getStartNodeId());
+            clearRelatedObjects(mappedRelationship.getEndNodeId());
 
-                // finally remove the relationship from the mapping context
-                //mappingContext.removeRelationship(mappedRelationship);
-                mappedRelationshipIterator.remove();
-            }
+            // finally remove the relationship from the mapping context
+            mappingContext.removeRelationship(mappedRelationship);
         }
     }
 
     private void clearRelatedObjects(Long node) {
 
-        for (MappedRelationship mappedRelationship : mappingContext.getRelationships()) {
-            if (mappedRelationship.getStartNodeId() == node || mappedRelationship.getEndNodeId() == node) {
+        for (MappedRelationship mappedRelationship : mappingContext.getRelationships(node)) {
 
-                Object dirty = mappingContext.getNodeEntity(mappedRelationship.getEndNodeId());
-                if (dirty != null) {
-                    LOGGER.debug("flushing end node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-                    mappingContext.removeNodeEntity(dirty, true);
-                }
+            Object dirty = mappingContext.getNodeEntity(mappedRelationship.getEndNodeId());
+            if (dirty != null) {
+                LOGGER.debug("flushing end node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
+                mappingContext.removeNodeEntity(dirty, true);
+            }
 
-                dirty = mappingContext.getNodeEntity(mappedRelationship.getStartNodeId());
-                if (dirty != null) {
-                    LOGGER.debug("flushing start node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-                    mappingContext.removeNodeEntity(dirty, true);
-                }
+            dirty = mappingContext.getNodeEntity(mappedRelationship.getStartNodeId());
+            if (dirty != null) {
+                LOGGER.debug("flushing start node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
+                mappingContext.removeNodeEntity(dirty, true);
             }
         }
     }
@@ -234,12 +223,15 @@ public class EntityGraphMapper implements EntityMapper {
      */
     private void updateNode(Object entity, CompileContext context, NodeBuilder nodeBuilder) {
         // fire pre-save event here
-        if (mappingContext.isDirty(entity)) {
+        Collection<FieldInfo> dirtyFields = mappingContext.dirtyFields(entity);
+        if (!dirtyFields.isEmpty()) {
             LOGGER.debug("{} has changed", entity);
             context.register(entity);
-            ClassInfo classInfo = metaData.classInfo(entity);
-            Collection<FieldInfo> propertyReaders = classInfo.propertyFields();
-            for (FieldInfo propertyReader : propertyReaders) {
+            // only the properties that changed are set on an existing node, the labels are always set
+            for (FieldInfo propertyReader : dirtyFields) {
+                if (propertyReader.isLabelField()) {
+                    continue;
+                }
                 if (propertyReader.isComposite()) {
                     nodeBuilder.addProperties(propertyReader.readComposite(entity));
                 } else {
@@ -335,7 +327,8 @@ public class EntityGraphMapper implements EntityMapper {
                 }
             }
 
-            Object relatedObject = reader.read(entity);
+            // saving an entity doesn't load its lazy collections, the relationships they haven't loaded are left as they are
+            Object relatedObject = LazyCollection.withoutLoading(reader.read(entity));
             if (relatedObject != null) {
 
                 // if the type of a relationship backed by a relationship entity is not the same as its declared type
@@ -514,8 +507,8 @@ public class EntityGraphMapper implements EntityMapper {
 
         boolean relationshipEndsChanged = false;
 
-        for (MappedRelationship mappedRelationship : mappingContext.getRelationships()) {
-            if (mappedRelationship.getRelationshipId() != null && relId != null && mappedRelationship.getRelationshipId().equals(relId)) {
+        if (relId != null) {
+            for (MappedRelationship mappedRelationship : mappingContext.getRelationshipsWithId(relId)) {
                 if (srcIdentity == null || tgtIdentity == null || mappedRelationship.getStartNodeId() != srcIdentity || mappedRelationship.getEndNodeId() != tgtIdentity) {
                     relationshipEndsChanged = true;
                     break;
@@ -871,7 +864,7 @@ public class EntityGraphMapper implements EntityMapper {
                 //Moreover, the source must be related to the target and vice versa in the SAME direction
                 if (relationshipDirection.equals(tgtRelationshipDirection)) {
 
-                    Object target = tgtRelReader.read(tgtObject);
+                    Object target = LazyCollection.withoutLoading(tgtRelReader.read(tgtObject));
                     if (target != null) {
                         if (target instanceof Iterable) {
                             for (Object relatedObject : (Iterable<?>) target) {
@@ -15,6 +15,11 @@ package org.neo4j.ogm.context;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.neo4j.ogm.model.RowModel;
 import org.neo4j.ogm.response.Response;
@@ -34,10 +39,7 @@ public class EntityRowModelMapper implements ResponseMapper<RowModel> {
         RowModel model;
         while ((model = response.next()) != null) {
 
-            if (model.variables().length > 1) {
-                throw new RuntimeException(
-                        "Scalar response queries must only return one column. Make sure your cypher query only returns one item.");
-            }
+            checkSingleColumn(model);
             for (int i = 0; i < model.variables().length; i++) {
                 Object o = model.getValues()[0];
                 result.add((T) Utils.coerceTypes(type, o));
@@ -45,4 +47,61 @@ public class EntityRowModelMapper implements ResponseMapper<RowModel> {
         }
         return result;
     }
+
+    /**
+     * Maps the response lazily, one row at a time, as the returned stream is consumed.
+     * The response is closed when it is exhausted, when mapping fails or when the stream is closed.
+     *
+     * @param <T> The type of entity to which the row is to be mapped
+     */
+    public <T> Stream<T> stream(Class<T> type, Response<RowModel> response) {
+        RowModelSpliterator<T> spliterator = new RowModelSpliterator<>(type, response);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    private static void checkSingleColumn(RowModel model) {
+        if (model.variables().length > 1) {
+            throw new RuntimeException(
+                    "Scalar response queries must only return one column. Make sure your cypher query only returns one item.");
+        }
+    }
+
+    private static class RowModelSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final Class<T> type;
+        private final Response<RowModel> response;
+        private boolean exhausted;
+
+        RowModelSpliterator(Class<T> type, Response<RowModel> response) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.type = type;
+            this.response = response;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            try {
+                RowModel model;
+                while (!exhausted && (model = response.next()) != null) {
+                    checkSingleColumn(model);
+                    if (model.variables().length == 1) {
+                        action.accept((T) Utils.coerceTypes(type, model.getValues()[0]));
+                        return true;
+                    }
+                }
+                close();
+                return false;
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        void close() {
+            if (!exhausted) {
+                exhausted = true;
+                response.close();
+            }
+        }
+    }
 }
@@ -20,6 +20,9 @@ import static org.neo4j.ogm.metadata.reflect.EntityAccessManager.*;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.neo4j.ogm.annotation.EndNode;
 import org.neo4j.ogm.annotation.StartNode;
@@ -29,6 +32,8 @@ import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.metadata.MethodInfo;
+import org.neo4j.ogm.metadata.PropertyWritePlan;
+import org.neo4j.ogm.metadata.PropertyWritePlan.PropertyWriter;
 import org.neo4j.ogm.metadata.reflect.EntityAccessManager;
 import org.neo4j.ogm.metadata.reflect.EntityFactory;
 import org.neo4j.ogm.model.Edge;
@@ -36,7 +41,6 @@ import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.Node;
 import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.response.Response;
-import org.neo4j.ogm.response.model.PropertyModel;
 import org.neo4j.ogm.typeconversion.CompositeAttributeConverter;
 import org.neo4j.ogm.utils.ClassUtils;
 import org.neo4j.ogm.utils.EntityUtils;
@@ -65,11 +69,25 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
     private final MappingContext mappingContext;
     private final EntityFactory entityFactory;
     private final MetaData metadata;
+    private final LazyCollection.Loader lazyLoader;
 
     public GraphEntityMapper(MetaData metaData, MappingContext mappingContext) {
+        this(metaData, mappingContext, null);
+    }
+
+    /**
+     * Creates a mapper installing lazy collections in the relationship fields of the entities it creates, when given
+     * a loader. These entities are expected to be mapped without their relationships.
+     *
+     * @param metaData       the meta data
+     * @param mappingContext the mapping context
+     * @param lazyLoader     the loader of the lazy collections, null to leave the collections as they are
+     */
+    public GraphEntityMapper(MetaData metaData, MappingContext mappingContext, LazyCollection.Loader lazyLoader) {
         this.metadata = metaData;
         this.entityFactory = new EntityFactory(metadata);
         this.mappingContext = mappingContext;
+        this.lazyLoader = lazyLoader;
     }
 
     @Override
@@ -101,6 +119,26 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
         return objects;
     }
 
+    /**
+     * Maps the response lazily, one {@link GraphModel} at a time, as the returned stream is consumed.
+     * <p>
+     * An entity is emitted as soon as the record it first appears in has been mapped. Relationships found in
+     * later records are still attached to the same instance when these records are mapped. @PostLoad methods are
+     * called once per entity, right after the record that first hydrated it.
+     * <p>
+     * The response is closed when it is exhausted, when mapping fails or when the stream is closed, whichever
+     * happens first.
+     *
+     * @param type class of entities to return
+     * @param response the response to map
+     * @param <T> type
+     * @return a sequential stream of the entities of the given type, without duplicates
+     */
+    public <T> Stream<T> stream(Class<T> type, Response<GraphModel> response) {
+        GraphModelSpliterator<T> spliterator = new GraphModelSpliterator<>(type, response);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
     Map<Long, Object> mapRelationships(GraphModel model) {
         Map<Long, Object> results = new HashMap<>();
         Set<Long> edgeIds = new LinkedHashSet<>();
@@ -198,6 +236,68 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
         }
     }
 
+    private class GraphModelSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final Class<T> type;
+        private final Response<GraphModel> response;
+
+        private final Deque<T> mapped = new ArrayDeque<>();
+        private final Set<Long> emittedIds = new HashSet<>();
+        private final Set<Long> loadedNodeIds = new HashSet<>();
+        private final Set<Long> loadedEdgeIds = new HashSet<>();
+        private boolean exhausted;
+
+        GraphModelSpliterator(Class<T> type, Response<GraphModel> response) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+            this.type = type;
+            this.response = response;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            while (mapped.isEmpty()) {
+                if (exhausted) {
+                    return false;
+                }
+                mapNext();
+            }
+            action.accept(mapped.poll());
+            return true;
+        }
+
+        private void mapNext() {
+            try {
+                GraphModel graphModel = response.next();
+                if (graphModel == null) {
+                    close();
+                    return;
+                }
+                Set<Long> nodeIds = new LinkedHashSet<>();
+                Set<Long> edgeIds = new LinkedHashSet<>();
+                for (T entity : map(type, graphModel, nodeIds, edgeIds)) {
+                    if (emittedIds.add(mappingContext.nativeId(entity))) {
+                        mapped.add(entity);
+                    }
+                }
+                nodeIds.removeAll(loadedNodeIds);
+                edgeIds.removeAll(loadedEdgeIds);
+                loadedNodeIds.addAll(nodeIds);
+                loadedEdgeIds.addAll(edgeIds);
+                executePostLoad(nodeIds, edgeIds);
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        void close() {
+            if (!exhausted) {
+                exhausted = true;
+                response.close();
+            }
+        }
+    }
+
     private <T> void mapEntities(Class<T> type, GraphModel graphModel, Set<Long> nodeIds, Set<Long> edgeIds) {
         try {
             mapNodes(graphModel, nodeIds);
@@ -218,6 +318,9 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
                         EntityUtils.setIdentity(entity, node.getId(), metadata);
                         setProperties(node.getPropertyList(), entity);
                         setLabels(node, entity);
+                        if (lazyLoader != null) {
+                            setLazyCollections(entity, node.getId());
+                        }
                         mappingContext.addNodeEntity(entity, node.getId());
                     }
                     nodeIds.add(node.getId());
@@ -230,8 +333,9 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
 
     private void setProperties(List<Property<String, Object>> propertyList, Object instance) {
         ClassInfo classInfo = metadata.classInfo(instance);
+        PropertyWritePlan plan = classInfo.propertyWritePlan();
 
-        Collection<FieldInfo> compositeFields = classInfo.fieldsInfo().compositeFields();
+        Collection<FieldInfo> compositeFields = plan.compositeFields();
         if (compositeFields.size() > 0) {
             Map<String, ?> propertyMap = toMap(propertyList);
             for (FieldInfo field : compositeFields) {
@@ -242,15 +346,20 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
             }
         }
 
-        for (Property<?, ?> property : propertyList) {
-            writeProperty(classInfo, instance, property);
+        for (Property<String, Object> property : propertyList) {
+            PropertyWriter writer = plan.writer(property.getKey());
+            if (writer == null) {
+                logger.debug("Unable to find property: {} on class: {} for writing", property.getKey(), classInfo.name());
+            } else {
+                writer.write(instance, property.getValue());
+            }
         }
     }
 
     private void setLabels(Node nodeModel, Object instance) {
         ClassInfo classInfo = metadata.classInfo(instance);
-        FieldInfo labelFieldInfo = classInfo.labelFieldOrNull();
-        if (labelFieldInfo != null) {
+        PropertyWriter labelWriter = classInfo.propertyWritePlan().labelWriter();
+        if (labelWriter != null) {
             Collection<String> staticLabels = classInfo.staticLabels();
             Set<String> dynamicLabels = new HashSet<>();
             for (String label : nodeModel.getLabels()) {
@@ -258,32 +367,31 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
                     dynamicLabels.add(label);
                 }
             }
-            writeProperty(classInfo, instance, PropertyModel.with(labelFieldInfo.getName(), dynamicLabels));
+            labelWriter.write(instance, dynamicLabels);
         }
     }
 
-    private void writeProperty(ClassInfo classInfo, Object instance, Property<?, ?> property) {
-
-        FieldInfo writer = classInfo.getFieldInfo(property.getKey().toString());
-
-        if (writer == null) {
-            logger.debug("Unable to find property: {} on class: {} for writing", property.getKey(), classInfo.name());
-        } else {
-            Object value = property.getValue();
-            // merge iterable / arrays and co-erce to the correct attribute type
-            if (writer.type().isArray() || Iterable.class.isAssignableFrom(writer.type())) {
-                FieldInfo reader = classInfo.getFieldInfo(property.getKey().toString());
-                if (reader != null) {
-                    Class<?> paramType = writer.type();
-                    Class elementType = underlyingElementType(classInfo, property.getKey().toString());
-                    if (paramType.isArray()) {
-                        value = EntityAccessManager.merge(paramType, value, new Object[]{} , elementType);
-                    } else {
-                        value = EntityAccessManager.merge(paramType, value, Collections.emptyList(), elementType);
-                    }
-                }
+    // only collections of node entities are loaded lazily, fields a collection was assigned to by the entity are kept
+    private void setLazyCollections(Object instance, Long id) {
+        ClassInfo classInfo = metadata.classInfo(instance);
+        for (FieldInfo field : classInfo.relationshipFields()) {
+            if (field.forScalar() || field.type().isArray()) {
+                continue;
+            }
+            Class<?> elementType = ClassUtils.getType(field.typeParameterDescriptor());
+            if (elementType == null || metadata.isRelationshipEntity(elementType.getName())) {
+                continue;
+            }
+            Object current = field.read(instance);
+            if (current != null && !(current instanceof Collection && ((Collection) current).isEmpty())) {
+                continue;
+            }
+            LazyCollection<?> collection = LazyCollection.of(field.type(), lazyLoader, id, field.relationshipType(),
+                field.relationshipDirection());
+            if (collection != null) {
+                field.write(instance, collection);
+                lazyLoader.register(collection);
             }
-            writer.write(instance, value);
         }
     }
 
@@ -485,6 +593,10 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
                 Object currentValues;
                 if (reader != null) {
                     currentValues = reader.read(instance);
+                    if (currentValues instanceof LazyCollection && !((LazyCollection) currentValues).isLoaded()) {
+                        ((LazyCollection) currentValues).addMapped((Collection) values);
+                        return;
+                    }
                     if (writer.type().isArray()) {
                         values = EntityAccessManager.merge(writer.type(), values, (Object[]) currentValues, valueType);
                     } else {
@@ -596,21 +708,4 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
         }
         return false;
     }
-
-    private Class underlyingElementType(ClassInfo classInfo, String propertyName) {
-        FieldInfo fieldInfo = fieldInfoForPropertyName(propertyName, classInfo);
-        Class clazz = null;
-        if (fieldInfo != null) {
-            clazz = ClassUtils.getType(fieldInfo.getTypeDescriptor());
-        }
-        return clazz;
-    }
-
-    private FieldInfo fieldInfoForPropertyName(String propertyName, ClassInfo classInfo) {
-        FieldInfo labelField = classInfo.labelFieldOrNull();
-        if (labelField != null && labelField.getName().toLowerCase().equals(propertyName.toLowerCase())) {
-            return labelField;
-        }
-        return classInfo.propertyField(propertyName);
-    }
 }
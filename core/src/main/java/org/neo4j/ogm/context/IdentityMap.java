@@ -14,16 +14,19 @@
 package org.neo4j.ogm.context;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.*;
 
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.DirtyTracking;
 import org.neo4j.ogm.utils.EntityUtils;
 
 /**
- * Maintains entity footprints for dirty checking.
+ * Maintains entity footprints for dirty checking: a hash of the properties of each entity or, with
+ * {@link DirtyTracking#PROPERTY_SNAPSHOT}, a copy of their values.
  *
  * @author Vince Bickers
  * @author Mark Angrish
@@ -33,19 +36,41 @@ class IdentityMap {
     // objects with no properties will always hash to this value.
     private static final long SEED = 0xDEADBEEF / (11 * 257);
 
-    private final Map<Long, Long> nodeHash;
+    // values of these types are kept as they are in a snapshot
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(String.class, Long.class,
+            Integer.class, Short.class, Byte.class, Double.class, Float.class, Boolean.class, Character.class,
+            BigInteger.class, BigDecimal.class));
 
-    private final Map<Long, Long> relEntityHash;
+    private final LongLongMap nodeHash;
 
-    private final Map<Long, LabelHistory> labelHistoryRegister;
+    private final LongLongMap relEntityHash;
+
+    private final LongObjectMap<Object[]> nodeSnapshots;
+
+    private final LongObjectMap<Object[]> relEntitySnapshots;
+
+    // the property fields of a class followed by its label field, in the order of the values of a snapshot
+    private final Map<ClassInfo, FieldInfo[]> snapshotFields;
+
+    private final LongObjectMap<LabelHistory> labelHistoryRegister;
 
     private final MetaData metaData;
 
+    private final DirtyTracking dirtyTracking;
+
     IdentityMap(MetaData metaData) {
-        this.nodeHash = new HashMap<>();
-        this.relEntityHash = new HashMap<>();
-        labelHistoryRegister = new HashMap<>();
+        this(metaData, DirtyTracking.HASH);
+    }
+
+    IdentityMap(MetaData metaData, DirtyTracking dirtyTracking) {
+        this.nodeHash = new LongLongMap();
+        this.relEntityHash = new LongLongMap();
+        this.nodeSnapshots = new LongObjectMap<>();
+        this.relEntitySnapshots = new LongObjectMap<>();
+        this.snapshotFields = new IdentityHashMap<>();
+        labelHistoryRegister = new LongObjectMap<>();
         this.metaData = metaData;
+        this.dirtyTracking = dirtyTracking;
     }
 
     /**
@@ -57,7 +82,9 @@ class IdentityMap {
      */
     void remember(Object object, Long entityId) {
         ClassInfo classInfo = metaData.classInfo(object);
-        if (metaData.isRelationshipEntity(classInfo.name())) {
+        if (dirtyTracking == DirtyTracking.PROPERTY_SNAPSHOT) {
+            snapshots(classInfo).put(entityId, snapshot(object, classInfo));
+        } else if (metaData.isRelationshipEntity(classInfo.name())) {
             relEntityHash.put(entityId, hash(object, classInfo));
         } else {
             nodeHash.put(entityId, hash(object, classInfo));
@@ -79,6 +106,20 @@ class IdentityMap {
         ClassInfo classInfo = metaData.classInfo(object);
         boolean isRelEntity = false;
 
+        if (entityId != null && dirtyTracking == DirtyTracking.PROPERTY_SNAPSHOT) {
+            Object[] snapshot = snapshots(classInfo).get(entityId);
+            if (snapshot == null) {
+                return false;
+            }
+            FieldInfo[] fields = snapshotFields(classInfo);
+            for (int i = 0; i < fields.length; i++) {
+                if (!matches(snapshot[i], fields[i].read(object))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         if (entityId != null) {
             if (metaData.isRelationshipEntity(classInfo.name())) {
                 isRelEntity = true;
@@ -90,13 +131,41 @@ class IdentityMap {
             }
 
             long actual = hash(object, classInfo);
-            long expected = isRelEntity ? relEntityHash.get(entityId) : nodeHash.get(entityId);
+            long expected = isRelEntity ? relEntityHash.get(entityId, SEED) : nodeHash.get(entityId, SEED);
 
             return (actual == expected);
         }
         return false;
     }
 
+    /**
+     * Determines which of the property fields and label field of the object changed since it was remembered.
+     * Unless the property values of the object are kept in a snapshot, all of its fields are regarded as changed
+     * as soon as it isn't {@link #remembered(Object, Long)}.
+     *
+     * @param object the object whose persistable properties we want to check
+     * @param entityId
+     * @return the fields that changed, an empty collection if the object didn't change
+     */
+    Collection<FieldInfo> changedFields(Object object, Long entityId) {
+        ClassInfo classInfo = metaData.classInfo(object);
+        Object[] snapshot = null;
+        if (entityId != null && dirtyTracking == DirtyTracking.PROPERTY_SNAPSHOT) {
+            snapshot = snapshots(classInfo).get(entityId);
+        }
+        if (snapshot == null) {
+            return remembered(object, entityId) ? Collections.emptyList() : Arrays.asList(snapshotFields(classInfo));
+        }
+        FieldInfo[] fields = snapshotFields(classInfo);
+        List<FieldInfo> changed = new ArrayList<>();
+        for (int i = 0; i < fields.length; i++) {
+            if (!matches(snapshot[i], fields[i].read(object))) {
+                changed.add(fields[i]);
+            }
+        }
+        return changed;
+    }
+
     private void collectLabelHistory(Object entity, Long entityId, ClassInfo classInfo) {
         FieldInfo fieldInfo = classInfo.labelFieldOrNull();
         if (fieldInfo != null) {
@@ -112,6 +181,83 @@ class IdentityMap {
     void clear() {
         nodeHash.clear();
         relEntityHash.clear();
+        nodeSnapshots.clear();
+        relEntitySnapshots.clear();
+    }
+
+    private LongObjectMap<Object[]> snapshots(ClassInfo classInfo) {
+        return metaData.isRelationshipEntity(classInfo.name()) ? relEntitySnapshots : nodeSnapshots;
+    }
+
+    private FieldInfo[] snapshotFields(ClassInfo classInfo) {
+        return snapshotFields.computeIfAbsent(classInfo, k -> {
+            List<FieldInfo> fields = new ArrayList<>(classInfo.propertyFields());
+            if (classInfo.labelFieldOrNull() != null) {
+                fields.add(classInfo.labelFieldOrNull());
+            }
+            return fields.toArray(new FieldInfo[fields.size()]);
+        });
+    }
+
+    private Object[] snapshot(Object object, ClassInfo classInfo) {
+        FieldInfo[] fields = snapshotFields(classInfo);
+        Object[] snapshot = new Object[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            snapshot[i] = snapshotValue(fields[i].read(object));
+        }
+        return snapshot;
+    }
+
+    private static Object snapshotValue(Object value) {
+        if (value == null || value instanceof Enum || IMMUTABLE_TYPES.contains(value.getClass())) {
+            return value;
+        }
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, copy, 0, length);
+            return copy;
+        }
+        if (value instanceof Iterable) {
+            List<Object> copy = new ArrayList<>();
+            for (Object element : (Iterable<?>) value) {
+                copy.add(element);
+            }
+            return copy;
+        }
+        if (value instanceof Map) {
+            return new HashMap<>((Map<?, ?>) value);
+        }
+        return value.toString();
+    }
+
+    // compares a value to its snapshot without copying it
+    private static boolean matches(Object snapshot, Object value) {
+        if (value == null || snapshot == null) {
+            return value == snapshot;
+        }
+        if (value instanceof Enum || IMMUTABLE_TYPES.contains(value.getClass())) {
+            return value.equals(snapshot);
+        }
+        if (value.getClass().isArray()) {
+            return Objects.deepEquals(snapshot, value);
+        }
+        if (value instanceof Iterable) {
+            if (!(snapshot instanceof List)) {
+                return false;
+            }
+            Iterator<?> expected = ((List<?>) snapshot).iterator();
+            for (Object element : (Iterable<?>) value) {
+                if (!expected.hasNext() || !Objects.equals(expected.next(), element)) {
+                    return false;
+                }
+            }
+            return !expected.hasNext();
+        }
+        if (value instanceof Map) {
+            return value.equals(snapshot);
+        }
+        return snapshot instanceof String && snapshot.equals(value.toString());
     }
 
 
@@ -124,8 +270,7 @@ class IdentityMap {
         }
 
         for (FieldInfo fieldInfo : hashFields) {
-            Field field = classInfo.getField(fieldInfo);
-            Object value = FieldInfo.read(field, object);
+            Object value = fieldInfo.read(object);
             if (value != null) {
 
                 if (value.getClass().isArray()) {
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Set;
+
+/**
+ * The related entities of a relationship field, loaded on first access. Installed by the {@link GraphEntityMapper}
+ * in place of the empty collections of the entities a load maps without their relationships, when the load is given
+ * a {@link Loader}.
+ * <p>
+ * Related entities mapped onto the collection before it is loaded, by this or another load, are added to it without
+ * loading it. Any other access loads it, saving the entity doesn't.
+ *
+ * @param <E> type of the related entities
+ */
+public abstract class LazyCollection<E> extends AbstractCollection<E> {
+
+    /**
+     * Loads the related entities of lazy collections, see {@link org.neo4j.ogm.session.Neo4jSession#setLazyLoading(boolean)}.
+     */
+    public interface Loader {
+
+        /**
+         * Registers a collection installed by a load, to be loaded on first access.
+         *
+         * @param collection the collection
+         */
+        void register(LazyCollection<?> collection);
+
+        /**
+         * Loads the collection. The related entities are mapped onto it as it is unloaded, the collection is then
+         * marked as loaded.
+         *
+         * @param collection the collection
+         */
+        void load(LazyCollection<?> collection);
+    }
+
+    private final Loader loader;
+    private final Long ownerId;
+    private final String relationshipType;
+    private final String relationshipDirection;
+
+    final Collection<E> elements;
+    // the related entities mapped before the collection is loaded, without duplicates
+    private Set<Object> mapped = new HashSet<>();
+
+    LazyCollection(Loader loader, Long ownerId, String relationshipType, String relationshipDirection,
+        Collection<E> elements) {
+        this.loader = loader;
+        this.ownerId = ownerId;
+        this.relationshipType = relationshipType;
+        this.relationshipDirection = relationshipDirection;
+        this.elements = elements;
+    }
+
+    /**
+     * Creates an unloaded collection that can be assigned to a field of the given type.
+     *
+     * @return the collection, null if none of the lazy collections is assignable to the field
+     */
+    static LazyCollection<?> of(Class<?> fieldType, Loader loader, Long ownerId, String relationshipType,
+        String relationshipDirection) {
+        if (fieldType.isAssignableFrom(LazyList.class)) {
+            return new LazyList<>(loader, ownerId, relationshipType, relationshipDirection);
+        }
+        if (fieldType.isAssignableFrom(LazySet.class)) {
+            return new LazySet<>(loader, ownerId, relationshipType, relationshipDirection);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the related entities of a relationship field, without loading them when the value of the field is an
+     * unloaded lazy collection.
+     *
+     * @param value the value of a relationship field
+     * @return the value, or the entities mapped onto it so far if it is an unloaded lazy collection
+     */
+    public static Object withoutLoading(Object value) {
+        if (value instanceof LazyCollection && !((LazyCollection) value).isLoaded()) {
+            return new ArrayList<>(((LazyCollection) value).elements);
+        }
+        return value;
+    }
+
+    public Long ownerId() {
+        return ownerId;
+    }
+
+    public String relationshipType() {
+        return relationshipType;
+    }
+
+    public String relationshipDirection() {
+        return relationshipDirection;
+    }
+
+    public boolean isLoaded() {
+        return mapped == null;
+    }
+
+    /**
+     * Marks the collection as loaded, the entities mapped onto it so far are its content.
+     */
+    public void loaded() {
+        mapped = null;
+    }
+
+    /**
+     * Adds related entities mapped before the collection is loaded, skipping the ones it already has.
+     */
+    @SuppressWarnings("unchecked")
+    void addMapped(Collection<?> values) {
+        for (Object value : values) {
+            if (mapped.add(value)) {
+                elements.add((E) value);
+            }
+        }
+    }
+
+    final void load() {
+        if (mapped != null) {
+            loader.load(this);
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        load();
+        return elements.iterator();
+    }
+
+    @Override
+    public int size() {
+        load();
+        return elements.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        load();
+        return elements.contains(o);
+    }
+
+    @Override
+    public boolean add(E e) {
+        load();
+        return elements.add(e);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        load();
+        return elements.remove(o);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        load();
+        return o == this || elements.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        load();
+        return elements.hashCode();
+    }
+
+    static final class LazyList<E> extends LazyCollection<E> implements List<E> {
+
+        LazyList(Loader loader, Long ownerId, String relationshipType, String relationshipDirection) {
+            super(loader, ownerId, relationshipType, relationshipDirection, new ArrayList<>());
+        }
+
+        private List<E> list() {
+            load();
+            return (List<E>) elements;
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends E> c) {
+            return list().addAll(index, c);
+        }
+
+        @Override
+        public E get(int index) {
+            return list().get(index);
+        }
+
+        @Override
+        public E set(int index, E element) {
+            return list().set(index, element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            list().add(index, element);
+        }
+
+        @Override
+        public E remove(int index) {
+            return list().remove(index);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return list().indexOf(o);
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return list().lastIndexOf(o);
+        }
+
+        @Override
+        public ListIterator<E> listIterator() {
+            return list().listIterator();
+        }
+
+        @Override
+        public ListIterator<E> listIterator(int index) {
+            return list().listIterator(index);
+        }
+
+        @Override
+        public List<E> subList(int fromIndex, int toIndex) {
+            return list().subList(fromIndex, toIndex);
+        }
+    }
+
+    static final class LazySet<E> extends LazyCollection<E> implements Set<E> {
+
+        LazySet(Loader loader, Long ownerId, String relationshipType, String relationshipDirection) {
+            super(loader, ownerId, relationshipType, relationshipDirection, new LinkedHashSet<>());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.Arrays;
+
+/**
+ * A map from primitive <code>long</code> keys to primitive <code>long</code> values, used by the {@link IdentityMap}
+ * to keep the hash of each entity by graph id without boxing either of them.
+ * <p>
+ * Same layout as {@link LongObjectMap}: an open addressing table with linear probing and backward shift deletion.
+ */
+class LongLongMap {
+
+    static final int MAX_CAPACITY = 1 << 30;
+
+    // 0 marks a free slot in the table, the value of key 0 is kept aside
+    private static final long FREE = 0L;
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+    private int resizeAt;
+
+    private boolean hasZeroKey;
+    private long zeroValue;
+
+    LongLongMap() {
+        this(LongObjectMap.DEFAULT_CAPACITY);
+    }
+
+    LongLongMap(int expectedSize) {
+        allocate(tableSize(expectedSize));
+    }
+
+    int size() {
+        return hasZeroKey ? size + 1 : size;
+    }
+
+    boolean containsKey(long key) {
+        if (key == FREE) {
+            return hasZeroKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * @return the value of the key, or <code>defaultValue</code> if the key is absent
+     */
+    long get(long key, long defaultValue) {
+        if (key == FREE) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int i = indexOf(key);
+        return i >= 0 ? values[i] : defaultValue;
+    }
+
+    void put(long key, long value) {
+        if (key == FREE) {
+            hasZeroKey = true;
+            zeroValue = value;
+            return;
+        }
+        int mask = keys.length - 1;
+        int i = slot(key, mask);
+        for (; keys[i] != FREE; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size >= resizeAt && keys.length < MAX_CAPACITY) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    void clear() {
+        Arrays.fill(keys, FREE);
+        size = 0;
+        hasZeroKey = false;
+    }
+
+    private int indexOf(long key) {
+        int mask = keys.length - 1;
+        for (int i = slot(key, mask); keys[i] != FREE; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        resizeAt = resizeAt(capacity);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            long key = oldKeys[j];
+            if (key != FREE) {
+                int i = slot(key, mask);
+                while (keys[i] != FREE) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    // graph ids are mostly dense, keep consecutive ids in consecutive slots (as HashMap does with Long keys)
+    // and only fold the high bits in
+    static int slot(long key, int mask) {
+        int h = (int) (key ^ (key >>> 32));
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    // whether the entry at index, whose home slot is given, may be moved back into the gap:
+    // it may unless its home slot lies cyclically in (gap, index]
+    static boolean movable(int home, int gap, int index) {
+        return gap < index ? home <= gap || home > index : home <= gap && home > index;
+    }
+
+    // power of two keeping the table at most 3/4 full for the expected size
+    static int tableSize(int expectedSize) {
+        long required = Math.max(LongObjectMap.DEFAULT_CAPACITY, (long) Math.ceil(expectedSize / 0.75d) + 1);
+        if (required > MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Integer.highestOneBit((int) required - 1) << 1;
+    }
+
+    static int resizeAt(int capacity) {
+        return capacity == MAX_CAPACITY ? capacity - 1 : capacity - (capacity >>> 2);
+    }
+}
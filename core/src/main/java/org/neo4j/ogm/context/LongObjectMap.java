@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.LongFunction;
+
+/**
+ * A map from primitive <code>long</code> keys to objects, used for the registers of the {@link MappingContext} that
+ * are keyed by graph id.
+ * <p>
+ * Keys are stored unboxed in an open addressing table with linear probing, values in a parallel array. Removal
+ * shifts the following entries back instead of leaving tombstones. <code>null</code> values are not supported, a
+ * <code>null</code> returned by {@link #get(long)} always means the key is absent.
+ *
+ * @param <V> the type of the values
+ */
+class LongObjectMap<V> {
+
+    static final int DEFAULT_CAPACITY = 16;
+
+    // 0 marks a free slot in the table, the value of key 0 is kept aside
+    private static final long FREE = 0L;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    private int resizeAt;
+
+    private V zeroValue;
+
+    LongObjectMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    LongObjectMap(int expectedSize) {
+        allocate(LongLongMap.tableSize(expectedSize));
+    }
+
+    int size() {
+        return zeroValue == null ? size : size + 1;
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        if (key == FREE) {
+            return zeroValue;
+        }
+        int mask = keys.length - 1;
+        for (int i = LongLongMap.slot(key, mask); keys[i] != FREE; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return (V) values[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the previous value of the key, or <code>null</code> if there was none
+     */
+    @SuppressWarnings("unchecked")
+    V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("null values are not supported");
+        }
+        if (key == FREE) {
+            V previous = zeroValue;
+            zeroValue = value;
+            return previous;
+        }
+        int mask = keys.length - 1;
+        int i = LongLongMap.slot(key, mask);
+        for (; keys[i] != FREE; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                V previous = (V) values[i];
+                values[i] = value;
+                return previous;
+            }
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size >= resizeAt && keys.length < LongLongMap.MAX_CAPACITY) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * @return the current value of the key if there was one, otherwise <code>null</code> after adding the given value
+     */
+    V putIfAbsent(long key, V value) {
+        V current = get(key);
+        if (current == null) {
+            put(key, value);
+        }
+        return current;
+    }
+
+    V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) {
+        V current = get(key);
+        if (current == null) {
+            current = mappingFunction.apply(key);
+            put(key, current);
+        }
+        return current;
+    }
+
+    /**
+     * @return the removed value, or <code>null</code> if the key was absent
+     */
+    @SuppressWarnings("unchecked")
+    V remove(long key) {
+        if (key == FREE) {
+            V previous = zeroValue;
+            zeroValue = null;
+            return previous;
+        }
+        int mask = keys.length - 1;
+        for (int i = LongLongMap.slot(key, mask); keys[i] != FREE; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                V previous = (V) values[i];
+                shiftBack(i, mask);
+                size--;
+                return previous;
+            }
+        }
+        return null;
+    }
+
+    void clear() {
+        Arrays.fill(keys, FREE);
+        Arrays.fill(values, null);
+        size = 0;
+        zeroValue = null;
+    }
+
+    /**
+     * @return a snapshot of the values, in no particular order
+     */
+    @SuppressWarnings("unchecked")
+    Collection<V> values() {
+        Collection<V> result = new ArrayList<>(size());
+        if (zeroValue != null) {
+            result.add(zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                result.add((V) values[i]);
+            }
+        }
+        return result;
+    }
+
+    private void shiftBack(int gap, int mask) {
+        int i = gap;
+        while (true) {
+            i = (i + 1) & mask;
+            long key = keys[i];
+            if (key == FREE) {
+                break;
+            }
+            if (LongLongMap.movable(LongLongMap.slot(key, mask), gap, i)) {
+                keys[gap] = key;
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = FREE;
+        values[gap] = null;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        resizeAt = LongLongMap.resizeAt(capacity);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            long key = oldKeys[j];
+            if (key != FREE) {
+                int i = LongLongMap.slot(key, mask);
+                while (keys[i] != FREE) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * A read only view of the relationships known to a {@link MappingContext}, looked up by the nodes they start or end
+ * at rather than iterated.
+ */
+public interface MappedRelationships {
+
+    MappedRelationships NONE = new MappedRelationships() {
+
+        @Override
+        public boolean contains(Mappable relationship) {
+            return false;
+        }
+
+        @Override
+        public Collection<? extends Mappable> relationshipsOf(long nodeId) {
+            return Collections.emptySet();
+        }
+    };
+
+    /**
+     * @param relationship a relationship
+     * @return <code>true</code> if the relationship is known
+     */
+    boolean contains(Mappable relationship);
+
+    /**
+     * @param nodeId the native id of a node
+     * @return the known relationships starting or ending at the node, empty if there are none
+     */
+    Collection<? extends Mappable> relationshipsOf(long nodeId);
+}
@@ -23,6 +23,7 @@ import org.neo4j.ogm.id.UuidStrategy;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.DirtyTracking;
 import org.neo4j.ogm.utils.EntityUtils;
 
 /**
@@ -37,7 +38,7 @@ import org.neo4j.ogm.utils.EntityUtils;
 public class MappingContext {
 
     // map Neo4j id -> entity
-    private final Map<Long, Object> nodeEntityRegister;
+    private final LongObjectMap<Object> nodeEntityRegister;
 
     // map primary index value -> entity
     private final Map<LabelPrimaryId, Object> primaryIndexNodeRegister;
@@ -45,11 +46,17 @@ public class MappingContext {
     // LabelPrimaryId - > native id (contains both nodes and relationship entities)
     private final Map<LabelPrimaryId, Long> primaryIdToNativeId;
 
-    private final Map<Long, Object> relationshipEntityRegister;
+    private final LongObjectMap<Object> relationshipEntityRegister;
 
     private final Map<LabelPrimaryId, Object> primaryIdToRelationship;
 
-    private final Set<MappedRelationship> relationshipRegister;
+    private final RelationshipRegister relationshipRegister;
+
+    // start or end node entity -> ids of the relationship entities registered with it
+    private final Map<Object, Set<Long>> relationshipEntitiesByNode;
+
+    // relationship entity id -> the start and end node it is indexed under in relationshipEntitiesByNode
+    private final LongObjectMap<IndexedRelationshipEntity> indexedRelationshipEntities;
 
     private final IdentityMap identityMap;
 
@@ -57,14 +64,23 @@ public class MappingContext {
 
 
     public MappingContext(MetaData metaData) {
+        this(metaData, DirtyTracking.HASH);
+    }
+
+    /**
+     * @param dirtyTracking how the entities registered with this context are checked for changes
+     */
+    public MappingContext(MetaData metaData, DirtyTracking dirtyTracking) {
         this.metaData = metaData;
-        this.identityMap = new IdentityMap(metaData);
-        this.nodeEntityRegister = new HashMap<>();
+        this.identityMap = new IdentityMap(metaData, dirtyTracking);
+        this.nodeEntityRegister = new LongObjectMap<>();
         this.primaryIndexNodeRegister = new HashMap<>();
         this.primaryIdToNativeId = new HashMap<>();
-        this.relationshipEntityRegister = new HashMap<>();
+        this.relationshipEntityRegister = new LongObjectMap<>();
         this.primaryIdToRelationship = new HashMap<>();
-        this.relationshipRegister = new HashSet<>();
+        this.relationshipRegister = new RelationshipRegister();
+        this.relationshipEntitiesByNode = new IdentityHashMap<>();
+        this.indexedRelationshipEntities = new LongObjectMap<>();
     }
 
     /**
@@ -77,7 +93,7 @@ public class MappingContext {
      * @return The entity or null if not found.
      */
     public Object getNodeEntity(Long graphId) {
-        return nodeEntityRegister.get(graphId);
+        return graphId == null ? null : nodeEntityRegister.get(graphId);
     }
 
     /**
@@ -170,7 +186,7 @@ public class MappingContext {
     }
 
     public void replaceRelationshipEntity(Object entity, Long id) {
-        relationshipEntityRegister.remove(id);
+        removeRelationshipEntity(id);
         ClassInfo classInfo = metaData.classInfo(entity);
         FieldInfo primaryIndexField = classInfo.primaryIndexField();
         if (primaryIndexField != null) {
@@ -223,6 +239,19 @@ public class MappingContext {
         return !identityMap.remembered(entity, graphId);
     }
 
+    /**
+     * Gets the property fields, and the label field, of the entity that were modified since it was registered.
+     * Only a context tracking {@link DirtyTracking#PROPERTY_SNAPSHOT} tells the modified fields apart, otherwise all
+     * the fields of a dirty entity are returned.
+     *
+     * @param entity The entity to check
+     * @return the modified fields, empty if the entity was not changed
+     */
+    public Collection<FieldInfo> dirtyFields(Object entity) {
+        Long graphId = nativeId(entity);
+        return identityMap.changedFields(entity, graphId);
+    }
+
     public boolean containsRelationship(MappedRelationship relationship) {
         return relationshipRegister.contains(relationship);
     }
@@ -231,6 +260,33 @@ public class MappingContext {
         return relationshipRegister;
     }
 
+    /**
+     * Get the mapped relationships starting or ending at a node.
+     *
+     * @param nodeId the native id of the node
+     * @return a read only view of the relationships, empty if there are none
+     */
+    Set<MappedRelationship> getRelationships(Long nodeId) {
+        return relationshipRegister.relationshipsOf(nodeId);
+    }
+
+    /**
+     * Get the mapped relationships of a relationship entity.
+     *
+     * @param relationshipId the native id of the relationship entity
+     * @return a read only view of the relationships, empty if there are none
+     */
+    Set<MappedRelationship> getRelationshipsWithId(Long relationshipId) {
+        return relationshipRegister.relationshipsWithId(relationshipId);
+    }
+
+    /**
+     * @return a view of the mapped relationships, looked up by the nodes they start or end at
+     */
+    public MappedRelationships mappedRelationships() {
+        return relationshipRegister;
+    }
+
     public void addRelationship(MappedRelationship relationship) {
         if (relationship.getRelationshipId() != null && relationshipEntityRegister.get(relationship.getRelationshipId()) == null) {
             relationship.setRelationshipId(null); //We're only interested in id's of relationship entities
@@ -245,10 +301,12 @@ public class MappingContext {
         nodeEntityRegister.clear();
         primaryIndexNodeRegister.clear();
         relationshipEntityRegister.clear();
+        relationshipEntitiesByNode.clear();
+        indexedRelationshipEntities.clear();
     }
 
     public Object getRelationshipEntity(Long relationshipId) {
-        return relationshipEntityRegister.get(relationshipId);
+        return relationshipId == null ? null : relationshipEntityRegister.get(relationshipId);
     }
 
     /**
@@ -271,6 +329,7 @@ public class MappingContext {
             remember(relationshipEntity);
 
             ClassInfo classInfo = metaData.classInfo(relationshipEntity);
+            indexRelationshipEntity(classInfo, relationshipEntity, id);
             FieldInfo primaryIdField = classInfo.primaryIndexField();
             if (primaryIdField != null) {
                 Object primaryId = primaryIdField.read(relationshipEntity);
@@ -325,7 +384,7 @@ public class MappingContext {
      * purges all information about a relationship entity with this id
      */
     public boolean detachRelationshipEntity(Long id) {
-        Object objectToDetach = relationshipEntityRegister.get(id);
+        Object objectToDetach = getRelationshipEntity(id);
         if (objectToDetach != null) {
             removeEntity(objectToDetach);
             return true;
@@ -372,14 +431,10 @@ public class MappingContext {
         if (id >= 0) {
             if (!metaData.isRelationshipEntity(type.getName())) {
                 if (getNodeEntity(id) != null) {
-                    // todo: this will be very slow for many objects
-                    // todo: refactor to create a list of mappedRelationships from a nodeEntity id.
-                    for (MappedRelationship mappedRelationship : relationshipRegister) {
-                        if (mappedRelationship.getStartNodeId() == id || mappedRelationship.getEndNodeId() == id) {
-                            Object affectedObject = mappedRelationship.getEndNodeId() == id ? getNodeEntity(mappedRelationship.getStartNodeId()) : getNodeEntity(mappedRelationship.getEndNodeId());
-                            if (affectedObject != null) {
-                                neighbours.add(affectedObject);
-                            }
+                    for (MappedRelationship mappedRelationship : relationshipRegister.relationshipsOf(id)) {
+                        Object affectedObject = mappedRelationship.getEndNodeId() == id ? getNodeEntity(mappedRelationship.getStartNodeId()) : getNodeEntity(mappedRelationship.getEndNodeId());
+                        if (affectedObject != null) {
+                            neighbours.add(affectedObject);
                         }
                     }
                 }
@@ -395,21 +450,87 @@ public class MappingContext {
         return neighbours;
     }
 
+    /**
+     * Indexes the relationship entities whose start or end node was reassigned since they were indexed under their
+     * current start and end node, so that deregistering either finds them, as it does the relationship entities
+     * that weren't reassigned. Reads the start and end node of each registered relationship entity, it is called
+     * once before the entities of a save are registered rather than for each entity deregistered.
+     */
+    public void reindexRelationshipEntities() {
+        for (IndexedRelationshipEntity indexed : new ArrayList<>(indexedRelationshipEntities.values())) {
+            Object relationshipEntity = relationshipEntityRegister.get(indexed.id);
+            ClassInfo classInfo = metaData.classInfo(relationshipEntity);
+            if (classInfo.getStartNodeReader().read(relationshipEntity) != indexed.startNode
+                    || classInfo.getEndNodeReader().read(relationshipEntity) != indexed.endNode) {
+                unindexRelationshipEntity(indexed.id);
+                indexRelationshipEntity(classInfo, relationshipEntity, indexed.id);
+            }
+        }
+    }
+
     /**
      * Deregister a relationship entity if it has either start or end node equal to the supplied startOrEndEntity
      *
      * @param startOrEndEntity the entity that might be the start or end node of a relationship entity
      */
     private void deregisterDependentRelationshipEntity(Object startOrEndEntity) {
-        Iterator<Long> relationshipEntityIdIterator = relationshipEntityRegister.keySet().iterator();
-        while (relationshipEntityIdIterator.hasNext()) {
-            Long relationshipEntityId = relationshipEntityIdIterator.next();
+        Set<Long> relationshipEntityIds = relationshipEntitiesByNode.get(startOrEndEntity);
+        if (relationshipEntityIds == null) {
+            return;
+        }
+        for (Long relationshipEntityId : new ArrayList<>(relationshipEntityIds)) {
             Object relationshipEntity = relationshipEntityRegister.get(relationshipEntityId);
             final ClassInfo classInfo = metaData.classInfo(relationshipEntity);
             FieldInfo startNodeReader = classInfo.getStartNodeReader();
             FieldInfo endNodeReader = classInfo.getEndNodeReader();
             if (startOrEndEntity == startNodeReader.read(relationshipEntity) || startOrEndEntity == endNodeReader.read(relationshipEntity)) {
-                relationshipEntityIdIterator.remove();
+                removeRelationshipEntity(relationshipEntityId);
+            } else {
+                // reassigned to other nodes since it was indexed
+                unindexRelationshipEntity(relationshipEntityId);
+                indexRelationshipEntity(classInfo, relationshipEntity, relationshipEntityId);
+            }
+        }
+    }
+
+    private void indexRelationshipEntity(ClassInfo classInfo, Object relationshipEntity, Long relationshipEntityId) {
+        IndexedRelationshipEntity indexed = new IndexedRelationshipEntity(relationshipEntityId,
+                classInfo.getStartNodeReader().read(relationshipEntity), classInfo.getEndNodeReader().read(relationshipEntity));
+        indexedRelationshipEntities.put(relationshipEntityId, indexed);
+        indexRelationshipEntity(indexed.startNode, relationshipEntityId);
+        indexRelationshipEntity(indexed.endNode, relationshipEntityId);
+    }
+
+    private void indexRelationshipEntity(Object startOrEndEntity, Long relationshipEntityId) {
+        if (startOrEndEntity != null) {
+            relationshipEntitiesByNode.computeIfAbsent(startOrEndEntity, k -> new HashSet<>()).add(relationshipEntityId);
+        }
+    }
+
+    private void removeRelationshipEntity(Long relationshipEntityId) {
+        if (relationshipEntityRegister.remove(relationshipEntityId) != null) {
+            unindexRelationshipEntity(relationshipEntityId);
+        }
+    }
+
+    // unindexes the relationship entity from the nodes it was indexed under, which may no longer be its start and end
+    private void unindexRelationshipEntity(Long relationshipEntityId) {
+        IndexedRelationshipEntity indexed = indexedRelationshipEntities.remove(relationshipEntityId);
+        if (indexed != null) {
+            unindexRelationshipEntity(indexed.startNode, relationshipEntityId);
+            unindexRelationshipEntity(indexed.endNode, relationshipEntityId);
+        }
+    }
+
+    private void unindexRelationshipEntity(Object startOrEndEntity, Long relationshipEntityId) {
+        if (startOrEndEntity == null) {
+            return;
+        }
+        Set<Long> relationshipEntityIds = relationshipEntitiesByNode.get(startOrEndEntity);
+        if (relationshipEntityIds != null) {
+            relationshipEntityIds.remove(relationshipEntityId);
+            if (relationshipEntityIds.isEmpty()) {
+                relationshipEntitiesByNode.remove(startOrEndEntity);
             }
         }
     }
@@ -424,29 +545,25 @@ public class MappingContext {
                     // remove the object from the node register
                     removeNodeEntity(entity, false);
                     // remove all relationship mappings to/from this object
-                    Iterator<MappedRelationship> mappedRelationshipIterator = relationshipRegister.iterator();
-                    while (mappedRelationshipIterator.hasNext()) {
-                        MappedRelationship mappedRelationship = mappedRelationshipIterator.next();
-                        if (mappedRelationship.getStartNodeId() == id || mappedRelationship.getEndNodeId() == id) {
-
-                            // first purge any RE mappings (if its a RE)
-                            if (mappedRelationship.getRelationshipId() != null) {
-                                Object relEntity = relationshipEntityRegister.get(mappedRelationship.getRelationshipId());
-                                if (relEntity != null) {
-                                    // TODO : extract the "remove a RelationshipEntity" block below in a method
-                                    // and call it here instead of going recursive ?
-                                    relEntitiesToPurge.add(relEntity);
-                                }
+                    for (MappedRelationship mappedRelationship : new ArrayList<>(relationshipRegister.relationshipsOf(id))) {
+
+                        // first purge any RE mappings (if its a RE)
+                        if (mappedRelationship.getRelationshipId() != null) {
+                            Object relEntity = relationshipEntityRegister.get(mappedRelationship.getRelationshipId());
+                            if (relEntity != null) {
+                                // TODO : extract the "remove a RelationshipEntity" block below in a method
+                                // and call it here instead of going recursive ?
+                                relEntitiesToPurge.add(relEntity);
                             }
-                            // finally remove the mapped relationship
-                            mappedRelationshipIterator.remove();
                         }
+                        // finally remove the mapped relationship
+                        relationshipRegister.remove(mappedRelationship);
                     }
                 }
             } else {
                 // remove a RelationshipEntity
                 if (relationshipEntityRegister.containsKey(id)) {
-                    relationshipEntityRegister.remove(id);
+                    removeRelationshipEntity(id);
                     final ClassInfo classInfo = metaData.classInfo(entity);
                     FieldInfo startNodeReader = classInfo.getStartNodeReader();
                     Object startNode = startNodeReader.read(entity);
@@ -511,4 +628,20 @@ public class MappingContext {
             primaryIndexField.writeDirect(entity, id);
         }
     }
+
+    /**
+     * A relationship entity and the start and end node it is indexed under.
+     */
+    private static final class IndexedRelationshipEntity {
+
+        private final Long id;
+        private final Object startNode;
+        private final Object endNode;
+
+        IndexedRelationshipEntity(Long id, Object startNode, Object endNode) {
+            this.id = id;
+            this.startNode = startNode;
+            this.endNode = endNode;
+        }
+    }
 }
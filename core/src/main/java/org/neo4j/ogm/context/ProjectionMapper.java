@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.response.Response;
+
+/**
+ * Maps the rows of a response onto new instances of any class, binding each column to a constructor parameter or a
+ * field of the same name, see {@link ProjectionPlan}.
+ * <p>
+ * Nothing is registered in a {@link MappingContext}: the instances are neither identity mapped nor checked for changes,
+ * they are plain values. The binding of a class to a set of columns is compiled once, then shared by every response.
+ */
+public class ProjectionMapper implements ResponseMapper<RowModel> {
+
+    private static final ClassValue<Map<List<String>, ProjectionPlan>> PLANS = new ClassValue<Map<List<String>, ProjectionPlan>>() {
+
+        @Override
+        protected Map<List<String>, ProjectionPlan> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * @param <T> The type of the instances to which the rows are projected
+     */
+    @Override
+    public <T> Iterable<T> map(Class<T> type, Response<RowModel> response) {
+
+        List<T> result = new ArrayList<>();
+        ProjectionPlan plan = null;
+
+        RowModel model;
+        while ((model = response.next()) != null) {
+            if (plan == null) {
+                plan = plan(type, model.variables());
+            }
+            result.add((T) plan.project(model.getValues()));
+        }
+        return result;
+    }
+
+    static ProjectionPlan plan(Class<?> type, String[] columns) {
+        return PLANS.get(type).computeIfAbsent(Arrays.asList(columns.clone()), c -> ProjectionPlan.of(type, c));
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.function.Function;
+
+import org.neo4j.ogm.exception.core.MappingException;
+import org.neo4j.ogm.metadata.reflect.EntityAccessManager;
+import org.neo4j.ogm.session.Utils;
+
+/**
+ * How the columns of the rows returned by a query are bound to a new instance of a class, compiled once per class and
+ * columns by {@link ProjectionMapper}.
+ * <p>
+ * The columns are bound, in order of preference, to the parameters of a constructor named as the columns (when the
+ * class is compiled with <code>-parameters</code>), to the fields named as the columns of an instance created with the
+ * no argument constructor, or to the parameters, in order, of the only constructor taking as many parameters as there
+ * are columns.
+ */
+final class ProjectionPlan {
+
+    private final Constructor<?> constructor;
+    private final Binding[] parameters;
+    private final Binding[] fields;
+
+    private ProjectionPlan(Constructor<?> constructor, Binding[] parameters, Binding[] fields) {
+        constructor.setAccessible(true);
+        this.constructor = constructor;
+        this.parameters = parameters;
+        this.fields = fields;
+    }
+
+    static ProjectionPlan of(Class<?> type, List<String> columns) {
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            ProjectionPlan plan = byParameterNames(constructor, columns);
+            if (plan != null) {
+                return plan;
+            }
+        }
+        ProjectionPlan plan = byFieldNames(type, columns);
+        if (plan != null) {
+            return plan;
+        }
+        Constructor<?> candidate = null;
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.getParameterCount() == columns.size()) {
+                if (candidate != null) {
+                    candidate = null;
+                    break;
+                }
+                candidate = constructor;
+            }
+        }
+        if (candidate != null) {
+            Binding[] parameters = new Binding[columns.size()];
+            for (int i = 0; i < parameters.length; i++) {
+                parameters[i] = new Binding(i, candidate.getParameterTypes()[i], candidate.getGenericParameterTypes()[i], null);
+            }
+            return new ProjectionPlan(candidate, parameters, new Binding[0]);
+        }
+        throw new MappingException("Cannot project the columns " + columns + " onto " + type.getName()
+                + ": no constructor takes parameters named as, or as many as the columns, and no field is named as each column");
+    }
+
+    private static ProjectionPlan byParameterNames(Constructor<?> constructor, List<String> columns) {
+        Parameter[] declared = constructor.getParameters();
+        if (declared.length == 0 || declared.length != columns.size()) {
+            return null;
+        }
+        Binding[] parameters = new Binding[declared.length];
+        for (int i = 0; i < declared.length; i++) {
+            int column = columns.indexOf(declared[i].getName());
+            if (!declared[i].isNamePresent() || column < 0) {
+                return null;
+            }
+            parameters[i] = new Binding(column, declared[i].getType(), declared[i].getParameterizedType(), null);
+        }
+        return new ProjectionPlan(constructor, parameters, new Binding[0]);
+    }
+
+    private static ProjectionPlan byFieldNames(Class<?> type, List<String> columns) {
+        Constructor<?> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        Binding[] fields = new Binding[columns.size()];
+        for (int i = 0; i < fields.length; i++) {
+            Field field = field(type, columns.get(i));
+            if (field == null) {
+                return null;
+            }
+            field.setAccessible(true);
+            fields[i] = new Binding(i, field.getType(), field.getGenericType(), field);
+        }
+        return new ProjectionPlan(constructor, new Binding[0], fields);
+    }
+
+    private static Field field(Class<?> type, String name) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (field.getName().equals(name) && !Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param values the values of the columns of a row
+     * @return a new instance of the class, bound to the values
+     */
+    Object project(Object[] values) {
+        Object[] arguments = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            arguments[i] = parameters[i].value(values);
+        }
+        try {
+            Object instance = constructor.newInstance(arguments);
+            for (Binding field : fields) {
+                field.field.set(instance, field.value(values));
+            }
+            return instance;
+        } catch (InvocationTargetException e) {
+            throw new MappingException("Could not project a row onto " + constructor.getDeclaringClass().getName(),
+                    e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            throw new MappingException("Could not project a row onto " + constructor.getDeclaringClass().getName(), e);
+        }
+    }
+
+    /**
+     * A column bound to a constructor parameter or a field, with the conversion of its values to their type.
+     */
+    private static final class Binding {
+
+        private final int column;
+        private final Function<Object, Object> conversion;
+        private final Field field;
+
+        Binding(int column, Class<?> type, Type genericType, Field field) {
+            this.column = column;
+            this.conversion = conversion(type, genericType);
+            this.field = field;
+        }
+
+        Object value(Object[] values) {
+            return conversion.apply(values[column]);
+        }
+
+        private static Function<Object, Object> conversion(Class<?> type, Type genericType) {
+            if (type.isArray()) {
+                Class<?> elementType = type.getComponentType();
+                return value -> value == null ? null : EntityAccessManager.merge(type, value, Collections.emptyList(), elementType);
+            }
+            if (Collection.class.isAssignableFrom(type)) {
+                Class<?> elementType = Object.class;
+                if (genericType instanceof ParameterizedType) {
+                    Type argument = ((ParameterizedType) genericType).getActualTypeArguments()[0];
+                    if (argument instanceof Class) {
+                        elementType = (Class<?>) argument;
+                    }
+                }
+                Class<?> element = elementType;
+                return value -> value == null ? null : EntityAccessManager.merge(type, value, Collections.emptyList(), element);
+            }
+            return Utils.coercion(type);
+        }
+    }
+}
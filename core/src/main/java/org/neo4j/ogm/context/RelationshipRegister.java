@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.*;
+
+/**
+ * The set of {@link MappedRelationship}s known to a {@link MappingContext}, indexed by the ids of their start and end
+ * nodes and by the ids of the relationship entities they map.
+ * <p>
+ * The indexes are kept up to date through every mutation of the set, including removals through its iterator, so the
+ * register can be handed out as a plain {@link Set} while the relationships of a single node are still found in
+ * O(degree) instead of by scanning all mapped relationships.
+ */
+class RelationshipRegister extends AbstractSet<MappedRelationship> implements MappedRelationships {
+
+    private final Set<MappedRelationship> relationships = new HashSet<>();
+
+    // node id -> relationships starting or ending at that node
+    private final Map<Long, Set<MappedRelationship>> relationshipsByNode = new HashMap<>();
+
+    // relationship entity id -> relationships mapping it
+    private final Map<Long, Set<MappedRelationship>> relationshipsById = new HashMap<>();
+
+    /**
+     * Gets the relationships that start or end at the given node.
+     *
+     * @param nodeId the native id of the node
+     * @return a read only view of the relationships, empty if there are none
+     */
+    @Override
+    public Set<MappedRelationship> relationshipsOf(long nodeId) {
+        return view(relationshipsByNode.get(nodeId));
+    }
+
+    /**
+     * Gets the relationships mapping the relationship entity with the given id.
+     *
+     * @param relationshipId the native id of the relationship entity
+     * @return a read only view of the relationships, empty if there are none
+     */
+    Set<MappedRelationship> relationshipsWithId(long relationshipId) {
+        return view(relationshipsById.get(relationshipId));
+    }
+
+    @Override
+    public boolean contains(Mappable relationship) {
+        return relationships.contains(relationship);
+    }
+
+    @Override
+    public boolean add(MappedRelationship relationship) {
+        if (relationships.add(relationship)) {
+            index(relationshipsByNode, relationship.getStartNodeId(), relationship);
+            index(relationshipsByNode, relationship.getEndNodeId(), relationship);
+            if (relationship.getRelationshipId() != null) {
+                index(relationshipsById, relationship.getRelationshipId(), relationship);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (relationships.remove(o)) {
+            unindex((MappedRelationship) o);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return relationships.contains(o);
+    }
+
+    @Override
+    public void clear() {
+        relationships.clear();
+        relationshipsByNode.clear();
+        relationshipsById.clear();
+    }
+
+    @Override
+    public int size() {
+        return relationships.size();
+    }
+
+    @Override
+    public Iterator<MappedRelationship> iterator() {
+        Iterator<MappedRelationship> iterator = relationships.iterator();
+        return new Iterator<MappedRelationship>() {
+
+            private MappedRelationship current;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public MappedRelationship next() {
+                current = iterator.next();
+                return current;
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                unindex(current);
+            }
+        };
+    }
+
+    private static Set<MappedRelationship> view(Set<MappedRelationship> relationships) {
+        if (relationships == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(relationships);
+    }
+
+    private static void index(Map<Long, Set<MappedRelationship>> index, long key, MappedRelationship relationship) {
+        index.computeIfAbsent(key, k -> new HashSet<>()).add(relationship);
+    }
+
+    private void unindex(MappedRelationship relationship) {
+        unindex(relationshipsByNode, relationship.getStartNodeId(), relationship);
+        unindex(relationshipsByNode, relationship.getEndNodeId(), relationship);
+        if (relationship.getRelationshipId() != null) {
+            unindex(relationshipsById, relationship.getRelationshipId(), relationship);
+        }
+    }
+
+    private static void unindex(Map<Long, Set<MappedRelationship>> index, long key, MappedRelationship relationship) {
+        Set<MappedRelationship> indexed = index.get(key);
+        if (indexed != null) {
+            indexed.remove(relationship);
+            if (indexed.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+}
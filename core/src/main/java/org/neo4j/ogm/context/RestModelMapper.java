@@ -46,8 +46,6 @@ public class RestModelMapper implements ResponseMapper<RestModel> {
         Collection<Map<String, Object>> result = new ArrayList<>();
         Map<Long, String> relationshipEntityColumns = new HashMap<>(); //Relationship ID to column name
 
-        restStatisticsModel.setStatistics(model.getStats());
-
         Set<Long> nodeIds = new LinkedHashSet<>();
         Set<Long> edgeIds = new LinkedHashSet<>();
         while (model.getRow().entrySet().size() > 0) {
@@ -102,6 +100,8 @@ public class RestModelMapper implements ResponseMapper<RestModel> {
 
         graphEntityMapper.executePostLoad(nodeIds, edgeIds);
 
+        // taken from the last model read, a streamed response only has the statistics once all the rows are read
+        restStatisticsModel.setStatistics(model.getStats());
         restStatisticsModel.setResult(result);
         return (Iterable<T>) Collections.singletonList(restStatisticsModel);
     }
@@ -17,6 +17,7 @@ import java.util.Collection;
 
 import org.neo4j.ogm.compiler.SrcTargetKey;
 import org.neo4j.ogm.context.Mappable;
+import org.neo4j.ogm.context.MappedRelationships;
 
 /**
  * Maintains contextual information throughout the process of compiling Cypher statements to persist a graph of objects.
@@ -26,6 +27,15 @@ import org.neo4j.ogm.context.Mappable;
  */
 public interface CompileContext {
 
+    /**
+     * Registers the relationships known when the compilation starts. They are not copied into the context, only the
+     * ones starting or ending at the nodes the compilation reaches are looked up, and the relationships deregistered
+     * by a previous compilation are forgotten.
+     *
+     * @param relationships the known relationships
+     */
+    void registerRelationships(MappedRelationships relationships);
+
     void registerRelationship(Mappable mappable);
 
     boolean removeRegisteredRelationship(Mappable mappable);
@@ -64,6 +74,12 @@ public interface CompileContext {
 
     Collection<Mappable> getDeletedRelationships();
 
+    /**
+     * @return the known relationships that were deregistered and not registered again, in the order they were
+     * deregistered
+     */
+    Collection<Mappable> getDeregisteredRelationships();
+
     Object getVisitedObject(Long reference);
 
     Collection<Object> getTransientRelationships(SrcTargetKey key);
@@ -14,6 +14,7 @@
 package org.neo4j.ogm.cypher.compiler;
 
 import java.util.List;
+import java.util.Set;
 
 import org.neo4j.ogm.request.Statement;
 import org.neo4j.ogm.request.StatementFactory;
@@ -138,6 +139,22 @@ public interface Compiler {
      */
     List<Statement> getAllStatements();
 
+    /**
+     * Retrieves the ids of the existing nodes the statements built up through this {@link Compiler} write to: the
+     * nodes updated and the existing ends of the relationships created, updated or deleted.
+     *
+     * @return the native ids of the nodes, never <code>null</code>
+     */
+    Set<Long> writtenNodeIds();
+
+    /**
+     * Retrieves the ids of the existing relationships the statements built up through this {@link Compiler} update
+     * or delete.
+     *
+     * @return the native ids of the relationships, never <code>null</code>
+     */
+    Set<Long> writtenRelationshipIds();
+
 
     /**
      * Returns this compiler's context
@@ -19,12 +19,14 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.neo4j.ogm.compiler.SrcTargetKey;
 import org.neo4j.ogm.context.Mappable;
+import org.neo4j.ogm.context.MappedRelationships;
 
 import static java.util.Collections.emptySet;
 
@@ -41,6 +43,10 @@ public class CypherContext implements CompileContext {
     private final Set<Long> visitedRelationshipEntities = new HashSet<>();
 
     private final Map<Long, Object> createdObjectsWithId = new HashMap<>();
+    // the relationships known before the compilation, registered unless deregistered
+    private MappedRelationships knownRelationships = MappedRelationships.NONE;
+    private final Collection<Mappable> deregisteredRelationships = new LinkedHashSet<>();
+    // registered relationships that are not known
     private final Collection<Mappable> registeredRelationships = new HashSet<>();
     private final Collection<Mappable> deletedRelationships = new HashSet<>();
     private final Map<Long, Long> newNodeIds = new HashMap<>();
@@ -63,12 +69,28 @@ public class CypherContext implements CompileContext {
         this.visitedObjects.put(entity, nodeBuilder);
     }
 
+    @Override
+    public void registerRelationships(MappedRelationships relationships) {
+        this.knownRelationships = relationships;
+        this.deregisteredRelationships.clear();
+    }
+
     public void registerRelationship(Mappable mappedRelationship) {
-        this.registeredRelationships.add(mappedRelationship);
+        if (!deregisteredRelationships.remove(mappedRelationship) && !knownRelationships.contains(mappedRelationship)) {
+            this.registeredRelationships.add(mappedRelationship);
+        }
     }
 
     public boolean removeRegisteredRelationship(Mappable mappedRelationship) {
-        return this.registeredRelationships.remove(mappedRelationship);
+        if (this.registeredRelationships.remove(mappedRelationship)) {
+            return true;
+        }
+        return knownRelationships.contains(mappedRelationship) && deregisteredRelationships.add(mappedRelationship);
+    }
+
+    @Override
+    public Collection<Mappable> getDeregisteredRelationships() {
+        return deregisteredRelationships;
     }
 
     @Override
@@ -123,36 +145,22 @@ public class CypherContext implements CompileContext {
      * @return true if the relationship was deleted or doesn't exist in the graph, false otherwise
      */
     public boolean deregisterOutgoingRelationships(Long src, String relationshipType, Class endNodeType) {
-        Iterator<Mappable> iterator = registeredRelationships.iterator();
-        boolean nothingToDelete = true;
         List<Mappable> cleared = new ArrayList<>();
-        while (iterator.hasNext()) {
-            Mappable mappedRelationship = iterator.next();
+        for (Mappable mappedRelationship : registeredRelationshipsOf(src)) {
             if (mappedRelationship.getStartNodeId() == src &&
                     mappedRelationship.getRelationshipType().equals(relationshipType) &&
                     endNodeType.equals(mappedRelationship.getEndNodeType())) {
 
                 cleared.add(mappedRelationship);
-                iterator.remove();
-                nothingToDelete = false;
             }
         }
-        if (nothingToDelete) {
+        deregister(cleared);
+        if (cleared.isEmpty()) {
             return true; //relationships not in the graph, okay, we can return
         }
 
         //Check to see if the relationships were previously deleted, if so, restore them
-        iterator = cleared.iterator();
-        while (iterator.hasNext()) {
-            Mappable mappedRelationship = iterator.next();
-            if (isMappableAlreadyDeleted(mappedRelationship)) {
-                registerRelationship(mappedRelationship);
-                iterator.remove();
-            } else {
-                deletedRelationships.add(mappedRelationship);
-            }
-        }
-        return cleared.size() > 0;
+        return restoreDeleted(cleared);
     }
 
     /**
@@ -172,27 +180,49 @@ public class CypherContext implements CompileContext {
      * @return true if the relationship was deleted or doesn't exist in the graph, false otherwise
      */
     public boolean deregisterIncomingRelationships(Long tgt, String relationshipType, Class endNodeType, boolean relationshipEntity) {
-        Iterator<Mappable> iterator = registeredRelationships.iterator();
         List<Mappable> cleared = new ArrayList<>();
-        boolean nothingToDelete = true;
-        while (iterator.hasNext()) {
-            Mappable mappedRelationship = iterator.next();
+        for (Mappable mappedRelationship : registeredRelationshipsOf(tgt)) {
             if (mappedRelationship.getEndNodeId() == tgt &&
                     mappedRelationship.getRelationshipType().equals(relationshipType) &&
                     endNodeType.equals(relationshipEntity ? mappedRelationship.getEndNodeType() : mappedRelationship.getStartNodeType())) {
 
                 cleared.add(mappedRelationship);
-                iterator.remove();
-                nothingToDelete = false;
             }
         }
+        deregister(cleared);
 
-        if (nothingToDelete) {
+        if (cleared.isEmpty()) {
             return true; //relationships not in the graph, okay, we can return
         }
 
         //Check to see if the relationships were previously deleted, if so, restore them
-        iterator = cleared.iterator();
+        return restoreDeleted(cleared);
+    }
+
+    // the registered relationships starting or ending at the node
+    private List<Mappable> registeredRelationshipsOf(long nodeId) {
+        List<Mappable> relationships = new ArrayList<>();
+        for (Mappable mappedRelationship : knownRelationships.relationshipsOf(nodeId)) {
+            if (!deregisteredRelationships.contains(mappedRelationship)) {
+                relationships.add(mappedRelationship);
+            }
+        }
+        for (Mappable mappedRelationship : registeredRelationships) {
+            if (mappedRelationship.getStartNodeId() == nodeId || mappedRelationship.getEndNodeId() == nodeId) {
+                relationships.add(mappedRelationship);
+            }
+        }
+        return relationships;
+    }
+
+    private void deregister(List<Mappable> relationships) {
+        for (Mappable mappedRelationship : relationships) {
+            removeRegisteredRelationship(mappedRelationship);
+        }
+    }
+
+    private boolean restoreDeleted(List<Mappable> cleared) {
+        Iterator<Mappable> iterator = cleared.iterator();
         while (iterator.hasNext()) {
             Mappable mappedRelationship = iterator.next();
             if (isMappableAlreadyDeleted(mappedRelationship)) {
@@ -227,6 +227,41 @@ public class MultiStatementCypherCompiler implements Compiler {
         return statements;
     }
 
+    @Override
+    public Set<Long> writtenNodeIds() {
+        Set<Long> nodeIds = new HashSet<>();
+        for (NodeBuilder nodeBuilder : existingNodeBuilders) {
+            addExisting(nodeIds, nodeBuilder.node().getId());
+        }
+        for (List<RelationshipBuilder> builders : Arrays.asList(newRelationshipBuilders, existingRelationshipBuilders,
+                deletedRelationshipBuilders, deletedRelationshipEntityBuilders)) {
+            for (RelationshipBuilder builder : builders) {
+                Edge edge = builder.edge();
+                addExisting(nodeIds, edge.getStartNode());
+                addExisting(nodeIds, edge.getEndNode());
+            }
+        }
+        return nodeIds;
+    }
+
+    @Override
+    public Set<Long> writtenRelationshipIds() {
+        Set<Long> relationshipIds = new HashSet<>();
+        for (List<RelationshipBuilder> builders : Arrays.asList(existingRelationshipBuilders, deletedRelationshipEntityBuilders)) {
+            for (RelationshipBuilder builder : builders) {
+                addExisting(relationshipIds, builder.edge().getId());
+            }
+        }
+        return relationshipIds;
+    }
+
+    // new nodes and relationships are referenced by negative ids until they are created
+    private static void addExisting(Set<Long> ids, Long id) {
+        if (id != null && id >= 0) {
+            ids.add(id);
+        }
+    }
+
     @Override
     public CompileContext context() {
         return context;
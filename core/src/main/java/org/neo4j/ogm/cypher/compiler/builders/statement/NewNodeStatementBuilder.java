@@ -17,7 +17,6 @@ import java.util.*;
 
 import org.neo4j.ogm.cypher.compiler.CypherStatementBuilder;
 import org.neo4j.ogm.model.Node;
-import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.request.Statement;
 import org.neo4j.ogm.request.StatementFactory;
 
@@ -27,6 +26,8 @@ import org.neo4j.ogm.request.StatementFactory;
  */
 public class NewNodeStatementBuilder implements CypherStatementBuilder {
 
+    private static final String[] ROW_KEYS = {"nodeRef", "type", "props"};
+
     private final StatementFactory statementFactory;
 
     private final Set<Node> newNodes;
@@ -66,19 +67,10 @@ public class NewNodeStatementBuilder implements CypherStatementBuilder {
             }
 
             queryBuilder.append(") SET n=row.props RETURN row.nodeRef as ref, ID(n) as id, row.type as type");
-            List<Map> rows = new ArrayList<>();
+            List<Map> rows = new ArrayList<>(newNodes.size());
+            RowMap.PropertiesBuilder properties = new RowMap.PropertiesBuilder(true);
             for (Node node : newNodes) {
-                Map<String, Object> rowMap = new HashMap<>();
-                rowMap.put("nodeRef", node.getId());
-                rowMap.put("type", "node");
-                Map<String, Object> props = new HashMap<>();
-                for (Property property : node.getPropertyList()) {
-                    if (property.getValue() != null) {
-                        props.put((String) property.getKey(), property.getValue());
-                    }
-                }
-                rowMap.put("props", props);
-                rows.add(rowMap);
+                rows.add(RowMap.of(ROW_KEYS, node.getId(), "node", properties.properties(node)));
             }
             parameters.put("rows", rows);
         }
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.cypher.compiler.builders.statement;
+
+import java.util.*;
+
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.model.Property;
+
+/**
+ * An immutable map of the parameters of one row of an <code>UNWIND</code>, backed by an array of keys and an array of
+ * values instead of the table and entries of a {@link HashMap}.
+ * <p>
+ * The rows of a statement are built for nodes sharing their labels, which mostly share their property keys too:
+ * consecutive rows with the same keys share a single array of keys. Rows are small, keys are looked up by a linear
+ * scan; drivers iterate them rather than look keys up anyway.
+ */
+final class RowMap extends AbstractMap<String, Object> {
+
+    private final String[] keys;
+    private final Object[] values;
+
+    private RowMap(String[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * @param keys the keys of the row, not copied
+     * @param values the values of the keys, in the same order, not copied
+     * @return the row
+     */
+    static RowMap of(String[] keys, Object... values) {
+        return new RowMap(keys, values);
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : values[index];
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<Entry<String, Object>>() {
+
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < keys.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (next == keys.length) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, Object> entry = new SimpleImmutableEntry<>(keys[next], values[next]);
+                        next++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+    /**
+     * Builds the properties of the nodes of a statement, sharing the array of keys of consecutive nodes with the same
+     * property keys.
+     */
+    static final class PropertiesBuilder {
+
+        private final boolean skipNulls;
+        private String[] lastKeys = new String[0];
+
+        /**
+         * @param skipNulls whether properties without a value are left out, as a new node has none to remove
+         */
+        PropertiesBuilder(boolean skipNulls) {
+            this.skipNulls = skipNulls;
+        }
+
+        RowMap properties(Node node) {
+            List<Property<String, Object>> properties = node.getPropertyList();
+            int size = 0;
+            for (Property<String, Object> property : properties) {
+                if (!skipNulls || property.getValue() != null) {
+                    size++;
+                }
+            }
+            String[] keys = new String[size];
+            Object[] values = new Object[size];
+            boolean sameKeys = lastKeys.length == size;
+            int i = 0;
+            for (Property<String, Object> property : properties) {
+                if (!skipNulls || property.getValue() != null) {
+                    keys[i] = property.getKey();
+                    values[i] = property.getValue();
+                    sameKeys = sameKeys && lastKeys[i].equals(keys[i]);
+                    i++;
+                }
+            }
+            if (sameKeys) {
+                keys = lastKeys;
+            } else {
+                lastKeys = keys;
+            }
+            return new RowMap(keys, values);
+        }
+    }
+}
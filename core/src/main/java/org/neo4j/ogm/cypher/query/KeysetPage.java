@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.cypher.query;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * A page of entities loaded with a {@link KeysetPagination}, along with the token continuing with the next page.
+ *
+ * @param <T> the type of the entities
+ */
+public class KeysetPage<T> implements Iterable<T> {
+
+    private final Collection<T> content;
+    private final String continuationToken;
+
+    public KeysetPage(Collection<T> content, String continuationToken) {
+        this.content = content;
+        this.continuationToken = continuationToken;
+    }
+
+    /**
+     * @return the entities of this page, in the order of the page
+     */
+    public Collection<T> getContent() {
+        return content;
+    }
+
+    /**
+     * @return the token to pass to {@link KeysetPagination#KeysetPagination(int, String)} to load the next page,
+     * <code>null</code> if this page is the last one
+     */
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    public boolean isLast() {
+        return continuationToken == null;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return content.iterator();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.cypher.query;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.neo4j.ogm.config.ObjectMapperFactory;
+
+/**
+ * Pages through the entities of a type by the values of their sort properties and their id rather than by skipping
+ * the entities of the previous pages, as {@link Pagination} does.
+ * <p>
+ * Each page is ordered by the sort order and then by id, and starts after the last entity of the previous page,
+ * identified by the continuation token of that page, see {@link KeysetPage#getContinuationToken()}. Reading a deep page
+ * costs as much as reading the first one when the sort properties are indexed. The sort properties of the entities
+ * should not be null: entities with a null sort property are only found on the first page.
+ */
+public class KeysetPagination {
+
+    private static final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
+    private static final TypeReference<List<Object>> KEYSET_TYPE = new TypeReference<List<Object>>() {
+    };
+
+    private final int size;
+    private final String continuationToken;
+
+    /**
+     * Pagination of the first page.
+     *
+     * @param pageSize the number of entities of each page
+     */
+    public KeysetPagination(int pageSize) {
+        this(pageSize, null);
+    }
+
+    /**
+     * Pagination of the page following the page the token was returned with.
+     *
+     * @param pageSize the number of entities of each page
+     * @param continuationToken the continuation token of the previous page, <code>null</code> for the first page
+     * @throws IllegalArgumentException if the page size is not greater than zero
+     */
+    public KeysetPagination(int pageSize, String continuationToken) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be greater than zero");
+        }
+        this.size = pageSize;
+        this.continuationToken = continuationToken;
+    }
+
+    public int getPageSize() {
+        return size;
+    }
+
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    /**
+     * @param sortOrder the sort order of the pages, its properties resolved
+     * @return the predicate on the node <code>n</code> starting the page after the last entity of the previous page,
+     * empty for the first page
+     */
+    public String predicate(SortOrder sortOrder) {
+        if (continuationToken == null) {
+            return "";
+        }
+        List<String> properties = new ArrayList<>();
+        List<String> operators = new ArrayList<>();
+        for (SortClause sortClause : sortOrder.sortClauses()) {
+            for (String property : sortClause.getProperties()) {
+                properties.add("n." + property);
+                operators.add(sortClause.getDirection() == SortOrder.Direction.DESC ? " < " : " > ");
+            }
+        }
+        properties.add("ID(n)");
+        operators.add(" > ");
+
+        StringBuilder sb = new StringBuilder(" WHERE ");
+        for (int i = 0; i < properties.size(); i++) {
+            if (i > 0) {
+                sb.append(" OR ");
+            }
+            sb.append("(");
+            for (int j = 0; j < i; j++) {
+                sb.append(properties.get(j)).append(" = ").append(parameter(j, properties.size())).append(" AND ");
+            }
+            sb.append(properties.get(i)).append(operators.get(i)).append(parameter(i, properties.size())).append(")");
+        }
+        return sb.toString();
+    }
+
+    private static String parameter(int index, int size) {
+        return index == size - 1 ? "{ keyset_id }" : "{ keyset_" + index + " }";
+    }
+
+    /**
+     * @param sortOrder the sort order of the pages, its properties resolved
+     * @return the values of the parameters of the predicate, read from the continuation token, and the page size
+     * @throws IllegalArgumentException if the token is not a token of this sort order
+     */
+    public Map<String, Object> parameters(SortOrder sortOrder) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(Pagination.LIMIT_PARAMETER, size);
+        if (continuationToken == null) {
+            return parameters;
+        }
+        List<Object> keyset;
+        try {
+            keyset = mapper.readValue(Base64.getUrlDecoder().decode(continuationToken), KEYSET_TYPE);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid continuation token: " + continuationToken, e);
+        }
+        if (keyset.isEmpty() || !sortOrder.toString().equals(keyset.get(0))) {
+            throw new IllegalArgumentException("The continuation token " + continuationToken
+                    + " was not returned for the sort order" + sortOrder);
+        }
+        for (int i = 1; i < keyset.size() - 1; i++) {
+            parameters.put("keyset_" + (i - 1), keyset.get(i));
+        }
+        parameters.put("keyset_id", ((Number) keyset.get(keyset.size() - 1)).longValue());
+        return parameters;
+    }
+
+    /**
+     * @param sortOrder the sort order of the pages, its properties resolved
+     * @param values the values of the sort properties of the last entity of a page, in the graph
+     * @param id the id of the last entity of the page
+     * @return the continuation token of the page
+     */
+    public static String continuationToken(SortOrder sortOrder, List<Object> values, Long id) {
+        List<Object> keyset = new ArrayList<>(values.size() + 2);
+        keyset.add(sortOrder.toString());
+        keyset.addAll(values);
+        keyset.add(id);
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(mapper.writeValueAsBytes(keyset));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write the continuation token of " + keyset, e);
+        }
+    }
+
+    /**
+     * @return the shape of the statements of this pagination, the same for all the pages but the first
+     */
+    public String toString() {
+        return " KEYSET " + (continuationToken == null ? "FIRST" : "NEXT");
+    }
+}
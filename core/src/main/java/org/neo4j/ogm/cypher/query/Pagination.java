@@ -12,11 +12,23 @@
  */
 package org.neo4j.ogm.cypher.query;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * @author Vince Bickers
  */
 public class Pagination {
 
+    /**
+     * The parameters binding the number of records to skip and to return in the statements generated by the OGM,
+     * see {@link #parameters()}.
+     */
+    public static final String SKIP_PARAMETER = "sdnSkip";
+    public static final String LIMIT_PARAMETER = "sdnLimit";
+
+    static final String PARAMETERIZED = " SKIP {" + SKIP_PARAMETER + "} LIMIT {" + LIMIT_PARAMETER + "}";
+
     private final Integer index;
     private final Integer size;
     private Integer offset;
@@ -48,10 +60,22 @@ public class Pagination {
         this.offset = offset;
     }
 
+    /**
+     * @return the values of the skip and limit parameters of this pagination, the same statement pages through all
+     * the pages
+     */
+    public Map<String, Object> parameters() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put(SKIP_PARAMETER, skip());
+        parameters.put(LIMIT_PARAMETER, size);
+        return parameters;
+    }
+
+    private int skip() {
+        return offset != null ? offset : index * size;
+    }
+
     public String toString() {
-        if (offset != null) {
-            return " SKIP " + offset + " LIMIT " + size;
-        }
-        return " SKIP " + (index * size) + " LIMIT " + size;
+        return " SKIP " + skip() + " LIMIT " + size;
     }
 }
@@ -12,6 +12,7 @@
  */
 package org.neo4j.ogm.cypher.query;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -24,11 +25,11 @@ import java.util.Map;
 public class PagingAndSortingQuery implements PagingAndSorting {
 
     private Pagination paging;
+    private KeysetPagination keysetPaging;
     private SortOrder sortOrder = new SortOrder();
 
     private String statement;
-    private String matchClause;
-    private String returnClause;
+    private StatementFragments fragments;
 
     private final Map<String, Object> parameters;
     protected int withIndex;
@@ -36,6 +37,10 @@ public class PagingAndSortingQuery implements PagingAndSorting {
     private boolean returnsPath = false;
     private boolean hasPredicate;
 
+    // the statement rendered for the sorting it was rendered with, until paging or sorting is set again
+    private String rendered;
+    private String renderedSorting;
+
     public PagingAndSortingQuery(String statement, Map<String, Object> parameters) {
         this.statement = statement;
         this.parameters = parameters;
@@ -50,47 +55,48 @@ public class PagingAndSortingQuery implements PagingAndSorting {
     public PagingAndSortingQuery(String matchClause, String returnClause, Map<String, Object> parameters,
                                  boolean returnsPath,
                                  boolean hasPredicate) {
-        this.matchClause = matchClause;
-        this.returnClause = returnClause;
-        this.parameters = parameters;
-        this.returnsPath = returnsPath;
-        this.hasPredicate = hasPredicate;
+        this(StatementFragments.nodes(matchClause, returnClause, returnsPath, hasPredicate), parameters);
     }
 
+    /**
+     * Creates a query of a statement generated by the OGM. Sorting and paging are composed between the fragments
+     * of the statement, rather than spliced into it.
+     *
+     * @param fragments  the fragments of the statement
+     * @param parameters the parameters of the statement
+     */
+    public PagingAndSortingQuery(StatementFragments fragments, Map<String, Object> parameters) {
+        this.fragments = fragments;
+        this.parameters = parameters;
+        this.withIndex = -1;
+        this.returnsPath = fragments.returnsPath();
+        this.hasPredicate = fragments.hasPredicate();
+    }
 
     public String getStatement() {
         String sorting = sortOrder().toString();
-        if (statement == null) {
-
-            StringBuilder sb = new StringBuilder();
+        if (rendered == null || !sorting.equals(renderedSorting)) {
+            rendered = fragments != null
+                ? fragments.render(sortOrder, paging, keysetPaging, needsRowResult())
+                : splice(sorting);
+            renderedSorting = sorting;
+        }
+        return rendered;
+    }
 
-            String returnClause = this.returnClause;
-
-            sb.append(matchClause);
-            if (!sorting.isEmpty()) {
-                sb.append(sorting.replace("$", "n"));
-            }
-            if (paging != null) {
-                sb.append(paging.toString());
-            }
-            sb.append(returnClause);
-            if (needsRowResult()) {
-                sb.append(", ID(n)");
-            }
-            return sb.toString();
+    private String splice(String sorting) {
 
+        if (keysetPaging != null) {
+            throw new UnsupportedOperationException("Keyset pagination is only supported by node queries");
         }
 
-
-        // only used for relationship entity queries now, remove when relationship entity queries moved to new query building
+        // only used for statements not generated by the OGM, which cannot be composed from fragments
 
         String stmt = statement.trim();
         String pagination = paging == null ? "" : page().toString();
 
-        // these transformations are entirely dependent on the form of our base queries and
-        // binding the sorting properties to the default query variables is a terrible hack. All this
-        // needs refactoring ASAP.
-        // Update Feb 2017: It really does need refactoring ASAP!!! //TODO
+        // these transformations are entirely dependent on the form of the statement and
+        // bind the sorting properties to the default query variables
         if (sorting.length() > 0 || pagination.length() > 0) {
 
             if (withIndex > -1) {
@@ -134,23 +140,47 @@ public class PagingAndSortingQuery implements PagingAndSorting {
     }
 
     public boolean needsRowResult() {
-        return ((sortOrder.toString().length() > 0) || (paging != null) || hasPredicate) && returnsPath;
+        return ((sortOrder.toString().length() > 0) || (paging != null) || (keysetPaging != null) || hasPredicate) && returnsPath;
     }
 
+    /**
+     * Pages the query. The statements generated by the OGM bind the skip and limit of the pagination to parameters,
+     * which are added to the parameters of this query, see {@link Pagination#parameters()}.
+     *
+     * @param paging the pagination
+     * @return this query
+     */
     @Override
     public PagingAndSortingQuery setPagination(Pagination paging) {
         this.paging = paging;
+        this.rendered = null;
+        return this;
+    }
+
+    /**
+     * Pages the node <code>n</code> by the values of its sort properties and its id instead of skipping the entities of
+     * the previous pages. The parameters of the pagination are not added to the parameters of this query, see
+     * {@link KeysetPagination#parameters(SortOrder)}.
+     *
+     * @param keysetPaging the keyset pagination
+     * @return this query
+     */
+    public PagingAndSortingQuery setKeysetPagination(KeysetPagination keysetPaging) {
+        this.keysetPaging = keysetPaging;
+        this.rendered = null;
         return this;
     }
 
     @Override
     public PagingAndSortingQuery setSortOrder(SortOrder sortOrder) {
         this.sortOrder = sortOrder;
+        this.rendered = null;
         return this;
     }
 
     public void setReturnsPath(boolean returnsPath) {
         this.returnsPath = returnsPath;
+        this.rendered = null;
     }
 
     private Pagination page() {
@@ -162,6 +192,11 @@ public class PagingAndSortingQuery implements PagingAndSorting {
     }
 
     public Map<String, Object> getParameters() {
-        return parameters;
+        if (fragments == null || paging == null) {
+            return parameters;
+        }
+        Map<String, Object> pagedParameters = new HashMap<>(parameters);
+        pagedParameters.putAll(paging.parameters());
+        return pagedParameters;
     }
 }
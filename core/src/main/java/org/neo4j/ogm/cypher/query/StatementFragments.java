@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.cypher.query;
+
+/**
+ * The parts of a load statement generated by the OGM, kept apart so that the sorting and paging of a
+ * {@link PagingAndSortingQuery} are composed between them instead of being spliced into a finished statement.
+ * <p>
+ * A load statement is made of
+ * <ul>
+ * <li>the match of the entities, ending with the WITH clause that passes the entities on,</li>
+ * <li>the variable of the entities, which the WITH clause is sorted and paged by,</li>
+ * <li>the load of the entities passed on, up to and including its RETURN clause.</li>
+ * </ul>
+ *
+ * @see PagingAndSortingQuery#PagingAndSortingQuery(StatementFragments, java.util.Map)
+ */
+public final class StatementFragments {
+
+    private final String match;
+    private final String variable;
+    private final boolean variableProjected;
+    private final String load;
+    private final boolean returnsPath;
+    private final boolean hasPredicate;
+    private final boolean returnsIdOfRows;
+
+    private StatementFragments(String match, String variable, boolean variableProjected, String load,
+        boolean returnsPath, boolean hasPredicate, boolean returnsIdOfRows) {
+        this.match = match;
+        this.variable = variable;
+        this.variableProjected = variableProjected;
+        this.load = load;
+        this.returnsPath = returnsPath;
+        this.hasPredicate = hasPredicate;
+        this.returnsIdOfRows = returnsIdOfRows;
+    }
+
+    /**
+     * Fragments of a statement loading nodes <code>n</code>. When the statement returns paths and is sorted, paged
+     * or filtered, the ids of the nodes matched are returned as well.
+     *
+     * @param match        the match of the nodes, ending with a WITH clause projecting <code>n</code>
+     * @param load         the load of the nodes, up to and including its RETURN clause
+     * @param returnsPath  whether the statement returns paths
+     * @param hasPredicate whether the match filters the nodes
+     * @return the fragments
+     */
+    public static StatementFragments nodes(String match, String load, boolean returnsPath, boolean hasPredicate) {
+        return new StatementFragments(match, "n", true, load, returnsPath, hasPredicate, true);
+    }
+
+    /**
+     * Fragments of a statement loading the paths of relationships <code>r0</code>. The load is expected to return
+     * the ids of the relationships itself, if it needs them.
+     *
+     * @param match        the match of the relationships, up to its WITH clause
+     * @param with         the WITH clause passing the relationships on, <code>r0</code> is added to it when missing
+     *                     and needed for sorting or paging
+     * @param load         the load of the relationships, up to and including its RETURN clause
+     * @param hasPredicate whether the match filters the relationships
+     * @return the fragments
+     */
+    public static StatementFragments relationships(String match, String with, String load, boolean hasPredicate) {
+        boolean projected = with.contains(",r0") || with.contains("r0,");
+        return new StatementFragments(match + with, "r0", projected, load, true, hasPredicate, false);
+    }
+
+    boolean returnsPath() {
+        return returnsPath;
+    }
+
+    boolean hasPredicate() {
+        return hasPredicate;
+    }
+
+    /**
+     * Renders the statement.
+     *
+     * @param sortOrder the sort order, may be empty
+     * @param paging    the pagination, may be null. Its skip and limit are parameters, see {@link Pagination#parameters()}.
+     * @param keyset    the keyset pagination, may be null. Only statements of nodes can be paged by keyset.
+     * @param rowResult whether the results of the statement are read as rows rather than as a graph
+     * @return the statement
+     */
+    String render(SortOrder sortOrder, Pagination paging, KeysetPagination keyset, boolean rowResult) {
+        String sorting = sortOrder.toString();
+        boolean sorted = !sorting.isEmpty() || paging != null || keyset != null;
+
+        StringBuilder sb = new StringBuilder(match.length() + load.length() + 64).append(match);
+        if (sorted && !variableProjected) {
+            sb.append(',').append(variable);
+        }
+        sorting = sorting.replace("$", variable);
+        if (keyset != null) {
+            if (!returnsIdOfRows) {
+                throw new UnsupportedOperationException("Keyset pagination is only supported by node queries");
+            }
+            String predicate = keyset.predicate(sortOrder);
+            if (!predicate.isEmpty()) {
+                // a WITH filters after its ORDER BY and LIMIT, the page is sorted and limited by a WITH of its own
+                sb.append(predicate).append(" WITH ").append(variable);
+            }
+            sb.append(sorting.isEmpty() ? " ORDER BY ID(" + variable + ")" : sorting + ",ID(" + variable + ")");
+            sb.append(" LIMIT {").append(Pagination.LIMIT_PARAMETER).append('}');
+        } else {
+            sb.append(sorting);
+            if (paging != null) {
+                sb.append(Pagination.PARAMETERIZED);
+            }
+        }
+        sb.append(load);
+        if (returnsIdOfRows && rowResult) {
+            sb.append(", ID(").append(variable).append(')');
+        }
+        return sb.toString();
+    }
+}
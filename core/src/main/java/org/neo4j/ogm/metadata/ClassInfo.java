@@ -69,21 +69,25 @@ public class ClassInfo {
     private AnnotationsInfo annotationsInfo;
     private InterfacesInfo interfacesInfo;
     private ClassInfo directSuperclass;
-    private Map<Class, List<FieldInfo>> iterableFieldsForType = new HashMap<>();
+    private final Map<Class, List<FieldInfo>> iterableFieldsForType = new ConcurrentHashMap<>();
     private Map<FieldInfo, Field> fieldInfoFields = new ConcurrentHashMap<>();
     private volatile Set<FieldInfo> fieldInfos;
     private volatile Map<String, FieldInfo> propertyFields;
     private volatile Map<String, FieldInfo> indexFields;
+    private volatile Set<FieldInfo> relationshipFields;
+    // the relationship fields matching a relationship type, direction and mode, see relationshipFieldKey
+    private volatile Map<String, Set<FieldInfo>> relationshipFieldsByKey;
     private volatile LazyInstance<FieldInfo> identityField;
+    private volatile PropertyWritePlan propertyWritePlan;
     private volatile FieldInfo primaryIndexField = null;
     private volatile FieldInfo labelField = null;
     private volatile boolean labelFieldMapped = false;
     private volatile boolean isPostLoadMethodMapped = false;
     private volatile MethodInfo postLoadMethod;
-    private boolean primaryIndexFieldChecked = false;
+    private volatile boolean primaryIndexFieldChecked = false;
     private Class<?> cls;
-    private Class<? extends IdStrategy> idStrategyClass;
-    private IdStrategy idStrategy;
+    private volatile Class<? extends IdStrategy> idStrategyClass;
+    private volatile IdStrategy idStrategy;
 
     /**
      * This class was referenced as a superclass of the given subclass.
@@ -366,8 +370,8 @@ public class ClassInfo {
                                 "Field '%s' in class '%s' includes the @Labels annotation, however this field is not a " +
                                         "type of collection.", fieldInfo.getName(), this.name()));
                     }
-                    labelFieldMapped = true;
                     labelField = fieldInfo;
+                    labelFieldMapped = true;
                     return labelField;
                 }
             }
@@ -463,21 +467,62 @@ public class ClassInfo {
      * @return A Collection of FieldInfo objects describing the classInfo's relationship fields
      */
     public Collection<FieldInfo> relationshipFields() {
-        FieldInfo identityField = identityFieldOrNull();
-        Set<FieldInfo> fieldInfos = new HashSet<>();
-        for (FieldInfo fieldInfo : fieldsInfo().fields()) {
-            if (fieldInfo != identityField) {
-                AnnotationInfo annotationInfo = fieldInfo.getAnnotations().get(Relationship.class);
-                if (annotationInfo == null) {
-                    if (!fieldInfo.persistableAsProperty()) {
+        if (relationshipFields == null) {
+            initRelationshipFields();
+        }
+        return relationshipFields;
+    }
+
+    private synchronized void initRelationshipFields() {
+        if (relationshipFields == null) {
+            FieldInfo identityField = identityFieldOrNull();
+            Set<FieldInfo> fieldInfos = new HashSet<>();
+            for (FieldInfo fieldInfo : fieldsInfo().fields()) {
+                if (fieldInfo != identityField) {
+                    AnnotationInfo annotationInfo = fieldInfo.getAnnotations().get(Relationship.class);
+                    if (annotationInfo == null) {
+                        if (!fieldInfo.persistableAsProperty()) {
+                            fieldInfos.add(fieldInfo);
+                        }
+                    } else {
                         fieldInfos.add(fieldInfo);
                     }
-                } else {
-                    fieldInfos.add(fieldInfo);
                 }
             }
+
+            Map<String, Set<FieldInfo>> fieldsByKey = new HashMap<>();
+            for (FieldInfo fieldInfo : fieldInfos) {
+                // inferred first: FieldInfo#relationship records the inferred type on the annotation, which the
+                // strict lookups then see, as they did once a relationship had been looked up
+                for (boolean strict : new boolean[]{false, true}) {
+                    String relationship = strict ? fieldInfo.relationshipTypeAnnotation() : fieldInfo.relationship();
+                    if (relationship == null) {
+                        continue;
+                    }
+                    String direction = fieldInfo.relationshipDirection(Relationship.OUTGOING);
+                    if (direction.equals(Relationship.INCOMING) || direction.equals(Relationship.UNDIRECTED)) {
+                        fieldsByKey.computeIfAbsent(relationshipFieldKey(relationship, Relationship.INCOMING, strict), k -> new LinkedHashSet<>()).add(fieldInfo);
+                    }
+                    if (!direction.equals(Relationship.INCOMING)) {
+                        fieldsByKey.computeIfAbsent(relationshipFieldKey(relationship, Relationship.OUTGOING, strict), k -> new LinkedHashSet<>()).add(fieldInfo);
+                    }
+                }
+            }
+            this.relationshipFieldsByKey = fieldsByKey;
+            this.relationshipFields = Collections.unmodifiableSet(fieldInfos);
         }
-        return fieldInfos;
+    }
+
+    private static String relationshipFieldKey(String relationshipName, String relationshipDirection, boolean strict) {
+        return (strict ? "strict:" : "inferred:") + relationshipDirection + ":" + relationshipName.toUpperCase(Locale.ROOT);
+    }
+
+    private Set<FieldInfo> relationshipFields(String relationshipName, String relationshipDirection, boolean strict) {
+        if (relationshipFieldsByKey == null) {
+            initRelationshipFields();
+        }
+        Set<FieldInfo> fieldInfos = relationshipFieldsByKey.get(relationshipFieldKey(relationshipName, relationshipDirection, strict));
+        return fieldInfos == null ? Collections.emptySet() : fieldInfos;
     }
 
     /**
@@ -504,16 +549,8 @@ public class ClassInfo {
      * @return A FieldInfo object describing the required relationship field, or null if it doesn't exist.
      */
     public FieldInfo relationshipField(String relationshipName, String relationshipDirection, boolean strict) {
-        for (FieldInfo fieldInfo : relationshipFields()) {
-            String relationship = strict ? fieldInfo.relationshipTypeAnnotation() : fieldInfo.relationship();
-            if (relationshipName.equalsIgnoreCase(relationship)) {
-                if (((fieldInfo.relationshipDirection(Relationship.OUTGOING).equals(Relationship.INCOMING) || fieldInfo.relationshipDirection(Relationship.OUTGOING).equals(Relationship.UNDIRECTED)) && (relationshipDirection.equals(Relationship.INCOMING)))
-                        || (relationshipDirection.equals(Relationship.OUTGOING) && !(fieldInfo.relationshipDirection(Relationship.OUTGOING).equals(Relationship.INCOMING)))) {
-                    return fieldInfo;
-                }
-            }
-        }
-        return null;
+        Iterator<FieldInfo> fieldInfos = relationshipFields(relationshipName, relationshipDirection, strict).iterator();
+        return fieldInfos.hasNext() ? fieldInfos.next() : null;
     }
 
     /**
@@ -525,17 +562,7 @@ public class ClassInfo {
      * @return Set of  FieldInfo objects describing the required relationship field, or empty set if it doesn't exist.
      */
     public Set<FieldInfo> candidateRelationshipFields(String relationshipName, String relationshipDirection, boolean strict) {
-        Set<FieldInfo> candidateFields = new HashSet<>();
-        for (FieldInfo fieldInfo : relationshipFields()) {
-            String relationship = strict ? fieldInfo.relationshipTypeAnnotation() : fieldInfo.relationship();
-            if (relationshipName.equalsIgnoreCase(relationship)) {
-                if (((fieldInfo.relationshipDirection(Relationship.OUTGOING).equals(Relationship.INCOMING) || fieldInfo.relationshipDirection(Relationship.OUTGOING).equals(Relationship.UNDIRECTED)) && (relationshipDirection.equals(Relationship.INCOMING)))
-                        || (relationshipDirection.equals(Relationship.OUTGOING) && !(fieldInfo.relationshipDirection(Relationship.OUTGOING).equals(Relationship.INCOMING)))) {
-                    candidateFields.add(fieldInfo);
-                }
-            }
-        }
-        return candidateFields;
+        return new HashSet<>(relationshipFields(relationshipName, relationshipDirection, strict));
     }
 
     /**
@@ -645,8 +672,9 @@ public class ClassInfo {
      * @return {@link List} of {@link MethodInfo}, never <code>null</code>
      */
     public List<FieldInfo> findIterableFields(Class iteratedType) {
-        if (iterableFieldsForType.containsKey(iteratedType)) {
-            return iterableFieldsForType.get(iteratedType);
+        List<FieldInfo> cached = iterableFieldsForType.get(iteratedType);
+        if (cached != null) {
+            return cached;
         }
         List<FieldInfo> fieldInfos = new ArrayList<>();
         String typeSignature = iteratedType.getName();
@@ -696,6 +724,13 @@ public class ClassInfo {
         return annotationsInfo.get(Transient.class) != null;
     }
 
+    /**
+     * @return <code>true</code> if the class or one of its superclasses is annotated with {@link Cached}
+     */
+    public boolean isCached() {
+        return annotationsInfo.get(Cached.class) != null || (directSuperclass != null && directSuperclass.isCached());
+    }
+
     public boolean isAbstract() {
         return isAbstract;
     }
@@ -820,24 +855,33 @@ public class ClassInfo {
 
     public FieldInfo primaryIndexField() {
         if (!primaryIndexFieldChecked && primaryIndexField == null) {
+            initPrimaryIndexField();
+        }
 
+        return primaryIndexField;
+    }
+
+    private synchronized void initPrimaryIndexField() {
+        if (!primaryIndexFieldChecked && primaryIndexField == null) {
+
+            FieldInfo field = null;
             Collection<FieldInfo> primaryIndexFields = getFieldInfos(this::isPrimaryIndexField);
             if (primaryIndexFields.size() > 1) {
                 throw new MetadataException("Only one @Id / @Index(primary=true, unique=true) annotation is allowed in a class hierarchy. Please check annotations in the class " + name() + " or its parents");
             } else if (primaryIndexFields.size() == 1) {
-                primaryIndexField = primaryIndexFields.iterator().next();
-                AnnotationInfo generatedValueAnnotation = primaryIndexField.getAnnotations().get(GeneratedValue.class);
+                field = primaryIndexFields.iterator().next();
+                AnnotationInfo generatedValueAnnotation = field.getAnnotations().get(GeneratedValue.class);
                 if (generatedValueAnnotation != null) {
                     GeneratedValue value = (GeneratedValue) generatedValueAnnotation.getAnnotation();
                     idStrategyClass = value.strategy();
                     instantiateIdStrategy();
                 }
             }
-            validateIdGenerationConfig();
+            validateIdGenerationConfig(field);
+            // published last, a thread seeing the field sees its id strategy
+            primaryIndexField = field;
             primaryIndexFieldChecked = true;
         }
-
-        return primaryIndexField;
     }
 
     public boolean hasPrimaryIndexField() {
@@ -868,7 +912,7 @@ public class ClassInfo {
         }
     }
 
-    private void validateIdGenerationConfig() {
+    private void validateIdGenerationConfig(FieldInfo primaryIndexField) {
         fieldsInfo().fields().forEach(info -> {
             if (info.hasAnnotation(GeneratedValue.class) && !info.hasAnnotation(Id.class)) {
                 throw new MetadataException("The type of @Generated field in class " + className + " must be also annotated with @Id.");
@@ -908,8 +952,8 @@ public class ClassInfo {
         if (!isPostLoadMethodMapped) {
             for (MethodInfo methodInfo : methodsInfo().methods()) {
                 if (methodInfo.hasAnnotation(PostLoad.class.getName())) {
-                    isPostLoadMethodMapped = true;
                     postLoadMethod = methodInfo;
+                    isPostLoadMethodMapped = true;
                     return postLoadMethod;
                 }
             }
@@ -932,6 +976,19 @@ public class ClassInfo {
         return null;
     }
 
+    /**
+     * @return the plan writing the properties of a node or relationship to instances of this class
+     */
+    public PropertyWritePlan propertyWritePlan() {
+        PropertyWritePlan plan = propertyWritePlan;
+        if (plan == null) {
+            plan = new PropertyWritePlan(this);
+            // built from immutable metadata, concurrent callers may build equal plans
+            propertyWritePlan = plan;
+        }
+        return plan;
+    }
+
     /**
      * Return a FieldInfo for the EndNode of a RelationshipEntity
      *
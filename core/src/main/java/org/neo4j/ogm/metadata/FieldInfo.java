@@ -16,9 +16,11 @@ package org.neo4j.ogm.metadata;
 
 import java.lang.reflect.*;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.neo4j.ogm.annotation.*;
 import org.neo4j.ogm.exception.core.MappingException;
+import org.neo4j.ogm.metadata.reflect.FieldAccessor;
 import org.neo4j.ogm.session.Utils;
 import org.neo4j.ogm.typeconversion.AttributeConverter;
 import org.neo4j.ogm.typeconversion.CompositeAttributeConverter;
@@ -64,7 +66,10 @@ public class FieldInfo {
     private final boolean isArray;
     private final ClassInfo containingClassInfo;
     private final Field field;
+    private final FieldAccessor accessor;
     private final Class<?> fieldType;
+    // the coercion of the values of a scalar field, resolved on first write
+    private volatile Function<Object, Object> coercion;
     /**
      * The associated attribute converter for this field, if applicable, otherwise null.
      */
@@ -86,8 +91,8 @@ public class FieldInfo {
     public FieldInfo(ClassInfo classInfo, Field field, String typeParameterDescriptor, ObjectAnnotations annotations) {
         this.containingClassInfo = classInfo;
         this.field = field;
+        this.accessor = FieldAccessor.of(field);
         this.fieldType = field.getType();
-        field.getModifiers();
         this.isArray = field.getType().isArray();
         this.name = field.getName();
         this.descriptor = field.getType().getTypeName();
@@ -380,16 +385,24 @@ public class FieldInfo {
 
         if (hasPropertyConverter()) {
             value = getPropertyConverter().toEntityAttribute(value);
-            write(field, instance, value);
+            accessor.write(instance, value);
         } else {
             if (isScalar()) {
-                String descriptor = getTypeDescriptor();
-                value = Utils.coerceTypes(ClassUtils.getType(descriptor), value);
+                value = coercion().apply(value);
             }
-            write(field, instance, value);
+            accessor.write(instance, value);
         }
     }
 
+    private Function<Object, Object> coercion() {
+        Function<Object, Object> function = coercion;
+        if (function == null) {
+            function = Utils.coercion(ClassUtils.getType(getTypeDescriptor()));
+            coercion = function;
+        }
+        return function;
+    }
+
     /**
      * Write the value of the field directly to the instance, bypassing the converters
      *
@@ -397,7 +410,7 @@ public class FieldInfo {
      * @param value field value to be written
      */
     public void writeDirect(Object instance, Object value) {
-        write(field, instance, value);
+        accessor.write(instance, value);
     }
 
     public Class<?> type() {
@@ -421,7 +434,7 @@ public class FieldInfo {
     }
 
     public Object read(Object instance) {
-        return read(containingClassInfo.getField(this), instance);
+        return accessor.read(instance);
     }
 
     public Object readProperty(Object instance) {
@@ -429,7 +442,7 @@ public class FieldInfo {
             throw new IllegalStateException(
                     "The readComposite method should be used for fields with a CompositeAttributeConverter");
         }
-        Object value = read(containingClassInfo.getField(this), instance);
+        Object value = accessor.read(instance);
         if (hasPropertyConverter()) {
             value = getPropertyConverter().toGraphProperty(value);
         }
@@ -441,7 +454,7 @@ public class FieldInfo {
             throw new IllegalStateException(
                     "readComposite should only be used when a field is annotated with a CompositeAttributeConverter");
         }
-        Object value = read(containingClassInfo.getField(this), instance);
+        Object value = accessor.read(instance);
         return getCompositeConverter().toGraphProperties(value);
     }
 
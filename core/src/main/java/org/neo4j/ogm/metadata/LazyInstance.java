@@ -20,9 +20,10 @@ import java.util.function.Supplier;
  */
 class LazyInstance<T> {
 
-    private Supplier<T> supplier;
-    private T instance;
-    private boolean initialized = false;
+    private final Supplier<T> supplier;
+    // the instance is published before the flag, a thread seeing the flag set sees the instance
+    private volatile T instance;
+    private volatile boolean initialized = false;
 
     public LazyInstance(Supplier<T> supplier) {
         this.supplier = supplier;
@@ -19,6 +19,7 @@ import java.util.*;
 import org.neo4j.ogm.annotation.NodeEntity;
 import org.neo4j.ogm.annotation.RelationshipEntity;
 import org.neo4j.ogm.exception.core.AmbiguousBaseClassException;
+import org.neo4j.ogm.exception.core.MappingException;
 import org.neo4j.ogm.metadata.schema.DomainInfoSchemaBuilder;
 import org.neo4j.ogm.metadata.schema.Schema;
 import org.neo4j.ogm.typeconversion.ConversionCallback;
@@ -27,6 +28,13 @@ import org.slf4j.LoggerFactory;
 
 
 /**
+ * The mapping metadata of the domain classes, shared by all the sessions of a
+ * {@link org.neo4j.ogm.session.SessionFactory}.
+ * <p>
+ * The lookups the mappers make are resolved when the metadata is created: classes by name, label or relationship
+ * type, the class of the static label set of each entity, and the property, label, identity and relationship fields
+ * of each class. The metadata is not modified afterwards and may be read from any number of threads.
+ *
  * @author Vince Bickers
  * @author Luanne Misquitta
  */
@@ -36,11 +44,93 @@ public class MetaData {
 
     private final DomainInfo domainInfo;
     private final Schema schema;
-    private Map<String, ClassInfo> classInfos = new HashMap<>();
+
+    // first node entity with the label
+    private final Map<String, ClassInfo> nodeEntitiesByLabel;
+    // relationship entities with the type
+    private final Map<String, List<ClassInfo>> relationshipEntitiesByType;
+    // fully qualified name and each dotted suffix of it -> class
+    private final Map<String, ClassInfo> classesByName;
+    // suffixes shared by several classes
+    private final Set<String> ambiguousNames;
+    // label, then type, then name -> class
+    private final Map<String, ClassInfo> classInfos;
+    // static labels of each entity -> class they resolve to
+    private final Map<Set<String>, ClassInfo> resolvedTaxa;
 
     public MetaData(String... packages) {
         domainInfo = DomainInfo.create(packages);
         schema = new DomainInfoSchemaBuilder(domainInfo).build();
+
+        nodeEntitiesByLabel = new HashMap<>();
+        List<ClassInfo> nodeEntities = domainInfo.getClassInfosWithAnnotation(NodeEntity.class.getName());
+        if (nodeEntities != null) {
+            for (ClassInfo nodeEntity : nodeEntities) {
+                AnnotationInfo annotationInfo = nodeEntity.annotationsInfo().get(NodeEntity.class.getName());
+                nodeEntitiesByLabel.putIfAbsent(annotationInfo.get("label", nodeEntity.neo4jName()), nodeEntity);
+            }
+        }
+
+        relationshipEntitiesByType = new HashMap<>();
+        List<ClassInfo> relationshipEntities = domainInfo.getClassInfosWithAnnotation(RelationshipEntity.class.getName());
+        if (relationshipEntities != null) {
+            for (ClassInfo relationshipEntity : relationshipEntities) {
+                AnnotationInfo annotationInfo = relationshipEntity.annotationsInfo().get(RelationshipEntity.class.getName());
+                relationshipEntitiesByType.computeIfAbsent(annotationInfo.get("type", relationshipEntity.neo4jName()), k -> new ArrayList<>())
+                        .add(relationshipEntity);
+            }
+        }
+
+        classesByName = new HashMap<>();
+        ambiguousNames = new HashSet<>();
+        for (Map.Entry<String, ClassInfo> entry : domainInfo.getClassInfoMap().entrySet()) {
+            String fqn = entry.getKey();
+            for (int i = -1; i < fqn.length(); i = fqn.indexOf('.', i + 1)) {
+                String name = fqn.substring(i + 1);
+                ClassInfo other = classesByName.putIfAbsent(name, entry.getValue());
+                if (other != null && other != entry.getValue()) {
+                    ambiguousNames.add(name);
+                }
+                if (fqn.indexOf('.', i + 1) < 0) {
+                    break;
+                }
+            }
+        }
+        classesByName.keySet().removeAll(ambiguousNames);
+
+        classInfos = new HashMap<>(classesByName);
+        relationshipEntitiesByType.forEach((type, classes) -> classInfos.put(type, classes.get(0)));
+        classInfos.putAll(nodeEntitiesByLabel);
+
+        resolvedTaxa = new HashMap<>();
+        for (ClassInfo classInfo : persistentEntities()) {
+            precompute(classInfo);
+        }
+    }
+
+    // resolves what the mappers look up lazily, an invalid mapping is left to be reported when the class is used
+    private void precompute(ClassInfo classInfo) {
+        try {
+            classInfo.identityFieldOrNull();
+            classInfo.propertyFields();
+            classInfo.relationshipFields();
+            classInfo.labelFieldOrNull();
+            classInfo.primaryIndexField();
+            classInfo.postLoadMethodOrNull();
+            classInfo.getIndexFields();
+            classInfo.propertyWritePlan();
+
+            Collection<String> labels = classInfo.staticLabels();
+            if (!labels.isEmpty()) {
+                Set<String> taxa = new HashSet<>(labels);
+                ClassInfo resolved = resolveTaxa(taxa.toArray(new String[taxa.size()]));
+                if (resolved != null) {
+                    resolvedTaxa.putIfAbsent(taxa, resolved);
+                }
+            }
+        } catch (RuntimeException e) {
+            LOGGER.debug("Could not precompute the metadata of {}: {}", classInfo.name(), e.getMessage());
+        }
     }
 
     public Schema getSchema() {
@@ -55,31 +145,19 @@ public class MetaData {
      * @return A ClassInfo matching the supplied name, or null if it doesn't exist
      */
     public ClassInfo classInfo(String name) {
-        if (classInfos.containsKey(name)) {
-            return classInfos.get(name);
-        }
-
-        ClassInfo classInfo = _classInfo(name, NodeEntity.class.getName(), "label");
-        if (classInfo != null) {
-            classInfos.put(name, classInfo);
-            return classInfo;
-        }
-
-        classInfo = _classInfo(name, RelationshipEntity.class.getName(), "type");
-        if (classInfo != null) {
-            classInfos.put(name, classInfo);
-            return classInfo;
+        ClassInfo classInfo = classInfos.get(name);
+        if (classInfo == null && ambiguousNames.contains(name)) {
+            throw new MappingException("More than one class has simple name: " + name);
         }
+        return classInfo;
+    }
 
-        classInfo = domainInfo.getClassSimpleName(name);
-        if (classInfo != null) {
-            classInfos.put(name, classInfo);
-            return classInfo;
+    // the class with the given fully qualified or partial name, as DomainInfo#getClassSimpleName finds it
+    private ClassInfo classInfoByName(String name) {
+        if (ambiguousNames.contains(name)) {
+            throw new MappingException("More than one class has simple name: " + name);
         }
-
-        // not found
-        classInfos.put(name, null);
-        return null;
+        return classesByName.get(name);
     }
 
 
@@ -93,35 +171,6 @@ public class MetaData {
         return classInfo(object.getClass().getName());
     }
 
-    private ClassInfo _classInfo(String name, String nodeEntityAnnotation, String annotationPropertyName) {
-        List<ClassInfo> labelledClasses = domainInfo.getClassInfosWithAnnotation(nodeEntityAnnotation);
-        if (labelledClasses != null) {
-            for (ClassInfo labelledClass : labelledClasses) {
-                AnnotationInfo annotationInfo = labelledClass.annotationsInfo().get(nodeEntityAnnotation);
-                String value = annotationInfo.get(annotationPropertyName, labelledClass.neo4jName());
-                if (value.equals(name)) {
-                    return labelledClass;
-                }
-            }
-        }
-        return null;
-    }
-
-    private Set<ClassInfo> _classInfos(String name, String nodeEntityAnnotation) {
-        Set<ClassInfo> classInfos = new HashSet<>();
-        List<ClassInfo> labelledClasses = domainInfo.getClassInfosWithAnnotation(nodeEntityAnnotation);
-        if (labelledClasses != null) {
-            for (ClassInfo labelledClass : labelledClasses) {
-                AnnotationInfo annotationInfo = labelledClass.annotationsInfo().get(nodeEntityAnnotation);
-                String value = annotationInfo.get("type", labelledClass.neo4jName());
-                if (value.equals(name)) {
-                    classInfos.add(labelledClass);
-                }
-            }
-        }
-        return classInfos;
-    }
-
     /**
      * Given an set of names (simple or fully-qualified) that are possibly within a type hierarchy, this function returns the
      * base class from among them.
@@ -130,6 +179,16 @@ public class MetaData {
      * @return The ClassInfo representing the base class among the taxa or <code>null</code> if it cannot be found
      */
     public ClassInfo resolve(String... taxa) {
+        if (taxa.length > 0) {
+            ClassInfo resolved = resolvedTaxa.get(new HashSet<>(Arrays.asList(taxa)));
+            if (resolved != null) {
+                return resolved;
+            }
+        }
+        return resolveTaxa(taxa);
+    }
+
+    private ClassInfo resolveTaxa(String... taxa) {
 
         if (taxa.length > 0) {
 
@@ -206,17 +265,15 @@ public class MetaData {
 
         Set<ClassInfo> classInfos = new HashSet<>();
 
-        ClassInfo classInfo = _classInfo(name, NodeEntity.class.getName(), "label");
+        ClassInfo classInfo = nodeEntitiesByLabel.get(name);
         if (classInfo != null) {
             classInfos.add(classInfo);
         }
 
         //Potentially many relationship entities annotated with the same type
-        for (ClassInfo info : _classInfos(name, RelationshipEntity.class.getName())) {
-            classInfos.add(info);
-        }
+        classInfos.addAll(relationshipEntitiesByType.getOrDefault(name, Collections.emptyList()));
 
-        classInfo = domainInfo.getClassSimpleName(name);
+        classInfo = classInfoByName(name);
         if (classInfo != null) {
             classInfos.add(classInfo);
         }
@@ -261,8 +318,8 @@ public class MetaData {
     }
 
     private ClassInfo findSingleImplementor(String taxon) {
-        ClassInfo interfaceInfo = domainInfo.getClassInfoForInterface(taxon);
-        if (interfaceInfo != null && interfaceInfo.directImplementingClasses() != null && interfaceInfo.directImplementingClasses().size() == 1) {
+        ClassInfo interfaceInfo = classInfoByName(taxon);
+        if (interfaceInfo != null && interfaceInfo.isInterface() && interfaceInfo.directImplementingClasses() != null && interfaceInfo.directImplementingClasses().size() == 1) {
             return interfaceInfo.directImplementingClasses().get(0);
         }
         return null;
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata;
+
+import java.util.*;
+
+import org.neo4j.ogm.metadata.reflect.EntityAccessManager;
+import org.neo4j.ogm.utils.ClassUtils;
+
+/**
+ * How the properties of a node or relationship are written to an instance of a class when it is hydrated.
+ * <p>
+ * The plan is compiled once per {@link ClassInfo}: each graph property key is mapped to a {@link PropertyWriter}
+ * holding the field to write, whether the value is merged into a collection or an array first and the element type of
+ * that merge. The field keeps the coercion of its values. Writing a property is a map lookup on its key instead of
+ * resolving the field, its converted type and its element type for every property of every entity.
+ */
+public class PropertyWritePlan {
+
+    private static final Object[] NO_VALUES = new Object[0];
+
+    private final Map<String, PropertyWriter> writers;
+    private final Map<String, PropertyWriter> writersByLowerCaseKey;
+    private final FieldInfo labelField;
+    private final Collection<FieldInfo> compositeFields;
+
+    PropertyWritePlan(ClassInfo classInfo) {
+        this.writers = new HashMap<>();
+        this.writersByLowerCaseKey = new HashMap<>();
+        for (FieldInfo fieldInfo : classInfo.propertyFields()) {
+            String key = fieldInfo.property();
+            // the field ClassInfo#propertyField resolves the key to, should several fields share it
+            PropertyWriter writer = writersByLowerCaseKey.computeIfAbsent(key.toLowerCase(),
+                    k -> new PropertyWriter(classInfo.propertyField(k)));
+            writers.put(key, writer);
+        }
+        this.labelField = classInfo.labelFieldOrNull();
+        if (labelField != null) {
+            // an exact match on the label field takes precedence, as in ClassInfo#getFieldInfo
+            writers.put(labelField.getName(), new PropertyWriter(labelField));
+        }
+        this.compositeFields = classInfo.fieldsInfo().compositeFields();
+    }
+
+    /**
+     * @param propertyKey the key of a property in the graph
+     * @return the writer of the property, <code>null</code> if the class has no field for it
+     */
+    public PropertyWriter writer(String propertyKey) {
+        PropertyWriter writer = writers.get(propertyKey);
+        if (writer == null) {
+            // property names are matched regardless of their case, see ClassInfo#propertyField
+            writer = writersByLowerCaseKey.get(propertyKey.toLowerCase());
+        }
+        return writer;
+    }
+
+    /**
+     * @return the writer of the dynamic labels of the class, <code>null</code> if it has no label field
+     */
+    public PropertyWriter labelWriter() {
+        return labelField == null ? null : writers.get(labelField.getName());
+    }
+
+    /**
+     * @return the fields of the class written by a {@link org.neo4j.ogm.typeconversion.CompositeAttributeConverter}
+     */
+    public Collection<FieldInfo> compositeFields() {
+        return compositeFields;
+    }
+
+    /**
+     * Writes the values of one property to instances of the class.
+     */
+    public static final class PropertyWriter {
+
+        private final FieldInfo fieldInfo;
+        // the array or collection type values are merged into, null for other fields
+        private final Class<?> mergedType;
+        private final Class<?> elementType;
+
+        PropertyWriter(FieldInfo fieldInfo) {
+            this.fieldInfo = fieldInfo;
+            Class<?> type = fieldInfo.type();
+            if (type.isArray() || Iterable.class.isAssignableFrom(type)) {
+                this.mergedType = type;
+                this.elementType = ClassUtils.getType(fieldInfo.getTypeDescriptor());
+            } else {
+                this.mergedType = null;
+                this.elementType = null;
+            }
+        }
+
+        public FieldInfo fieldInfo() {
+            return fieldInfo;
+        }
+
+        /**
+         * Writes a property value, merging iterables and arrays into the type of the field and coercing it to the
+         * attribute type.
+         *
+         * @param instance the instance to write to
+         * @param value the value of the property in the graph
+         */
+        public void write(Object instance, Object value) {
+            if (mergedType != null) {
+                if (mergedType.isArray()) {
+                    value = EntityAccessManager.merge(mergedType, value, NO_VALUES, elementType);
+                } else {
+                    value = EntityAccessManager.merge(mergedType, value, Collections.emptyList(), elementType);
+                }
+            }
+            fieldInfo.write(instance, value);
+        }
+    }
+}
@@ -15,6 +15,7 @@ package org.neo4j.ogm.metadata.reflect;
 
 import java.lang.reflect.Array;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.context.DirectedRelationship;
@@ -252,9 +253,10 @@ public class EntityAccessManager {
         return value;
     }
 
-    private static Map<ClassInfo, Map<DirectedRelationship, FieldInfo>> relationalReaderCache = new HashMap<>();
-    private static Map<ClassInfo, Map<DirectedRelationshipForType, FieldInfo>> relationalWriterCache = new HashMap<>();
-    private static Map<ClassInfo, Map<DirectedRelationshipForType, FieldInfo>> iterableWriterCache = new HashMap<>();
+    // shared by all the sessions, absent fields are cached as empty
+    private static final Map<ClassInfo, Map<DirectedRelationship, Optional<FieldInfo>>> relationalReaderCache = new ConcurrentHashMap<>();
+    private static final Map<ClassInfo, Map<DirectedRelationshipForType, Optional<FieldInfo>>> relationalWriterCache = new ConcurrentHashMap<>();
+    private static final Map<ClassInfo, Map<DirectedRelationshipForType, Optional<FieldInfo>>> iterableWriterCache = new ConcurrentHashMap<>();
 
     private static final boolean STRICT_MODE = true; //strict mode for matching readers and writers, will only look for explicit annotations
     private static final boolean INFERRED_MODE = false; //inferred mode for matching readers and writers, will infer the relationship type from the getter/setter
@@ -284,13 +286,12 @@ public class EntityAccessManager {
      */
     public static FieldInfo getRelationalWriter(ClassInfo classInfo, String relationshipType, String relationshipDirection, Class<?> objectType) {
 
-        if (!relationalWriterCache.containsKey(classInfo)) {
-            relationalWriterCache.put(classInfo, new HashMap<>());
-        }
+        Map<DirectedRelationshipForType, Optional<FieldInfo>> cache = relationalWriterCache.computeIfAbsent(classInfo, k -> new ConcurrentHashMap<>());
 
         DirectedRelationshipForType directedRelationship = new DirectedRelationshipForType(relationshipType, relationshipDirection, objectType);
-        if (relationalWriterCache.get(classInfo).containsKey(directedRelationship)) {
-            return relationalWriterCache.get(classInfo).get(directedRelationship);
+        Optional<FieldInfo> cached = cache.get(directedRelationship);
+        if (cached != null) {
+            return cached.orElse(null);
         }
 
         ClassInfo lookupClassInfo = classInfo;
@@ -303,7 +304,7 @@ public class EntityAccessManager {
                     if (fieldInfo.isTypeOf(objectType) ||
                             fieldInfo.isParameterisedTypeOf(objectType) ||
                             fieldInfo.isArrayOf(objectType)) {
-                        relationalWriterCache.get(lookupClassInfo).put(directedRelationship, fieldInfo);
+                        cache.put(directedRelationship, Optional.of(fieldInfo));
                         return fieldInfo;
                     }
                 }
@@ -320,7 +321,7 @@ public class EntityAccessManager {
                         if (fieldInfo.isTypeOf(objectType) ||
                                 fieldInfo.isParameterisedTypeOf(objectType) ||
                                 fieldInfo.isArrayOf(objectType)) {
-                            relationalWriterCache.get(lookupClassInfo).put(directedRelationship, fieldInfo);
+                            cache.put(directedRelationship, Optional.of(fieldInfo));
                             return fieldInfo;
                         }
                     }
@@ -332,7 +333,7 @@ public class EntityAccessManager {
                         if (fieldInfo.isTypeOf(objectType) ||
                                 fieldInfo.isParameterisedTypeOf(objectType) ||
                                 fieldInfo.isArrayOf(objectType)) {
-                            relationalWriterCache.get(lookupClassInfo).put(directedRelationship, fieldInfo);
+                            cache.put(directedRelationship, Optional.of(fieldInfo));
                             return fieldInfo;
                         }
                     }
@@ -343,7 +344,7 @@ public class EntityAccessManager {
                 if (fieldInfos.size() == 1) {
                     FieldInfo candidateFieldInfo = fieldInfos.iterator().next();
                     if (!candidateFieldInfo.relationshipDirection(Relationship.UNDIRECTED).equals(Relationship.INCOMING)) {
-                        relationalWriterCache.get(lookupClassInfo).put(directedRelationship, candidateFieldInfo);
+                        cache.put(directedRelationship, Optional.of(candidateFieldInfo));
                         return candidateFieldInfo;
                     }
                 }
@@ -351,7 +352,7 @@ public class EntityAccessManager {
             // walk up the object hierarchy
             classInfo = classInfo.directSuperclass();
         }
-        relationalWriterCache.get(lookupClassInfo).put(directedRelationship, null);
+        cache.put(directedRelationship, Optional.empty());
         return null;
     }
 
@@ -365,13 +366,12 @@ public class EntityAccessManager {
      */
     public static FieldInfo getRelationalReader(ClassInfo classInfo, String relationshipType, String relationshipDirection) {
 
-        if (!relationalReaderCache.containsKey(classInfo)) {
-            relationalReaderCache.put(classInfo, new HashMap<>());
-        }
+        Map<DirectedRelationship, Optional<FieldInfo>> cache = relationalReaderCache.computeIfAbsent(classInfo, k -> new ConcurrentHashMap<>());
 
         DirectedRelationship directedRelationship = new DirectedRelationship(relationshipType, relationshipDirection);
-        if (relationalReaderCache.get(classInfo).containsKey(directedRelationship)) {
-            return relationalReaderCache.get(classInfo).get(directedRelationship);
+        Optional<FieldInfo> cached = cache.get(directedRelationship);
+        if (cached != null) {
+            return cached.orElse(null);
         }
 
         ClassInfo lookupClassInfo = classInfo;
@@ -380,7 +380,7 @@ public class EntityAccessManager {
             // 1st, try to find a field explicitly annotated with the neo4j relationship type and direction
             FieldInfo fieldInfo = classInfo.relationshipField(relationshipType, relationshipDirection, STRICT_MODE);
             if (fieldInfo != null && !fieldInfo.getAnnotations().isEmpty()) {
-                relationalReaderCache.get(lookupClassInfo).put(directedRelationship, fieldInfo);
+                cache.put(directedRelationship, Optional.of(fieldInfo));
                 return fieldInfo;
             }
 
@@ -391,19 +391,19 @@ public class EntityAccessManager {
                 // 3rd, try to find a field  annotated with the neo4j relationship type and direction, allowing for implied relationships
                 fieldInfo = classInfo.relationshipField(relationshipType, relationshipDirection, INFERRED_MODE);
                 if (fieldInfo != null && !fieldInfo.getAnnotations().isEmpty()) {
-                    relationalReaderCache.get(lookupClassInfo).put(directedRelationship, fieldInfo);
+                    cache.put(directedRelationship, Optional.of(fieldInfo));
                     return fieldInfo;
                 }
 
                 // 4th, try to find a "XYZ" field name where XYZ is derived from the relationship type
                 if (fieldInfo != null) {
-                    relationalReaderCache.get(lookupClassInfo).put(directedRelationship, fieldInfo);
+                    cache.put(directedRelationship, Optional.of(fieldInfo));
                     return fieldInfo;
                 }
             }
             classInfo = classInfo.directSuperclass();
         }
-        relationalReaderCache.get(lookupClassInfo).put(directedRelationship, null);
+        cache.put(directedRelationship, Optional.empty());
         return null;
     }
 
@@ -417,12 +417,11 @@ public class EntityAccessManager {
      * @return a valid FieldWriter or null if none is found
      */
     public static FieldInfo getIterableField(ClassInfo classInfo, Class<?> parameterType, String relationshipType, String relationshipDirection) {
-        if (!iterableWriterCache.containsKey(classInfo)) {
-            iterableWriterCache.put(classInfo, new HashMap<>());
-        }
+        Map<DirectedRelationshipForType, Optional<FieldInfo>> cache = iterableWriterCache.computeIfAbsent(classInfo, k -> new ConcurrentHashMap<>());
         DirectedRelationshipForType directedRelationshipForType = new DirectedRelationshipForType(relationshipType, relationshipDirection, parameterType);
-        if (iterableWriterCache.get(classInfo).containsKey(directedRelationshipForType)) {
-            return iterableWriterCache.get(classInfo).get(directedRelationshipForType);
+        Optional<FieldInfo> cached = cache.get(directedRelationshipForType);
+        if (cached != null) {
+            return cached.orElse(null);
         }
 
         ClassInfo lookupClassInfo = classInfo;
@@ -449,7 +448,7 @@ public class EntityAccessManager {
             }
             classInfo = classInfo.directSuperclass();
         }
-        iterableWriterCache.get(lookupClassInfo).put(directedRelationshipForType, null);
+        cache.put(directedRelationshipForType, Optional.empty());
         return null;
     }
 
@@ -494,6 +493,6 @@ public class EntityAccessManager {
             //Cache the writer for the superclass used in the type param
             directedRelationshipForType = new DirectedRelationshipForType(relationshipType, relationshipDirection, ClassUtils.getType(fieldInfo.getTypeDescriptor()));
         }
-        iterableWriterCache.get(classInfo).put(directedRelationshipForType, fieldAccessor);
+        iterableWriterCache.get(classInfo).put(directedRelationshipForType, Optional.of(fieldAccessor));
     }
 }
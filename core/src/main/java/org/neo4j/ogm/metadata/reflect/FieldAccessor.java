@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+import org.neo4j.ogm.exception.core.MappingException;
+
+/**
+ * Reads and writes a single field of an entity through method handles.
+ * <p>
+ * The handles are resolved once, when the field is first mapped, and adapted to an erased
+ * <code>(Object)Object</code> getter and <code>(Object, Object)void</code> setter so that each access is a plain
+ * <code>invokeExact</code>, without the access checks and argument validation of {@link Field#get(Object)} and
+ * {@link Field#set(Object, Object)}. Primitive fields are boxed and unboxed (with widening) by the adapted handles.
+ */
+public final class FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private FieldAccessor(Field field, MethodHandle getter, MethodHandle setter) {
+        this.field = field;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Creates the accessor for the given instance field.
+     *
+     * @param field the field to access, must neither be static nor final
+     * @return a new {@link FieldAccessor}
+     * @throws MappingException if the field cannot be made accessible
+     */
+    public static FieldAccessor of(Field field) {
+        try {
+            field.setAccessible(true);
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            return new FieldAccessor(field,
+                    lookup.unreflectGetter(field).asType(GETTER_TYPE),
+                    lookup.unreflectSetter(field).asType(SETTER_TYPE));
+        } catch (SecurityException | IllegalAccessException e) {
+            throw new MappingException("Unable to access field " + field, e);
+        }
+    }
+
+    public Object read(Object instance) {
+        try {
+            return (Object) getter.invokeExact(instance);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+
+    public void write(Object instance, Object value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException("Unable to set field " + field + " to " + value, t);
+        }
+    }
+
+    public Field getField() {
+        return field;
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.model.Result;
+
+/**
+ * Non blocking counterpart of the operations of a {@link Session}: each returns a {@link CompletionStage} completed
+ * with the result of the operation, or exceptionally with what it threw.
+ * <p>
+ * Operations run on an {@link Executor}, one after the other in the order they were called. A session isn't thread
+ * safe, the operations of an AsyncSession never run concurrently with each other, while those of different
+ * AsyncSessions do. A transaction is bound to the thread that began it, each operation runs in a transaction of its
+ * own unless it begins one with {@link #execute(Function)}.
+ * <p>
+ * The drivers are blocking, the executor runs the operations on its threads. The number of operations in flight is
+ * bounded by the threads of the executor, further operations wait for one of them rather than block their caller.
+ */
+public class AsyncSession {
+
+    private final Session session;
+    private final SerialExecutor executor;
+
+    /**
+     * @param session the session to run operations on, it should not be used directly while they run
+     * @param executor the executor to run operations on
+     */
+    public AsyncSession(Session session, Executor executor) {
+        this.session = session;
+        this.executor = new SerialExecutor(executor);
+    }
+
+    /**
+     * @return the session operations are run on
+     */
+    public Session session() {
+        return session;
+    }
+
+    /**
+     * Runs an operation on the session, after the operations called before it.
+     *
+     * @param operation the operation to run
+     * @return a stage completed with the result of the operation
+     */
+    public <R> CompletionStage<R> execute(Function<Session, R> operation) {
+        Operation<R> task = new Operation<>(operation);
+        executor.execute(task);
+        return task.result;
+    }
+
+    /**
+     * @see Session#load(Class, Serializable)
+     */
+    public <T, ID extends Serializable> CompletionStage<T> loadAsync(Class<T> type, ID id) {
+        return execute(session -> session.load(type, id));
+    }
+
+    /**
+     * @see Session#load(Class, Serializable, int)
+     */
+    public <T, ID extends Serializable> CompletionStage<T> loadAsync(Class<T> type, ID id, int depth) {
+        return execute(session -> session.load(type, id, depth));
+    }
+
+    /**
+     * @see Session#loadAll(Class)
+     */
+    public <T> CompletionStage<Collection<T>> loadAllAsync(Class<T> type) {
+        return execute(session -> session.loadAll(type));
+    }
+
+    /**
+     * @see Session#loadAll(Class, int)
+     */
+    public <T> CompletionStage<Collection<T>> loadAllAsync(Class<T> type, int depth) {
+        return execute(session -> session.loadAll(type, depth));
+    }
+
+    /**
+     * @see Session#loadAll(Class, Filters, int)
+     */
+    public <T> CompletionStage<Collection<T>> loadAllAsync(Class<T> type, Filters filters, int depth) {
+        return execute(session -> session.loadAll(type, filters, depth));
+    }
+
+    /**
+     * @see Session#loadAll(Class, Collection, int)
+     */
+    public <T, ID extends Serializable> CompletionStage<Collection<T>> loadAllAsync(Class<T> type, Collection<ID> ids, int depth) {
+        return execute(session -> session.loadAll(type, ids, depth));
+    }
+
+    /**
+     * @see Session#save(Object)
+     */
+    public <T> CompletionStage<Void> saveAsync(T object) {
+        return execute(session -> {
+            session.save(object);
+            return null;
+        });
+    }
+
+    /**
+     * @see Session#save(Object, int)
+     */
+    public <T> CompletionStage<Void> saveAsync(T object, int depth) {
+        return execute(session -> {
+            session.save(object, depth);
+            return null;
+        });
+    }
+
+    /**
+     * @see Session#query(Class, String, Map)
+     */
+    public <T> CompletionStage<Iterable<T>> queryAsync(Class<T> objectType, String cypher, Map<String, ?> parameters) {
+        return execute(session -> session.query(objectType, cypher, parameters));
+    }
+
+    /**
+     * @see Session#query(String, Map)
+     */
+    public CompletionStage<Result> queryAsync(String cypher, Map<String, ?> parameters) {
+        return execute(session -> session.query(cypher, parameters));
+    }
+
+    /**
+     * An operation on the session and the stage completed with its result.
+     */
+    private class Operation<R> implements Runnable {
+
+        private final Function<Session, R> operation;
+        private final CompletableFuture<R> result = new CompletableFuture<>();
+
+        Operation(Function<Session, R> operation) {
+            this.operation = operation;
+        }
+
+        @Override
+        public void run() {
+            try {
+                result.complete(operation.apply(session));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Runs the operations given to it on another executor one at a time, in the order they were given.
+     * <p>
+     * The next operation is handed to the executor by the thread of the operation before it, which can't report a
+     * rejection to anyone: when the executor rejects an operation, it and the operations waiting after it are completed
+     * exceptionally with the rejection.
+     */
+    private static class SerialExecutor {
+
+        private static final Runnable NO_REJECTION = () -> {
+        };
+
+        private final Queue<Operation<?>> operations = new ArrayDeque<>();
+        private final Executor executor;
+        private Operation<?> active;
+
+        SerialExecutor(Executor executor) {
+            this.executor = executor;
+        }
+
+        void execute(Operation<?> operation) {
+            Runnable rejection;
+            synchronized (this) {
+                operations.add(operation);
+                if (active != null) {
+                    return;
+                }
+                rejection = scheduleNext();
+            }
+            rejection.run();
+        }
+
+        private void next() {
+            Runnable rejection;
+            synchronized (this) {
+                rejection = scheduleNext();
+            }
+            rejection.run();
+        }
+
+        /**
+         * Hands the next operation to the executor.
+         *
+         * @return completes the operations the executor rejected, to be run once the lock is released as the stages of
+         * the operations may run further operations
+         */
+        private Runnable scheduleNext() {
+            if ((active = operations.poll()) == null) {
+                return NO_REJECTION;
+            }
+            Operation<?> operation = active;
+            try {
+                executor.execute(() -> {
+                    try {
+                        operation.run();
+                    } finally {
+                        next();
+                    }
+                });
+                return NO_REJECTION;
+            } catch (RejectedExecutionException e) {
+                List<Operation<?>> rejected = new ArrayList<>(operations.size() + 1);
+                rejected.add(operation);
+                rejected.addAll(operations);
+                operations.clear();
+                active = null;
+                return () -> {
+                    for (Operation<?> each : rejected) {
+                        each.result.completeExceptionally(e);
+                    }
+                };
+            }
+        }
+    }
+}
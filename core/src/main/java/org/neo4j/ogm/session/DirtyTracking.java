@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session;
+
+/**
+ * How a session finds out which of the entities it has loaded or saved were modified since.
+ */
+public enum DirtyTracking {
+
+    /**
+     * Keeps a 64-bit hash of the properties and labels of each entity. An entity whose hash changed is dirty and
+     * all its properties are written when it is saved.
+     */
+    HASH,
+
+    /**
+     * Keeps a copy of the property and label values of each entity, compared field by field when the entity is
+     * saved. Only the properties that changed are written.
+     * <p>
+     * Values are copied shallowly: arrays, collections and maps are copied but not their elements, and values of
+     * types that aren't known to be immutable are kept as their <code>toString()</code>, as they are hashed by
+     * {@link #HASH}.
+     */
+    PROPERTY_SNAPSHOT
+}
@@ -18,14 +18,20 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 import org.neo4j.ogm.annotation.EndNode;
 import org.neo4j.ogm.annotation.Property;
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.annotation.StartNode;
+import org.neo4j.ogm.context.EntityCache;
+import org.neo4j.ogm.context.LazyCollection;
 import org.neo4j.ogm.context.MappingContext;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.KeysetPage;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortClause;
 import org.neo4j.ogm.cypher.query.SortOrder;
@@ -39,6 +45,7 @@ import org.neo4j.ogm.request.Request;
 import org.neo4j.ogm.session.delegates.*;
 import org.neo4j.ogm.session.event.Event;
 import org.neo4j.ogm.session.event.EventListener;
+import org.neo4j.ogm.session.request.LoadStatementCache;
 import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 import org.neo4j.ogm.session.request.strategy.impl.NodeQueryStatements;
@@ -66,6 +73,14 @@ public class Neo4jSession implements Session {
     private final MetaData metaData;
     private final MappingContext mappingContext;
     private final DefaultTransactionManager txManager;
+    private final LoadStatementCache loadStatementCache;
+    private EntityCache entityCache;
+    private int loadChunkSize = Integer.MAX_VALUE;
+    private int loadParallelism = 1;
+    private Executor loadExecutor;
+    private int deleteChunkSize = 10_000;
+    private boolean lazyLoading;
+    private int lazyLoadBatchSize = 1;
 
     private final LoadOneDelegate loadOneHandler = new LoadOneDelegate(this);
     private final LoadByTypeDelegate loadByTypeHandler = new LoadByTypeDelegate(this);
@@ -75,6 +90,7 @@ public class Neo4jSession implements Session {
     private final DeleteDelegate deleteDelegate = new DeleteDelegate(this);
     private final ExecuteQueriesDelegate executeQueriesDelegate = new ExecuteQueriesDelegate(this);
     private final GraphIdDelegate graphIdDelegate = new GraphIdDelegate(this);
+    private final LazyLoadDelegate lazyLoadDelegate = new LazyLoadDelegate(this);
 
     private LoadStrategy loadStrategy;
 
@@ -84,20 +100,54 @@ public class Neo4jSession implements Session {
     private List<EventListener> registeredEventListeners = new LinkedList<>();
 
     public Neo4jSession(MetaData metaData, Driver driver) {
+        this(metaData, driver, new LoadStatementCache(), DirtyTracking.HASH);
+    }
+
+    private Neo4jSession(MetaData metaData, Driver driver, LoadStatementCache loadStatementCache, DirtyTracking dirtyTracking) {
 
         this.metaData = metaData;
         this.driver = driver;
 
-        this.mappingContext = new MappingContext(metaData);
+        this.mappingContext = new MappingContext(metaData, dirtyTracking);
         this.txManager = new DefaultTransactionManager(this, driver);
         this.loadStrategy = LoadStrategy.PATH_LOAD_STRATEGY;
+        this.loadStatementCache = loadStatementCache;
     }
 
     public Neo4jSession(MetaData metaData, Driver driver, List<EventListener> eventListeners, LoadStrategy loadStrategy) {
-        this(metaData, driver);
+        this(metaData, driver, eventListeners, loadStrategy, new LoadStatementCache());
+    }
+
+    /**
+     * @param loadStatementCache the cache of load statements, shared by the sessions of a {@link SessionFactory}
+     */
+    public Neo4jSession(MetaData metaData, Driver driver, List<EventListener> eventListeners, LoadStrategy loadStrategy,
+                        LoadStatementCache loadStatementCache) {
+        this(metaData, driver, eventListeners, loadStrategy, loadStatementCache, DirtyTracking.HASH);
+    }
+
+    /**
+     * @param loadStatementCache the cache of load statements, shared by the sessions of a {@link SessionFactory}
+     * @param dirtyTracking how the entities of the session are checked for changes when they are saved
+     */
+    public Neo4jSession(MetaData metaData, Driver driver, List<EventListener> eventListeners, LoadStrategy loadStrategy,
+                        LoadStatementCache loadStatementCache, DirtyTracking dirtyTracking) {
+        this(metaData, driver, eventListeners, loadStrategy, loadStatementCache, dirtyTracking, null);
+    }
+
+    /**
+     * @param loadStatementCache the cache of load statements, shared by the sessions of a {@link SessionFactory}
+     * @param dirtyTracking how the entities of the session are checked for changes when they are saved
+     * @param entityCache the cache of entities loaded by id, shared by the sessions of a {@link SessionFactory},
+     *                    <code>null</code> for none
+     */
+    public Neo4jSession(MetaData metaData, Driver driver, List<EventListener> eventListeners, LoadStrategy loadStrategy,
+                        LoadStatementCache loadStatementCache, DirtyTracking dirtyTracking, EntityCache entityCache) {
+        this(metaData, driver, loadStatementCache, dirtyTracking);
         registeredEventListeners.addAll(eventListeners);
 
         this.loadStrategy = loadStrategy;
+        this.entityCache = entityCache;
     }
 
     @Override
@@ -285,6 +335,36 @@ public class Neo4jSession implements Session {
         return loadByTypeHandler.loadAll(type, filters, sortOrder, pagination, depth);
     }
 
+    @Override
+    public <T> KeysetPage<T> loadPage(Class<T> type, SortOrder sortOrder, KeysetPagination pagination) {
+        return loadByTypeHandler.loadPage(type, new Filters(), sortOrder, pagination, 1);
+    }
+
+    @Override
+    public <T> KeysetPage<T> loadPage(Class<T> type, Filters filters, SortOrder sortOrder, KeysetPagination pagination, int depth) {
+        return loadByTypeHandler.loadPage(type, filters, sortOrder, pagination, depth);
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> type) {
+        return loadByTypeHandler.stream(type, new Filters(), new SortOrder(), null, 1);
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> type, int depth) {
+        return loadByTypeHandler.stream(type, new Filters(), new SortOrder(), null, depth);
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> type, Filters filters, int depth) {
+        return loadByTypeHandler.stream(type, filters, new SortOrder(), null, depth);
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination, int depth) {
+        return loadByTypeHandler.stream(type, filters, sortOrder, pagination, depth);
+    }
+
     /*
      *----------------------------------------------------------------------------------------------------------
      * loadByIdsHandler (no filters yet)
@@ -386,11 +466,21 @@ public class Neo4jSession implements Session {
         return executeQueriesDelegate.queryForObject(type, cypher, parameters);
     }
 
+    @Override
+    public <T> Iterable<T> queryForProjection(Class<T> type, String cypher, Map<String, ?> parameters) {
+        return executeQueriesDelegate.queryForProjection(type, cypher, parameters);
+    }
+
     @Override
     public <T> Iterable<T> query(Class<T> type, String cypher, Map<String, ?> parameters) {
         return executeQueriesDelegate.query(type, cypher, parameters);
     }
 
+    @Override
+    public <T> Stream<T> stream(Class<T> type, String cypher, Map<String, ?> parameters) {
+        return executeQueriesDelegate.stream(type, cypher, parameters);
+    }
+
     @Override
     public Result query(String cypher, Map<String, ?> parameters) {
         return executeQueriesDelegate.query(cypher, parameters);
@@ -424,6 +514,7 @@ public class Neo4jSession implements Session {
     @Override // Why is this here?
     public void clear() {
         deleteDelegate.clear();
+        lazyLoadDelegate.clear();
     }
 
     @Override
@@ -456,6 +547,16 @@ public class Neo4jSession implements Session {
         saveDelegate.save(object, depth);
     }
 
+    @Override
+    public <T> void ingest(Iterable<T> objects, int batchSize) {
+        saveDelegate.ingest(objects, batchSize, -1);
+    }
+
+    @Override
+    public <T> void ingest(Iterable<T> objects, int batchSize, int depth) {
+        saveDelegate.ingest(objects, batchSize, depth);
+    }
+
 
     /*
     *----------------------------------------------------------------------------------------------------------
@@ -521,6 +622,126 @@ public class Neo4jSession implements Session {
         }
     }
 
+    public LoadStatementCache loadStatementCache() {
+        return loadStatementCache;
+    }
+
+    public EntityCache entityCache() {
+        return entityCache;
+    }
+
+    /**
+     * Sets how loads by ids are split into chunks, each loaded by a query of its own.
+     *
+     * @param chunkSize the number of ids loaded by each query
+     * @param parallelism the number of chunks loaded at once, outside of transactions
+     * @param executor the executor chunks are loaded on concurrently, <code>null</code> when parallelism is 1
+     */
+    public void setLoadChunking(int chunkSize, int parallelism, Executor executor) {
+        if (chunkSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("Chunk size and parallelism must be at least 1");
+        }
+        if (parallelism > 1 && executor == null) {
+            throw new IllegalArgumentException("An executor is required to load chunks concurrently");
+        }
+        this.loadChunkSize = chunkSize;
+        this.loadParallelism = parallelism;
+        this.loadExecutor = executor;
+    }
+
+    public int loadChunkSize() {
+        return loadChunkSize;
+    }
+
+    public int loadParallelism() {
+        return loadParallelism;
+    }
+
+    public Executor loadExecutor() {
+        return loadExecutor;
+    }
+
+    /**
+     * Sets the number of ids deleted by each statement of a delete of several objects.
+     *
+     * @param chunkSize the number of ids deleted by each statement
+     */
+    public void setDeleteChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1");
+        }
+        this.deleteChunkSize = chunkSize;
+    }
+
+    public int deleteChunkSize() {
+        return deleteChunkSize;
+    }
+
+    /**
+     * Sets whether the entities loaded at depth 0 get lazy collections in their relationship fields instead of empty
+     * ones. A lazy collection loads its related entities at depth 0 on first access, along with up to the lazy load
+     * batch size of other lazy collections of the same relationship type and direction, see {@link LazyLoadDelegate}.
+     * Collections of relationship entities, arrays and fields the entity assigned a non empty collection to are left
+     * as they are.
+     *
+     * @param lazyLoading whether to load relationship collections lazily
+     */
+    public void setLazyLoading(boolean lazyLoading) {
+        this.lazyLoading = lazyLoading;
+    }
+
+    public boolean isLazyLoading() {
+        return lazyLoading;
+    }
+
+    /**
+     * Sets the number of entities whose lazy collections of a relationship type and direction are loaded together.
+     *
+     * @param batchSize the number of entities whose collections are loaded by each query, 1 to load only the
+     *                  collection accessed
+     */
+    public void setLazyLoadBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        this.lazyLoadBatchSize = batchSize;
+    }
+
+    public int lazyLoadBatchSize() {
+        return lazyLoadBatchSize;
+    }
+
+    /**
+     * Returns the loader of the lazy collections of the entities loaded at the given depth.
+     *
+     * @param depth the depth of the load
+     * @return the loader, null unless the session loads lazily and the depth is 0
+     */
+    public LazyCollection.Loader lazyLoader(int depth) {
+        return lazyLoading && depth == 0 ? lazyLoadDelegate : null;
+    }
+
+    /**
+     * Invalidates the cached entities containing nodes or relationships written through this session.
+     *
+     * @param nodeIds the ids of the nodes written
+     * @param relationshipIds the ids of the relationships written
+     */
+    public void invalidateCached(Collection<Long> nodeIds, Collection<Long> relationshipIds) {
+        if (entityCache != null) {
+            entityCache.written(getTransaction(), nodeIds, relationshipIds);
+        }
+    }
+
+    /**
+     * Invalidates all cached entities, after a write through this session to nodes or relationships not known.
+     */
+    public void invalidateCached() {
+        if (entityCache != null) {
+            entityCache.writtenAll(getTransaction());
+        }
+    }
+
     public String entityType(String name) {
         return metaData.entityType(name);
     }
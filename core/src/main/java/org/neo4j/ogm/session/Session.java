@@ -14,12 +14,19 @@
 package org.neo4j.ogm.session;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.neo4j.ogm.annotation.GraphId;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.KeysetPage;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.model.QueryStatistics;
@@ -62,6 +69,14 @@ import org.neo4j.ogm.transaction.Transaction;
  * If new state of the entity is required when reloading, use {@link Session#clear()} to clear current session before
  * reload.
  *
+ * <h2>Stream methods</h2>
+ * Methods {@code stream(...)} return the same entities as their {@code loadAll} and {@code query} counterparts, but
+ * hydrate them record by record while the stream is consumed instead of reading the whole response up front.
+ * The stream holds the underlying result open, it must be closed (for example with try-with-resources) unless it is
+ * consumed entirely. Results are only read lazily from the database within a transaction, an auto-commit
+ * transaction may buffer them. Streamed entities are registered in the session as loaded ones are, use
+ * {@link Session#detachNodeEntity(Long)} or {@link Session#clear()} to release the ones already processed.
+ *
  * @author Vince Bickers
  * @author Luanne Misquitta
  * @author Mark Angrish
@@ -531,6 +546,36 @@ public interface Session {
      */
     <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination, int depth);
 
+    /**
+     * Load a page of the entities of type, sorted by sort order, with default depth = 1.
+     *
+     * @param type type of entities
+     * @param sortOrder sort order, ordered by id last
+     * @param pagination keyset pagination, with the continuation token of the previous page
+     *
+     * @return page of entities
+     * @see #loadPage(Class, Filters, SortOrder, KeysetPagination, int)
+     */
+    <T> KeysetPage<T> loadPage(Class<T> type, SortOrder sortOrder, KeysetPagination pagination);
+
+    /**
+     * Load a page of the entities of type, filtered by filters and sorted by sort order.
+     * <p>
+     * Unlike a {@link Pagination}, which skips the entities of the previous pages, a page starts after the last entity
+     * of the previous page, by the values of its sort properties and its id. Deep pages are as fast as the first one
+     * when the sort properties are indexed. Pass the continuation token of a page to the pagination of the next one,
+     * with the same filters and sort order. Only node entities can be paged by keyset.
+     *
+     * @param type type of entities
+     * @param filters filters
+     * @param sortOrder sort order, ordered by id last
+     * @param pagination keyset pagination, with the continuation token of the previous page
+     * @param depth depth
+     *
+     * @return page of entities
+     */
+    <T> KeysetPage<T> loadPage(Class<T> type, Filters filters, SortOrder sortOrder, KeysetPagination pagination, int depth);
+
     /**
      * Load single entity instance of type, with default depth = 1
      *
@@ -567,6 +612,51 @@ public interface Session {
      */
     <T> void save(T object, int depth);
 
+    /**
+     * Save new entities in batches, with default depth = -1.
+     *
+     * @param objects entities to save
+     * @param batchSize number of entities saved per batch
+     * @see #ingest(Iterable, int, int)
+     */
+    default <T> void ingest(Iterable<T> objects, int batchSize) {
+        ingest(objects, batchSize, -1);
+    }
+
+    /**
+     * Save new entities in batches, up to specified depth, for loading amounts of data the session couldn't hold.
+     * <p>
+     * The entities are read from the iterable batchSize at a time and each batch is saved in a transaction of its
+     * own, unless a transaction is already open. The graph ids of new entities are set as by {@link #save(Object)},
+     * but the entities are not registered in the session nor in the open transaction: once its batch is written an
+     * entity is no longer referenced and the memory used doesn't grow with the number of entities. Rolling back the
+     * open transaction leaves the graph ids of the ingested entities set. Entities reached from several batches
+     * are saved with each of them. The entities of a {@link java.util.stream.Stream} can be passed as
+     * {@code stream::iterator}.
+     * <p>
+     * Save events are fired for the entities of the iterable, not for the entities reached from them.
+     * <p>
+     * The default implementation saves each batch with {@link #save(Object, int)}, so that the entities are registered
+     * in the session as by any save; {@link Neo4jSession} overrides it.
+     *
+     * @param objects entities to save
+     * @param batchSize number of entities saved per batch
+     * @param depth depth to save each entity to
+     */
+    default <T> void ingest(Iterable<T> objects, int batchSize, int depth) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1: " + batchSize);
+        }
+        Iterator<T> iterator = objects.iterator();
+        while (iterator.hasNext()) {
+            List<T> batch = new ArrayList<>(batchSize);
+            while (iterator.hasNext() && batch.size() < batchSize) {
+                batch.add(iterator.next());
+            }
+            save(batch, depth);
+        }
+    }
+
     /**
      * Delete entity (or entities)
      *
@@ -678,6 +768,21 @@ public interface Session {
      */
     <T> T queryForObject(Class<T> objectType, String cypher, Map<String, ?> parameters);
 
+    /**
+     * Given a cypher statement this method will return the rows as new instances of any class, each column bound to
+     * the constructor parameter or the field of the same name. Columns are named by their alias.
+     * The instances are not registered in this session: they are neither identity mapped nor checked for changes
+     * when saving, which suits read only queries returning many rows.
+     *
+     * @param type The type each row is projected onto, not necessarily a domain class.
+     * @param cypher The parametrizable cypher to execute.
+     * @param parameters Any parameters to attach to the cypher.
+     * @param <T> The type of the projections.
+     * @return An {@link Iterable} of instances of the type, one per row
+     * @throws org.neo4j.ogm.exception.core.MappingException If the columns cannot be bound to the type.
+     */
+    <T> Iterable<T> queryForProjection(Class<T> type, String cypher, Map<String, ?> parameters);
+
     /**
      * a cypher statement this method will return a collection of domain objects that is hydrated to
      * the default level or a collection of scalars (depending on the parametrized type).
@@ -690,6 +795,71 @@ public interface Session {
      */
     <T> Iterable<T> query(Class<T> objectType, String cypher, Map<String, ?> parameters);
 
+    /**
+     * Stream all entities of type, with default depth = 1.
+     *
+     * @param type type of entities
+     *
+     * @return stream of entities, to be closed when not consumed entirely
+     */
+    default <T> Stream<T> stream(Class<T> type) {
+        return loadAll(type).stream();
+    }
+
+    /**
+     * Stream all entities of type.
+     *
+     * @param type type of entities
+     * @param depth depth
+     *
+     * @return stream of entities, to be closed when not consumed entirely
+     */
+    default <T> Stream<T> stream(Class<T> type, int depth) {
+        return loadAll(type, depth).stream();
+    }
+
+    /**
+     * Stream all entities of type, filtered by filters.
+     *
+     * @param type type of entities
+     * @param filters filters
+     * @param depth depth
+     *
+     * @return stream of entities, to be closed when not consumed entirely
+     */
+    default <T> Stream<T> stream(Class<T> type, Filters filters, int depth) {
+        return loadAll(type, filters, depth).stream();
+    }
+
+    /**
+     * Stream all entities of type, filtered by filters.
+     *
+     * @param type type of entities
+     * @param filters filters
+     * @param sortOrder sort order
+     * @param pagination pagination
+     * @param depth depth
+     *
+     * @return stream of entities, to be closed when not consumed entirely
+     */
+    default <T> Stream<T> stream(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination,
+        int depth) {
+        return loadAll(type, filters, sortOrder, pagination, depth).stream();
+    }
+
+    /**
+     * Same as {@link #query(Class, String, Map)}, but maps the domain objects or scalars as the stream is consumed.
+     *
+     * @param objectType The type that should be returned from the query.
+     * @param cypher The parametrizable cypher to execute.
+     * @param parameters Any parameters to attach to the cypher.
+     * @param <T> A domain object or scalar.
+     * @return A stream of domain objects or scalars, to be closed when not consumed entirely
+     */
+    default <T> Stream<T> stream(Class<T> objectType, String cypher, Map<String, ?> parameters) {
+        return StreamSupport.stream(query(objectType, cypher, parameters).spliterator(), false);
+    }
+
     /**
      * a cypher statement this method will return a Result object containing a collection of Map's which represent Neo4j
      * objects as properties, along with query statistics if applicable.
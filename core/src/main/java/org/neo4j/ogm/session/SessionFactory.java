@@ -16,15 +16,22 @@ package org.neo4j.ogm.session;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.neo4j.ogm.autoindex.AutoIndexManager;
 import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.context.EntityCache;
 import org.neo4j.ogm.driver.Driver;
 import org.neo4j.ogm.exception.core.ConfigurationException;
 import org.neo4j.ogm.id.IdStrategy;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.session.event.EventListener;
+import org.neo4j.ogm.session.request.LoadStatementCache;
 
 import static java.util.Objects.requireNonNull;
 
@@ -40,11 +47,24 @@ import static java.util.Objects.requireNonNull;
  */
 public class SessionFactory {
 
+    private static final int DEFAULT_ASYNC_THREADS = 50;
+
     private final MetaData metaData;
     private final Driver driver;
     private final List<EventListener> eventListeners;
+    private final LoadStatementCache loadStatementCache = new LoadStatementCache();
 
     private LoadStrategy loadStrategy = LoadStrategy.SCHEMA_LOAD_STRATEGY;
+    private DirtyTracking dirtyTracking = DirtyTracking.HASH;
+    private EntityCache entityCache;
+    private int loadChunkSize = Integer.MAX_VALUE;
+    private int loadParallelism = 1;
+    private int deleteChunkSize = 10_000;
+    private boolean lazyLoading;
+    private int lazyLoadBatchSize = 1;
+
+    private Executor asyncExecutor;
+    private ExecutorService defaultAsyncExecutor;
 
     /**
      * Constructs a new {@link SessionFactory} by initialising the object-graph mapping meta-data from the given list of domain
@@ -125,7 +145,54 @@ public class SessionFactory {
      * @return A new {@link Session}
      */
     public Session openSession() {
-        return new Neo4jSession(metaData, driver, eventListeners, loadStrategy);
+        Neo4jSession session = new Neo4jSession(metaData, driver, eventListeners, loadStrategy, loadStatementCache,
+                dirtyTracking, entityCache);
+        session.setLoadChunking(loadChunkSize, loadParallelism, loadParallelism > 1 ? asyncExecutor() : null);
+        session.setDeleteChunkSize(deleteChunkSize);
+        session.setLazyLoading(lazyLoading);
+        session.setLazyLoadBatchSize(lazyLoadBatchSize);
+        return session;
+    }
+
+    /**
+     * Opens a new {@link AsyncSession}, running the operations of a new {@link Session} on the executor of this
+     * factory.
+     *
+     * @return A new {@link AsyncSession}
+     * @see #setAsyncExecutor(Executor)
+     */
+    public AsyncSession openAsyncSession() {
+        return new AsyncSession(openSession(), asyncExecutor());
+    }
+
+    private synchronized Executor asyncExecutor() {
+        if (asyncExecutor == null) {
+            defaultAsyncExecutor = Executors.newFixedThreadPool(DEFAULT_ASYNC_THREADS, new ThreadFactory() {
+
+                private final AtomicInteger count = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "neo4j-ogm-async-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            asyncExecutor = defaultAsyncExecutor;
+        }
+        return asyncExecutor;
+    }
+
+    /**
+     * Sets the Executor the operations of async sessions are run on
+     * <p>
+     * Will be used by subsequently opened async sessions. By default a pool of 50 threads, the default size of the
+     * connection pool of the drivers, is created with the first async session and shut down with this factory.
+     *
+     * @param asyncExecutor executor, not shut down by this factory
+     */
+    public synchronized void setAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = requireNonNull(asyncExecutor);
     }
 
     /**
@@ -170,6 +237,171 @@ public class SessionFactory {
         this.loadStrategy = loadStrategy;
     }
 
+    /**
+     * Returns the DirtyTracking of the sessions opened by this factory, {@link DirtyTracking#HASH} by default.
+     *
+     * @return dirty tracking
+     */
+    public DirtyTracking getDirtyTracking() {
+        return dirtyTracking;
+    }
+
+    /**
+     * Sets the DirtyTracking
+     * <p>
+     * Will be used by subsequently created sessions. With {@link DirtyTracking#PROPERTY_SNAPSHOT} only the modified
+     * properties of an existing node are written when it is saved.
+     *
+     * @param dirtyTracking dirty tracking
+     */
+    public void setDirtyTracking(DirtyTracking dirtyTracking) {
+        this.dirtyTracking = dirtyTracking;
+    }
+
+    /**
+     * Returns the EntityCache shared by the sessions opened by this factory, <code>null</code> by default.
+     *
+     * @return entity cache
+     */
+    public EntityCache getEntityCache() {
+        return entityCache;
+    }
+
+    /**
+     * Sets the EntityCache
+     * <p>
+     * Will be used by subsequently created sessions to load entities annotated with
+     * {@link org.neo4j.ogm.annotation.Cached} by id without querying the database, and invalidated by their writes.
+     *
+     * @param entityCache entity cache, <code>null</code> to disable it
+     */
+    public void setEntityCache(EntityCache entityCache) {
+        this.entityCache = entityCache;
+    }
+
+    /**
+     * Returns the number of ids loaded by each query of a load by ids, ids aren't split by default.
+     *
+     * @return load chunk size
+     */
+    public int getLoadChunkSize() {
+        return loadChunkSize;
+    }
+
+    /**
+     * Sets the number of ids loaded by each query of a load by ids
+     * <p>
+     * Will be used by subsequently created sessions. Loads of more ids, neither sorted nor paged, are split into
+     * chunks of this size. The chunks are hydrated in the order of the ids.
+     *
+     * @param loadChunkSize load chunk size, at least 1
+     */
+    public void setLoadChunkSize(int loadChunkSize) {
+        if (loadChunkSize < 1) {
+            throw new IllegalArgumentException("Load chunk size must be at least 1: " + loadChunkSize);
+        }
+        this.loadChunkSize = loadChunkSize;
+    }
+
+    /**
+     * Returns the number of chunks of a load by ids loaded at once, 1 by default.
+     *
+     * @return load parallelism
+     */
+    public int getLoadParallelism() {
+        return loadParallelism;
+    }
+
+    /**
+     * Sets the number of chunks of a load by ids loaded at once
+     * <p>
+     * Will be used by subsequently created sessions. Outside of a transaction, chunks are read concurrently on the
+     * executor of async sessions, each in a transaction of its own. They are still hydrated one after the other, in
+     * the order of the ids. Within a transaction, chunks are always read in it one after the other.
+     *
+     * @param loadParallelism load parallelism, at least 1
+     * @see #setAsyncExecutor(Executor)
+     */
+    public void setLoadParallelism(int loadParallelism) {
+        if (loadParallelism < 1) {
+            throw new IllegalArgumentException("Load parallelism must be at least 1: " + loadParallelism);
+        }
+        this.loadParallelism = loadParallelism;
+    }
+
+    /**
+     * Returns the number of objects deleted by each statement of a delete of several objects, 10000 by default.
+     *
+     * @return delete chunk size
+     */
+    public int getDeleteChunkSize() {
+        return deleteChunkSize;
+    }
+
+    /**
+     * Sets the number of objects deleted by each statement of a delete of several objects
+     * <p>
+     * Will be used by subsequently created sessions. The relationship entities and the nodes of a delete are each
+     * deleted by statements of at most this many ids.
+     *
+     * @param deleteChunkSize delete chunk size, at least 1
+     */
+    public void setDeleteChunkSize(int deleteChunkSize) {
+        if (deleteChunkSize < 1) {
+            throw new IllegalArgumentException("Delete chunk size must be at least 1: " + deleteChunkSize);
+        }
+        this.deleteChunkSize = deleteChunkSize;
+    }
+
+    /**
+     * Returns whether sessions load the relationship collections of entities loaded at depth 0 lazily, false by
+     * default.
+     *
+     * @return lazy loading
+     */
+    public boolean isLazyLoading() {
+        return lazyLoading;
+    }
+
+    /**
+     * Sets whether sessions load the relationship collections of entities loaded at depth 0 lazily
+     * <p>
+     * Will be used by subsequently created sessions. The relationship fields of these entities get collections loading
+     * their related entities on first access instead of empty ones. Saving an entity doesn't load its collections.
+     *
+     * @param lazyLoading whether to load relationship collections lazily
+     * @see #setLazyLoadBatchSize(int)
+     */
+    public void setLazyLoading(boolean lazyLoading) {
+        this.lazyLoading = lazyLoading;
+    }
+
+    /**
+     * Returns the number of entities whose lazy collections are loaded together, 1 by default.
+     *
+     * @return lazy load batch size
+     */
+    public int getLazyLoadBatchSize() {
+        return lazyLoadBatchSize;
+    }
+
+    /**
+     * Sets the number of entities whose lazy collections are loaded together
+     * <p>
+     * Will be used by subsequently created sessions. Accessing a lazy collection also loads the collections of the
+     * same relationship type and direction of up to this many entities in all, first of the entities loaded right
+     * after its owner, then of the ones loaded right before it. By default only the collection accessed is loaded.
+     *
+     * @param lazyLoadBatchSize lazy load batch size, at least 1
+     * @see #setLazyLoading(boolean)
+     */
+    public void setLazyLoadBatchSize(int lazyLoadBatchSize) {
+        if (lazyLoadBatchSize < 1) {
+            throw new IllegalArgumentException("Lazy load batch size must be at least 1: " + lazyLoadBatchSize);
+        }
+        this.lazyLoadBatchSize = lazyLoadBatchSize;
+    }
+
     /**
      * Returns driver used by this SessionFactory
      *
@@ -185,6 +417,11 @@ public class SessionFactory {
      * Also closes any underlying resources, like driver etc.
      */
     public void close() {
+        synchronized (this) {
+            if (defaultAsyncExecutor != null) {
+                defaultAsyncExecutor.shutdown();
+            }
+        }
         driver.close();
     }
 
@@ -17,6 +17,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * @author Vince Bickers
@@ -49,6 +50,27 @@ public class Utils {
         return count;
     }
 
+    private static final Map<Class<?>, Function<Object, Object>> COERCIONS = new HashMap<>();
+
+    static {
+        coercion(Utils::toInt, int.class, Integer.class);
+        coercion(Utils::toFloat, float.class, Float.class);
+        coercion(Utils::toByte, byte.class, Byte.class);
+        coercion(Utils::toDouble, double.class, Double.class);
+        coercion(Utils::toLong, long.class, Long.class);
+        coercion(Utils::toShort, short.class, Short.class);
+        coercion(Utils::toChar, char.class, Character.class);
+        coercion(Function.identity(), boolean.class);
+    }
+
+    private static void coercion(Function<Object, Object> coercion, Class<?> primitiveType, Class<?>... boxedTypes) {
+        Object defaultValue = defaultForPrimitive(primitiveType, null);
+        COERCIONS.put(primitiveType, value -> value == null ? defaultValue : coercion.apply(value));
+        for (Class<?> boxedType : boxedTypes) {
+            COERCIONS.put(boxedType, value -> value == null ? null : coercion.apply(value));
+        }
+    }
+
     /**
      * Coerce numeric types when mapping properties from nodes to entities.
      * This deals with numeric types - Longs to ints, Doubles to floats, Integers to bytes.
@@ -58,135 +80,151 @@ public class Utils {
      * @return converted value
      */
     public static Object coerceTypes(Class clazz, Object value) {
-        if (clazz.isPrimitive() && value == null) {
-            return defaultForPrimitive(clazz, null);
-        }
-        if (value != null) {
-            String className = clazz.getName();
-            // downcast to int from long
-            if ("int".equals(className) || Integer.class.equals(clazz)) {
-                if (value.getClass().equals(Long.class)) {
-                    Long longValue = (Long) value;
-                    if (longValue < Integer.MIN_VALUE || longValue > Integer.MAX_VALUE) {
-                        throw new IllegalArgumentException(longValue + " cannot be cast to int without an overflow.");
-                    }
-                    return longValue.intValue();
-                }
+        return coercion(clazz).apply(value);
+    }
+
+    /**
+     * The coercion {@link #coerceTypes(Class, Object)} applies to values of the given type, for callers converting
+     * many values to the same type.
+     *
+     * @param clazz the entity field type
+     * @return the function converting a property value
+     */
+    public static Function<Object, Object> coercion(Class clazz) {
+        return COERCIONS.getOrDefault(clazz, Function.identity());
+    }
+
+    // downcast to int from long
+    private static Object toInt(Object value) {
+        if (value.getClass().equals(Long.class)) {
+            Long longValue = (Long) value;
+            if (longValue < Integer.MIN_VALUE || longValue > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(longValue + " cannot be cast to int without an overflow.");
             }
-            // downcast to float from double or cross-cast from int or long
-            if ("float".equals(className) || (Float.class.equals(clazz))) {
-                if (value.getClass().equals(Double.class)) {
-                    Double dblValue = (Double) value;
-                    if (dblValue < -(Float.MAX_VALUE) || dblValue > Float.MAX_VALUE) {
-                        throw new IllegalArgumentException(dblValue + " cannot be cast to float without an overflow.");
-                    }
-                    return dblValue.floatValue();
-                }
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    if (intValue < -(Double.MAX_VALUE) || intValue > Double.MAX_VALUE) {
-                        throw new IllegalArgumentException(intValue + " cannot be cast to float without an overflow.");
-                    }
-                    return intValue.floatValue();
-                }
-                if (value.getClass().equals(Long.class)) {
-                    Long longValue = (Long) value;
-                    if (longValue < -(Double.MAX_VALUE) || longValue > Double.MAX_VALUE) {
-                        throw new IllegalArgumentException(longValue + " cannot be cast to float without an overflow.");
-                    }
-                    return longValue.floatValue();
-                }
+            return longValue.intValue();
+        }
+        return value;
+    }
+
+    // downcast to float from double or cross-cast from int or long
+    private static Object toFloat(Object value) {
+        if (value.getClass().equals(Double.class)) {
+            Double dblValue = (Double) value;
+            if (dblValue < -(Float.MAX_VALUE) || dblValue > Float.MAX_VALUE) {
+                throw new IllegalArgumentException(dblValue + " cannot be cast to float without an overflow.");
             }
-            // down-cast to byte from integer or long
-            if ("byte".equals(className) || Byte.class.equals(clazz)) {
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    if (intValue < Byte.MIN_VALUE || intValue > Byte.MAX_VALUE) {
-                        throw new IllegalArgumentException(intValue + " cannot be cast to byte without an overflow.");
-                    }
-                    return intValue.byteValue();
-                }
-                if (value.getClass().equals(Long.class)) {
-                    Long longValue = (Long) value;
-                    if (longValue < Byte.MIN_VALUE || longValue > Byte.MAX_VALUE) {
-                        throw new IllegalArgumentException(longValue + " cannot be cast to byte without an overflow.");
-                    }
-                    return longValue.byteValue();
-                }
+            return dblValue.floatValue();
+        }
+        if (value.getClass().equals(Integer.class)) {
+            Integer intValue = (Integer) value;
+            if (intValue < -(Double.MAX_VALUE) || intValue > Double.MAX_VALUE) {
+                throw new IllegalArgumentException(intValue + " cannot be cast to float without an overflow.");
             }
-            // cross-cast to double from int or long or up-cast from float
-            if ("double".equals(className) || Double.class.equals(clazz)) {
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    if (intValue < -(Double.MAX_VALUE) || intValue > Double.MAX_VALUE) {
-                        throw new IllegalArgumentException(intValue + " cannot be cast to double without an overflow.");
-                    }
-                    return intValue.doubleValue();
-                }
-                if (value.getClass().equals(Long.class)) {
-                    Long testValue = (Long) value;
-                    if (testValue < -(Double.MAX_VALUE) || testValue > Double.MAX_VALUE) {
-                        throw new IllegalArgumentException(testValue + " cannot be cast to double without an overflow.");
-                    }
-                    return testValue.doubleValue();
-                }
-                if (value.getClass().equals(Float.class)) {
-                    Float floatValue = (Float) value;
-                    return floatValue.doubleValue();
-                }
+            return intValue.floatValue();
+        }
+        if (value.getClass().equals(Long.class)) {
+            Long longValue = (Long) value;
+            if (longValue < -(Double.MAX_VALUE) || longValue > Double.MAX_VALUE) {
+                throw new IllegalArgumentException(longValue + " cannot be cast to float without an overflow.");
             }
-            // up-cast to long from int
-            if ("long".equals(className) || Long.class.equals(clazz)) {
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    return intValue.longValue();
-                }
+            return longValue.floatValue();
+        }
+        return value;
+    }
+
+    // down-cast to byte from integer or long
+    private static Object toByte(Object value) {
+        if (value.getClass().equals(Integer.class)) {
+            Integer intValue = (Integer) value;
+            if (intValue < Byte.MIN_VALUE || intValue > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException(intValue + " cannot be cast to byte without an overflow.");
+            }
+            return intValue.byteValue();
+        }
+        if (value.getClass().equals(Long.class)) {
+            Long longValue = (Long) value;
+            if (longValue < Byte.MIN_VALUE || longValue > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException(longValue + " cannot be cast to byte without an overflow.");
             }
+            return longValue.byteValue();
+        }
+        return value;
+    }
 
-            // down-cast to short from int or long
-            if ("short".equals(className) || Short.class.equals(clazz)) {
-                if (value.getClass().equals(Long.class)) {
-                    Long longValue = (Long) value;
-                    if (longValue < Short.MIN_VALUE || longValue > Short.MAX_VALUE) {
-                        throw new IllegalArgumentException(longValue + " cannot be cast to short without an overflow.");
-                    }
-                    return longValue.shortValue();
-                }
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    if (intValue < Short.MIN_VALUE || intValue > Short.MAX_VALUE) {
-                        throw new IllegalArgumentException(intValue + " cannot be cast to short without an overflow.");
-                    }
-                    return intValue.shortValue();
-                }
+    // cross-cast to double from int or long or up-cast from float
+    private static Object toDouble(Object value) {
+        if (value.getClass().equals(Integer.class)) {
+            Integer intValue = (Integer) value;
+            if (intValue < -(Double.MAX_VALUE) || intValue > Double.MAX_VALUE) {
+                throw new IllegalArgumentException(intValue + " cannot be cast to double without an overflow.");
+            }
+            return intValue.doubleValue();
+        }
+        if (value.getClass().equals(Long.class)) {
+            Long testValue = (Long) value;
+            if (testValue < -(Double.MAX_VALUE) || testValue > Double.MAX_VALUE) {
+                throw new IllegalArgumentException(testValue + " cannot be cast to double without an overflow.");
             }
+            return testValue.doubleValue();
+        }
+        if (value.getClass().equals(Float.class)) {
+            Float floatValue = (Float) value;
+            return floatValue.doubleValue();
+        }
+        return value;
+    }
 
-            // down-cast to char from String
-            if ("char".equals(className) || Character.class.equals(clazz)) {
-                if (value.getClass().equals(String.class)) {
-                    String stringValue = (String) value;
-                    if (stringValue.length() == 1) {
-                        return stringValue.charAt(0);
-                    } else {
-                        try {
-                            return (char) Integer.parseInt(stringValue);
-                        } catch (NumberFormatException nfe) {
-                            throw new IllegalArgumentException(stringValue + " cannot be cast to char", nfe);
-                        }
-                    }
-                }
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    if (intValue < Short.MIN_VALUE || intValue > Short.MAX_VALUE) {
-                        throw new IllegalArgumentException(intValue + " cannot be cast to short without an overflow.");
-                    }
-                    return intValue.shortValue();
-                }
+    // up-cast to long from int
+    private static Object toLong(Object value) {
+        if (value.getClass().equals(Integer.class)) {
+            Integer intValue = (Integer) value;
+            return intValue.longValue();
+        }
+        return value;
+    }
+
+    // down-cast to short from int or long
+    private static Object toShort(Object value) {
+        if (value.getClass().equals(Long.class)) {
+            Long longValue = (Long) value;
+            if (longValue < Short.MIN_VALUE || longValue > Short.MAX_VALUE) {
+                throw new IllegalArgumentException(longValue + " cannot be cast to short without an overflow.");
+            }
+            return longValue.shortValue();
+        }
+        if (value.getClass().equals(Integer.class)) {
+            Integer intValue = (Integer) value;
+            if (intValue < Short.MIN_VALUE || intValue > Short.MAX_VALUE) {
+                throw new IllegalArgumentException(intValue + " cannot be cast to short without an overflow.");
             }
+            return intValue.shortValue();
         }
         return value;
     }
 
+    // down-cast to char from String
+    private static Object toChar(Object value) {
+        if (value.getClass().equals(String.class)) {
+            String stringValue = (String) value;
+            if (stringValue.length() == 1) {
+                return stringValue.charAt(0);
+            } else {
+                try {
+                    return (char) Integer.parseInt(stringValue);
+                } catch (NumberFormatException nfe) {
+                    throw new IllegalArgumentException(stringValue + " cannot be cast to char", nfe);
+                }
+            }
+        }
+        if (value.getClass().equals(Integer.class)) {
+            Integer intValue = (Integer) value;
+            if (intValue < Short.MIN_VALUE || intValue > Short.MAX_VALUE) {
+                throw new IllegalArgumentException(intValue + " cannot be cast to short without an overflow.");
+            }
+            return intValue.shortValue();
+        }
+        return value;
+    }
 
     private static Object defaultForPrimitive(Class clazz, Object value) {
         String className = clazz.getName();
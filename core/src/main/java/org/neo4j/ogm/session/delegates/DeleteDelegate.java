@@ -74,7 +74,6 @@ public class DeleteDelegate {
         }
     }
 
-    // TODO : this is being done in multiple requests at the moment, one per object. Why not put them in a single request?
     private void deleteOneOrMoreObjects(Set<Object> neighbours, List<?> objects) {
 
         Set<Object> notified = new HashSet<>();
@@ -88,33 +87,20 @@ public class DeleteDelegate {
             }
         }
 
+        // the persisted objects by id, nodes and relationship entities apart, each deleted by statements of chunks of ids
+        Map<Long, Object> nodes = new LinkedHashMap<>();
+        Map<Long, Object> relationshipEntities = new LinkedHashMap<>();
         for (Object object : objects) {
 
             ClassInfo classInfo = session.metaData().classInfo(object);
 
             if (classInfo != null) {
-
                 Long identity = session.context().nativeId(object);
                 if (identity >= 0) {
-                    Statement request = getDeleteStatementsBasedOnType(object.getClass()).delete(identity);
-                    if (session.eventsEnabled()) {
-                        if (!notified.contains(object)) {
-                            session.notifyListeners(new PersistenceEvent(object, Event.TYPE.PRE_DELETE));
-                            notified.add(object);
-                        }
-                    }
-                    RowModelRequest query = new DefaultRowModelRequest(request.getStatement(), request.getParameters());
-                    try (Response<RowModel> response = session.requestHandler().execute(query)) {
-                        if (session.metaData().isRelationshipEntity(classInfo.name())) {
-                            session.detachRelationshipEntity(identity);
-                        } else {
-                            session.detachNodeEntity(identity);
-                        }
-                        if (session.eventsEnabled()) {
-                            if (notified.contains(object)) {
-                                session.notifyListeners(new PersistenceEvent(object, Event.TYPE.POST_DELETE));
-                            }
-                        }
+                    if (session.metaData().isRelationshipEntity(classInfo.name())) {
+                        relationshipEntities.put(identity, object);
+                    } else {
+                        nodes.put(identity, object);
                     }
                 }
             } else {
@@ -122,6 +108,9 @@ public class DeleteDelegate {
             }
         }
 
+        deleteChunks(relationshipEntities, true, notified);
+        deleteChunks(nodes, false, notified);
+
         if (session.eventsEnabled()) {
             for (Object affectedObject : neighbours) {
                 if (notified.contains(affectedObject)) {
@@ -131,6 +120,60 @@ public class DeleteDelegate {
         }
     }
 
+    /**
+     * Deletes objects by statements of at most {@link Neo4jSession#deleteChunkSize()} ids, detaching them from the
+     * mapping context and raising their delete events chunk by chunk.
+     *
+     * @param objects the objects to delete by id
+     * @param relationshipEntities whether the objects are relationship entities rather than nodes
+     * @param notified the objects events have been raised for
+     */
+    private void deleteChunks(Map<Long, Object> objects, boolean relationshipEntities, Set<Object> notified) {
+
+        DeleteStatements deleteStatements = relationshipEntities ? new RelationshipDeleteStatements() : new NodeDeleteStatements();
+        List<Long> ids = new ArrayList<>(objects.keySet());
+        int chunkSize = session.deleteChunkSize();
+
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+
+            if (session.eventsEnabled()) {
+                for (Long identity : chunk) {
+                    Object object = objects.get(identity);
+                    if (!notified.contains(object)) {
+                        session.notifyListeners(new PersistenceEvent(object, Event.TYPE.PRE_DELETE));
+                        notified.add(object);
+                    }
+                }
+            }
+
+            Statement request = chunk.size() == 1 ? deleteStatements.delete(chunk.get(0)) : deleteStatements.delete(chunk);
+            RowModelRequest query = new DefaultRowModelRequest(request.getStatement(), request.getParameters());
+            try (Response<RowModel> response = session.requestHandler().execute(query)) {
+                for (Long identity : chunk) {
+                    if (relationshipEntities) {
+                        session.detachRelationshipEntity(identity);
+                    } else {
+                        session.detachNodeEntity(identity);
+                    }
+                }
+                if (relationshipEntities) {
+                    session.invalidateCached(Collections.emptySet(), chunk);
+                } else {
+                    session.invalidateCached(chunk, Collections.emptySet());
+                }
+                if (session.eventsEnabled()) {
+                    for (Long identity : chunk) {
+                        Object object = objects.get(identity);
+                        if (notified.contains(object)) {
+                            session.notifyListeners(new PersistenceEvent(object, Event.TYPE.POST_DELETE));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     public <T> void deleteAll(Class<T> type) {
         ClassInfo classInfo = session.metaData().classInfo(type.getName());
         if (classInfo != null) {
@@ -139,6 +182,7 @@ public class DeleteDelegate {
             session.notifyListeners(new PersistenceEvent(type, Event.TYPE.PRE_DELETE));
             try (Response<RowModel> response = session.requestHandler().execute(query)) {
                 session.context().removeType(type);
+                session.invalidateCached();
                 if (session.eventsEnabled()) {
                     session.notifyListeners(new PersistenceEvent(type, Event.TYPE.POST_DELETE));
                 }
@@ -252,6 +296,7 @@ public class DeleteDelegate {
         RowModelRequest query = new DefaultRowModelRequest(stmt.getStatement(), stmt.getParameters());
         session.requestHandler().execute(query).close();
         session.context().clear();
+        session.invalidateCached();
     }
 
 
@@ -17,6 +17,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.neo4j.ogm.annotation.EndNode;
@@ -86,6 +87,36 @@ public class ExecuteQueriesDelegate {
         return executeAndMap(type, cypher, parameters, new EntityRowModelMapper());
     }
 
+    public <T> Iterable<T> queryForProjection(Class<T> type, String cypher, Map<String, ?> parameters) {
+        validateQuery(cypher, parameters, false); //we'll allow modifying statements
+        if (type == null || type.equals(Void.class)) {
+            throw new RuntimeException("Supplied type must not be null or void.");
+        }
+        RowModelRequest request = new DefaultRowModelRequest(cypher, parameters);
+        try (Response<RowModel> response = session.requestHandler().execute(request)) {
+            invalidateCached(cypher);
+            return new ProjectionMapper().map(type, response);
+        }
+    }
+
+    public <T> Stream<T> stream(Class<T> type, String cypher, Map<String, ?> parameters) {
+        validateQuery(cypher, parameters, false); //we'll allow modifying statements
+        if (type == null || type.equals(Void.class)) {
+            throw new RuntimeException("Supplied type must not be null or void.");
+        }
+        if (session.metaData().classInfo(type.getSimpleName()) != null) {
+            GraphModelRequest request = new DefaultGraphModelRequest(cypher, parameters);
+            Response<GraphModel> response = session.requestHandler().execute(request);
+            invalidateCached(cypher);
+            return new GraphEntityMapper(session.metaData(), session.context()).stream(type, response);
+        } else {
+            RowModelRequest request = new DefaultRowModelRequest(cypher, parameters);
+            Response<RowModel> response = session.requestHandler().execute(request);
+            invalidateCached(cypher);
+            return new EntityRowModelMapper().stream(type, response);
+        }
+    }
+
     public Result query(String cypher, Map<String, ?> parameters, boolean readOnly) {
 
         validateQuery(cypher, parameters, readOnly);
@@ -94,6 +125,7 @@ public class ExecuteQueriesDelegate {
         ResponseMapper mapper = new RestModelMapper(new GraphEntityMapper(session.metaData(), session.context()), session.metaData());
 
         try (Response<RestModel> response = session.requestHandler().execute(request)) {
+            invalidateCached(cypher);
             Iterable<RestStatisticsModel> mappedModel = mapper.map(null, response);
             RestStatisticsModel restStatisticsModel = mappedModel.iterator().next();
 
@@ -110,11 +142,13 @@ public class ExecuteQueriesDelegate {
         if (type != null && session.metaData().classInfo(type.getSimpleName()) != null) {
             GraphModelRequest request = new DefaultGraphModelRequest(cypher, parameters);
             try (Response<GraphModel> response = session.requestHandler().execute(request)) {
+                invalidateCached(cypher);
                 return new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
             }
         } else {
             RowModelRequest request = new DefaultRowModelRequest(cypher, parameters);
             try (Response<RowModel> response = session.requestHandler().execute(request)) {
+                invalidateCached(cypher);
                 return mapper.map(type, response);
             }
         }
@@ -199,6 +233,13 @@ public class ExecuteQueriesDelegate {
         return !matcher.find();
     }
 
+    // a query writing to the graph may have written to any cached entity
+    private void invalidateCached(String cypher) {
+        if (!isReadOnly(cypher)) {
+            session.invalidateCached();
+        }
+    }
+
     private void validateQuery(String cypher, Map<String, ?> parameters, boolean readOnly) {
 
         if (readOnly && !isReadOnly(cypher)) {
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.delegates;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.ogm.annotation.Relationship;
+import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.LazyCollection;
+import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
+import org.neo4j.ogm.exception.core.MappingException;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Utils;
+
+/**
+ * Loads the lazy collections of a session. The collection accessed is loaded by a query of the relationships of its
+ * owner. Up to the lazy load batch size of the session, the query also loads the collections of the same relationship
+ * type and direction of the entities loaded after it, then of the ones loaded before it.
+ */
+public class LazyLoadDelegate implements LazyCollection.Loader {
+
+    private final Neo4jSession session;
+
+    // the collections still to load by relationship type and direction, then by owner in the order owners were loaded
+    private final Map<String, LinkedHashMap<Long, List<LazyCollection<?>>>> pending = new HashMap<>();
+
+    public LazyLoadDelegate(Neo4jSession session) {
+        this.session = session;
+    }
+
+    @Override
+    public void register(LazyCollection<?> collection) {
+        pending.computeIfAbsent(key(collection), k -> new LinkedHashMap<>())
+            .computeIfAbsent(collection.ownerId(), k -> new ArrayList<>(1))
+            .add(collection);
+    }
+
+    @Override
+    public void load(LazyCollection<?> collection) {
+        LinkedHashMap<Long, List<LazyCollection<?>>> owners = pending.get(key(collection));
+        List<LazyCollection<?>> collections = owners == null ? null : owners.get(collection.ownerId());
+        if (!containsSame(collections, collection) || session.context().getNodeEntity(collection.ownerId()) == null) {
+            throw new MappingException("Cannot load the " + collection.relationshipType()
+                + " relationships of an entity detached from the session");
+        }
+
+        int batchSize = session.lazyLoadBatchSize();
+        List<Long> neighbours = batchSize > 1
+            ? neighbours(owners, collection.ownerId(), batchSize - 1)
+            : Collections.emptyList();
+        Map<Long, List<LazyCollection<?>>> batch = new LinkedHashMap<>();
+        batch.put(collection.ownerId(), owners.remove(collection.ownerId()));
+        for (Long ownerId : neighbours) {
+            if (batch.size() == batchSize) {
+                break;
+            }
+            if (session.context().getNodeEntity(ownerId) != null) {
+                batch.put(ownerId, owners.remove(ownerId));
+            }
+        }
+
+        // the related entities are mapped onto the collections as long as they are not marked as loaded
+        GraphModelRequest request = new DefaultGraphModelRequest(statement(collection),
+            Utils.map("ids", new ArrayList<>(batch.keySet())));
+        try (Response<GraphModel> response = session.requestHandler().execute(request)) {
+            new GraphEntityMapper(session.metaData(), session.context(), this).map(Object.class, response);
+        } catch (RuntimeException e) {
+            // loaded again on their next access
+            owners.putAll(batch);
+            throw e;
+        }
+        for (List<LazyCollection<?>> loaded : batch.values()) {
+            for (LazyCollection<?> lazyCollection : loaded) {
+                lazyCollection.loaded();
+            }
+        }
+    }
+
+    /**
+     * Forgets the collections still to load, when the entities of the session are cleared.
+     */
+    public void clear() {
+        pending.clear();
+    }
+
+    private static String statement(LazyCollection<?> collection) {
+        String relationship = "[r:`" + collection.relationshipType() + "`]";
+        String direction = collection.relationshipDirection();
+        String pattern;
+        if (direction.equals(Relationship.OUTGOING)) {
+            pattern = "-" + relationship + "->";
+        } else if (direction.equals(Relationship.INCOMING)) {
+            pattern = "<-" + relationship + "-";
+        } else {
+            pattern = "-" + relationship + "-";
+        }
+        return "MATCH (n)" + pattern + "(m) WHERE ID(n) IN {ids} RETURN n, r, m";
+    }
+
+    // the owners loaded right after the one accessed, likely to be accessed next, then the ones right before it
+    private static List<Long> neighbours(LinkedHashMap<Long, List<LazyCollection<?>>> owners, Long accessed, int count) {
+        List<Long> neighbours = new ArrayList<>(count * 2);
+        ArrayDeque<Long> before = new ArrayDeque<>(count + 1);
+        boolean after = false;
+        for (Long ownerId : owners.keySet()) {
+            if (after) {
+                neighbours.add(ownerId);
+                if (neighbours.size() == count) {
+                    break;
+                }
+            } else if (ownerId.equals(accessed)) {
+                after = true;
+            } else {
+                before.addLast(ownerId);
+                if (before.size() > count) {
+                    before.removeFirst();
+                }
+            }
+        }
+        for (Iterator<Long> iterator = before.descendingIterator(); iterator.hasNext(); ) {
+            neighbours.add(iterator.next());
+        }
+        return neighbours;
+    }
+
+    private static boolean containsSame(List<LazyCollection<?>> collections, LazyCollection<?> collection) {
+        if (collections != null) {
+            for (LazyCollection<?> candidate : collections) {
+                if (candidate == collection) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String key(LazyCollection<?> collection) {
+        return collection.relationshipDirection() + ":" + collection.relationshipType();
+    }
+}
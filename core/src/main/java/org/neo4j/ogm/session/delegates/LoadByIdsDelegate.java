@@ -13,16 +13,22 @@
 package org.neo4j.ogm.session.delegates;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
 import org.neo4j.ogm.cypher.query.Pagination;
-import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
@@ -30,6 +36,9 @@ import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.request.GraphModelRequest;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.session.request.CompiledLoadStatement;
+import org.neo4j.ogm.session.request.LoadStatementCache;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 import org.neo4j.ogm.utils.EntityUtils;
 
@@ -48,16 +57,25 @@ public class LoadByIdsDelegate {
 
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, SortOrder sortOrder, Pagination pagination, int depth) {
 
-        String entityType = session.entityType(type.getName());
-        QueryStatements<ID> queryStatements = session.queryStatementsFor(type, depth);
+        CompiledLoadStatement statement = session.loadStatementCache().compile(
+                LoadStatementCache.byIds(type, depth, session.getLoadStrategy(), sortOrder, pagination), () -> {
+                    String entityType = session.entityType(type.getName());
+                    QueryStatements<ID> queryStatements = session.queryStatementsFor(type, depth);
 
-        PagingAndSortingQuery qry = queryStatements.findAllByType(entityType, ids, depth)
-                .setSortOrder(sortOrder)
-                .setPagination(pagination);
+                    return queryStatements.findAllByType(entityType, ids, depth)
+                            .setSortOrder(sortOrder)
+                            .setPagination(pagination);
+                });
 
-        GraphModelRequest request = new DefaultGraphModelRequest(qry.getStatement(), qry.getParameters());
+        if (ids.size() > session.loadChunkSize() && sortOrder.sortClauses().isEmpty() && pagination == null) {
+            return loadChunks(type, ids, statement, depth);
+        }
+
+        Map<String, Object> parameters = statement.parameters(new Filters(), pagination);
+        parameters.put("ids", ids);
+        GraphModelRequest request = new DefaultGraphModelRequest(statement.getStatement(), parameters);
         try (Response<GraphModel> response = session.requestHandler().execute(request)) {
-            Iterable<T> mapped = new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
+            Iterable<T> mapped = new GraphEntityMapper(session.metaData(), session.context(), session.lazyLoader(depth)).map(type, response);
 
             if (sortOrder.sortClauses().isEmpty()) {
                 return sortResultsByIds(type, ids, mapped);
@@ -72,6 +90,81 @@ public class LoadByIdsDelegate {
         }
     }
 
+    /**
+     * Loads the ids chunk by chunk, each with a query of its own. Outside of a transaction, up to the load parallelism
+     * of the session chunks are read at once, each in a transaction of its own. The chunks are hydrated one after the
+     * other on this thread, in the order of the ids, as the mapping context isn't thread safe.
+     */
+    private <T, ID extends Serializable> Collection<T> loadChunks(Class<T> type, Collection<ID> ids, CompiledLoadStatement statement, int depth) {
+
+        List<FutureTask<List<GraphModel>>> reads = new ArrayList<>();
+        List<ID> chunk = new ArrayList<>();
+        for (ID id : ids) {
+            chunk.add(id);
+            if (chunk.size() == session.loadChunkSize()) {
+                reads.add(read(statement, chunk));
+                chunk = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            reads.add(read(statement, chunk));
+        }
+
+        // within a transaction, chunks are read in it
+        Executor executor = session.getTransaction() == null && session.loadParallelism() > 1 ? session.loadExecutor() : null;
+        int parallelism = executor == null ? 1 : session.loadParallelism();
+
+        GraphEntityMapper mapper = new GraphEntityMapper(session.metaData(), session.context(), session.lazyLoader(depth));
+        List<T> mapped = new ArrayList<>();
+        try {
+            int next = 1;
+            for (int i = 0; i < reads.size(); i++) {
+                // up to parallelism chunks are read at once, this one included
+                for (; executor != null && next < reads.size() && next < i + parallelism; next++) {
+                    submit(executor, reads.get(next));
+                }
+                FutureTask<List<GraphModel>> read = reads.get(i);
+                // reads the chunk here unless it has been started already, so that a saturated executor can't block
+                read.run();
+                for (T entity : mapper.map(type, new ReadResponse(graphs(read)))) {
+                    mapped.add(entity);
+                }
+            }
+        } finally {
+            for (FutureTask<List<GraphModel>> read : reads) {
+                read.cancel(false);
+            }
+        }
+        return sortResultsByIds(type, ids, mapped);
+    }
+
+    private <ID extends Serializable> FutureTask<List<GraphModel>> read(CompiledLoadStatement statement, List<ID> chunk) {
+        GraphModelRequest request = new DefaultGraphModelRequest(statement.getStatement(), Utils.map("ids", chunk));
+        return new FutureTask<>(() -> ReadResponse.read(session.requestHandler().execute(request)));
+    }
+
+    private static void submit(Executor executor, FutureTask<List<GraphModel>> read) {
+        try {
+            executor.execute(read);
+        } catch (RejectedExecutionException e) {
+            // read on the calling thread when its turn comes
+        }
+    }
+
+    private static List<GraphModel> graphs(FutureTask<List<GraphModel>> read) {
+        try {
+            return read.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while loading by ids", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
     private <T, ID extends Serializable> Set<T> sortResultsByIds(Class<T> type, Collection<ID> ids, Iterable<T> mapped) {
         Map<ID, T> items = new HashMap<>();
         ClassInfo classInfo = session.metaData().classInfo(type.getName());
@@ -17,14 +17,27 @@ import org.neo4j.ogm.context.GraphRowListModelMapper;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.cypher.query.*;
+import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.GraphRowModel;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.request.GraphModelRequest;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.request.CompiledLoadStatement;
+import org.neo4j.ogm.session.request.LoadStatementCache;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * @author Vince Bickers
@@ -40,35 +53,184 @@ public class LoadByTypeDelegate {
 
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination, int depth) {
 
-        //session.ensureTransaction();
-        String entityType = session.entityType(type.getName());
-        QueryStatements queryStatements = session.queryStatementsFor(type, depth);
+        CompiledLoadStatement statement = compile(type, filters, sortOrder, pagination, depth);
+        return execute(type, statement, statement.parameters(filters, pagination), depth);
+    }
 
-        session.resolvePropertyAnnotations(type, sortOrder);
+    /**
+     * Loads a page of the entities of a type paged by keyset, see {@link KeysetPagination}. The continuation token of
+     * a full page holds the values of the sort properties of its last entity, as read from the entity.
+     */
+    public <T> KeysetPage<T> loadPage(Class<T> type, Filters filters, SortOrder sortOrder, KeysetPagination pagination, int depth) {
 
-        PagingAndSortingQuery query;
-        if (filters.isEmpty()) {
-            query = queryStatements.findByType(entityType, depth);
-        } else {
+        ClassInfo classInfo = session.metaData().classInfo(type.getName());
+        if (classInfo == null) {
+            throw new RuntimeException(type.getName() + " is not a persistable class");
+        }
+        if (classInfo.isRelationshipEntity()) {
+            throw new UnsupportedOperationException("Keyset pagination is not supported for relationship entities: " + type.getName());
+        }
+
+        // resolving the property names of a sort order escapes them in place, the sort order is reused by each page
+        SortOrder resolvedSortOrder = new SortOrder();
+        for (SortClause sortClause : sortOrder.sortClauses()) {
+            resolvedSortOrder.add(sortClause.getDirection(), sortClause.getProperties().clone());
+        }
+        session.resolvePropertyAnnotations(type, resolvedSortOrder);
+        if (!filters.isEmpty()) {
             session.resolvePropertyAnnotations(type, filters);
-            query = queryStatements.findByType(entityType, filters, depth);
         }
 
-        query.setSortOrder(sortOrder)
-                .setPagination(pagination);
+        List<String> sortProperties = new ArrayList<>();
+        for (SortClause sortClause : resolvedSortOrder.sortClauses()) {
+            for (String property : sortClause.getProperties()) {
+                String propertyName = property.substring(1, property.length() - 1);
+                if (classInfo.propertyField(propertyName) == null) {
+                    throw new IllegalArgumentException(type.getName() + " has no property " + propertyName + " to page by");
+                }
+                sortProperties.add(propertyName);
+            }
+        }
 
-        if (query.needsRowResult()) {
-            DefaultGraphRowListModelRequest graphRowListModelRequest = new DefaultGraphRowListModelRequest(query.getStatement(), query.getParameters());
+        List<Object> shape = LoadStatementCache.byKeyset(type, depth, session.getLoadStrategy(), filters, resolvedSortOrder, pagination);
+        CompiledLoadStatement statement = session.loadStatementCache().compile(shape, () -> query(type, filters, depth)
+                .setSortOrder(resolvedSortOrder)
+                .setKeysetPagination(pagination));
+        Map<String, Object> parameters = statement.parameters(filters);
+        parameters.putAll(pagination.parameters(resolvedSortOrder));
+
+        // the token is made of the values returned for the last entity, the entity of the session may hold others
+        Map<Long, Node> returned = new HashMap<>();
+        List<T> entities = new ArrayList<>(execute(type, statement, parameters, depth, returned));
+
+        String continuationToken = null;
+        if (entities.size() == pagination.getPageSize()) {
+            Long id = session.context().nativeId(entities.get(entities.size() - 1));
+            List<Object> values = new ArrayList<>(sortProperties.size());
+            for (String sortProperty : sortProperties) {
+                values.add(propertyValue(returned.get(id), sortProperty));
+            }
+            continuationToken = KeysetPagination.continuationToken(resolvedSortOrder, values, id);
+        }
+        return new KeysetPage<>(entities, continuationToken);
+    }
+
+    private <T> Collection<T> execute(Class<T> type, CompiledLoadStatement statement, Map<String, Object> parameters, int depth) {
+        return execute(type, statement, parameters, depth, null);
+    }
+
+    /**
+     * Executes the statement, putting the nodes of its response by id in <code>returned</code>, if given.
+     */
+    private <T> Collection<T> execute(Class<T> type, CompiledLoadStatement statement, Map<String, Object> parameters, int depth,
+                                      Map<Long, Node> returned) {
+
+        if (statement.needsRowResult()) {
+            DefaultGraphRowListModelRequest graphRowListModelRequest = new DefaultGraphRowListModelRequest(statement.getStatement(), parameters);
             try (Response<GraphRowListModel> response = session.requestHandler().execute(graphRowListModelRequest)) {
-                return (Collection<T>) new GraphRowListModelMapper(session.metaData(), session.context()).map(type, response);
+                Response<GraphRowListModel> observed = returned == null ? response : observed(response, model -> {
+                    for (GraphRowModel row : model.model()) {
+                        collectNodes(row.getGraph(), returned);
+                    }
+                });
+                return (Collection<T>) new GraphRowListModelMapper(session.metaData(), session.context()).map(type, observed);
             }
         } else {
-            GraphModelRequest request = new DefaultGraphModelRequest(query.getStatement(), query.getParameters());
+            GraphModelRequest request = new DefaultGraphModelRequest(statement.getStatement(), parameters);
             try (Response<GraphModel> response = session.requestHandler().execute(request)) {
-                return (Collection<T>) new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
+                Response<GraphModel> observed = returned == null ? response : observed(response, model -> collectNodes(model, returned));
+                return (Collection<T>) new GraphEntityMapper(session.metaData(), session.context(), session.lazyLoader(depth)).map(type, observed);
+            }
+        }
+
+    }
+
+    private static void collectNodes(GraphModel model, Map<Long, Node> nodes) {
+        for (Node node : model.getNodes()) {
+            nodes.put(node.getId(), node);
+        }
+    }
+
+    private static Object propertyValue(Node node, String key) {
+        if (node != null) {
+            for (Property<String, Object> property : node.getPropertyList()) {
+                if (property.getKey().equals(key)) {
+                    return property.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    // passes each model of the response to the observer before it is mapped
+    private static <M> Response<M> observed(Response<M> response, Consumer<M> observer) {
+        return new Response<M>() {
+
+            @Override
+            public M next() {
+                M model = response.next();
+                if (model != null) {
+                    observer.accept(model);
+                }
+                return model;
+            }
+
+            @Override
+            public void close() {
+                response.close();
+            }
+
+            @Override
+            public String[] columns() {
+                return response.columns();
             }
+        };
+    }
+
+    /**
+     * Same as {@link #loadAll(Class, Filters, SortOrder, Pagination, int)}, but hydrates the entities as the stream
+     * is consumed. Queries filtering on related entities read their whole response before the first entity
+     * is returned.
+     */
+    public <T> Stream<T> stream(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination, int depth) {
+
+        CompiledLoadStatement statement = compile(type, filters, sortOrder, pagination, depth);
+        Map<String, Object> parameters = statement.parameters(filters, pagination);
+
+        if (statement.needsRowResult()) {
+            DefaultGraphRowListModelRequest graphRowListModelRequest = new DefaultGraphRowListModelRequest(statement.getStatement(), parameters);
+            try (Response<GraphRowListModel> response = session.requestHandler().execute(graphRowListModelRequest)) {
+                return StreamSupport.stream(new GraphRowListModelMapper(session.metaData(), session.context()).map(type, response).spliterator(), false);
+            }
+        } else {
+            GraphModelRequest request = new DefaultGraphModelRequest(statement.getStatement(), parameters);
+            return new GraphEntityMapper(session.metaData(), session.context(), session.lazyLoader(depth)).stream(type, session.requestHandler().execute(request));
         }
+    }
 
+    private CompiledLoadStatement compile(Class<?> type, Filters filters, SortOrder sortOrder, Pagination pagination, int depth) {
+
+        //session.ensureTransaction();
+        session.resolvePropertyAnnotations(type, sortOrder);
+        if (!filters.isEmpty()) {
+            session.resolvePropertyAnnotations(type, filters);
+        }
+
+        List<Object> shape = LoadStatementCache.byType(type, depth, session.getLoadStrategy(), filters, sortOrder, pagination);
+        return session.loadStatementCache().compile(shape, () -> query(type, filters, depth)
+                .setSortOrder(sortOrder)
+                .setPagination(pagination));
+    }
+
+    private PagingAndSortingQuery query(Class<?> type, Filters filters, int depth) {
+
+        String entityType = session.entityType(type.getName());
+        QueryStatements queryStatements = session.queryStatementsFor(type, depth);
+
+        if (filters.isEmpty()) {
+            return queryStatements.findByType(entityType, depth);
+        }
+        return queryStatements.findByType(entityType, filters, depth);
     }
 
 
@@ -13,20 +13,24 @@
 package org.neo4j.ogm.session.delegates;
 
 import org.neo4j.ogm.annotation.RelationshipEntity;
+import org.neo4j.ogm.context.EntityCache;
 import org.neo4j.ogm.context.GraphEntityMapper;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
-import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.request.GraphModelRequest;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.session.request.CompiledLoadStatement;
+import org.neo4j.ogm.session.request.LoadStatementCache;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
+import java.util.List;
 
 /**
  * @author Vince Bickers
@@ -62,16 +66,38 @@ public class LoadOneDelegate {
                     + "does not have primary id" + type.getName());
         }
 
-        QueryStatements<ID> queryStatements = session.queryStatementsFor(type, depth);
-        PagingAndSortingQuery qry = queryStatements.findOneByType(session.entityType(type.getName()), id, depth);
+        CompiledLoadStatement statement = session.loadStatementCache().compile(
+                LoadStatementCache.byId(type, depth, session.getLoadStrategy()), () -> {
+                    QueryStatements<ID> queryStatements = session.queryStatementsFor(type, depth);
+                    return queryStatements.findOneByType(session.entityType(type.getName()), id, depth);
+                });
 
-        GraphModelRequest request = new DefaultGraphModelRequest(qry.getStatement(), qry.getParameters());
+        GraphModelRequest request = new DefaultGraphModelRequest(statement.getStatement(), Utils.map("id", id));
+        EntityCache entityCache = session.entityCache();
+        if (entityCache != null && classInfo.isCached() && session.getTransaction() == null) {
+            return loadCached(entityCache, type, classInfo, id, depth, request);
+        }
         try (Response<GraphModel> response = session.requestHandler().execute(request)) {
-            new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
+            new GraphEntityMapper(session.metaData(), session.context(), session.lazyLoader(depth)).map(type, response);
             return lookup(type, id);
         }
     }
 
+    private <T, ID extends Serializable> T loadCached(EntityCache entityCache, Class<T> type, ClassInfo classInfo, ID id,
+                                                      int depth, GraphModelRequest request) {
+        EntityCache.Key key = EntityCache.key(classInfo, id, depth, session.getLoadStrategy());
+        List<GraphModel> graphs = entityCache.get(key);
+        if (graphs == null) {
+            long stamp = entityCache.stamp();
+            graphs = ReadResponse.read(session.requestHandler().execute(request));
+            entityCache.put(key, graphs, stamp);
+        } else {
+            logger.debug("Loading {} with id {} from the entity cache", type, id);
+        }
+        new GraphEntityMapper(session.metaData(), session.context(), session.lazyLoader(depth)).map(type, new ReadResponse(graphs));
+        return lookup(type, id);
+    }
+
     private <T, U> T lookup(Class<T> type, U id) {
         Object ref;
         ClassInfo typeInfo = session.metaData().classInfo(type.getName());
@@ -99,5 +125,4 @@ public class LoadOneDelegate {
             return null;
         }
     }
-
 }
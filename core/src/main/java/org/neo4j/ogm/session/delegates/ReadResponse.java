@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.delegates;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.response.Response;
+
+/**
+ * Replays the graph models of a response read beforehand, to map them once the database has been queried.
+ */
+class ReadResponse implements Response<GraphModel> {
+
+    private final Iterator<GraphModel> graphs;
+
+    ReadResponse(List<GraphModel> graphs) {
+        this.graphs = graphs.iterator();
+    }
+
+    /**
+     * Reads a response fully and closes it.
+     *
+     * @param response the response to read
+     * @return its graph models
+     */
+    static List<GraphModel> read(Response<GraphModel> response) {
+        List<GraphModel> graphs = new ArrayList<>();
+        try (Response<GraphModel> closed = response) {
+            GraphModel graph;
+            while ((graph = closed.next()) != null) {
+                graphs.add(graph);
+            }
+        }
+        return graphs;
+    }
+
+    @Override
+    public GraphModel next() {
+        return graphs.hasNext() ? graphs.next() : null;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String[] columns() {
+        return new String[0];
+    }
+}
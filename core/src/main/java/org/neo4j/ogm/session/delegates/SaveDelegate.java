@@ -15,12 +15,16 @@ package org.neo4j.ogm.session.delegates;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 
 import org.neo4j.ogm.context.EntityGraphMapper;
+import org.neo4j.ogm.context.MappingContext;
 import org.neo4j.ogm.cypher.compiler.CompileContext;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.event.Event;
+import org.neo4j.ogm.session.event.PersistenceEvent;
 import org.neo4j.ogm.session.request.RequestExecutor;
 
 /**
@@ -43,7 +47,10 @@ public class SaveDelegate {
 
     public <T> void save(T object, int depth) {
 
-        SaveEventDelegate eventsDelegate = new SaveEventDelegate(session);
+        // copies the relationships of the session, only when there are listeners to notify
+        SaveEventDelegate eventsDelegate = session.eventsEnabled() ? new SaveEventDelegate(session) : null;
+        // mapping deregisters the neighbours of the entities whose relationships changed
+        session.context().reindexRelationshipEntities();
 
         if (object.getClass().isArray() || Iterable.class.isAssignableFrom(object.getClass())) {
             Iterable<T> objects;
@@ -89,4 +96,51 @@ public class SaveDelegate {
             }
         }
     }
+
+    public <T> void ingest(Iterable<T> objects, int batchSize, int depth) {
+
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1: " + batchSize);
+        }
+
+        Iterator<T> iterator = objects.iterator();
+        List<Object> batch = new ArrayList<>();
+        while (iterator.hasNext()) {
+            batch.clear();
+            while (iterator.hasNext() && batch.size() < batchSize) {
+                Object object = iterator.next();
+                if (session.metaData().classInfo(object) != null) {
+                    batch.add(object);
+                } else {
+                    session.warn(object.getClass().getName() + " is not an instance of a persistable class");
+                }
+            }
+            ingestBatch(batch, depth);
+        }
+    }
+
+    private void ingestBatch(List<Object> batch, int depth) {
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // the batch is tracked by a mapping context of its own, released with it once it is written
+        MappingContext mappingContext = new MappingContext(session.metaData());
+        EntityGraphMapper mapper = new EntityGraphMapper(session.metaData(), mappingContext);
+        for (Object object : batch) {
+            if (session.eventsEnabled()) {
+                session.notifyListeners(new PersistenceEvent(object, Event.TYPE.PRE_SAVE));
+            }
+            mapper.map(object, depth);
+        }
+
+        requestExecutor.executeSave(mapper.compileContext(), mappingContext);
+
+        if (session.eventsEnabled()) {
+            for (Object object : batch) {
+                session.notifyListeners(new PersistenceEvent(object, Event.TYPE.POST_SAVE));
+            }
+        }
+    }
 }
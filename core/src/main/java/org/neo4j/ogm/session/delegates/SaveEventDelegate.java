@@ -16,6 +16,7 @@ package org.neo4j.ogm.session.delegates;
 import java.util.*;
 
 import org.neo4j.ogm.annotation.Relationship;
+import org.neo4j.ogm.context.LazyCollection;
 import org.neo4j.ogm.context.MappedRelationship;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
@@ -286,7 +287,7 @@ final class SaveEventDelegate {
 
             for (FieldInfo reader : parentClassInfo.relationshipFields()) {
 
-                Object reference = reader.read(parent);
+                Object reference = LazyCollection.withoutLoading(reader.read(parent));
 
                 if (reference != null) {
                     if (reference.getClass().isArray()) {
@@ -329,7 +330,8 @@ final class SaveEventDelegate {
 
         Set<MappedRelationship> mappedRelationships = new HashSet<>();
 
-        Object reference = reader.read(parent);
+        // the relationships lazy collections haven't loaded are left as they are by the save
+        Object reference = LazyCollection.withoutLoading(reader.read(parent));
 
         if (reference != null) {
             if (reference.getClass().isArray()) {
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.request;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+
+/**
+ * The Cypher text of a load query, compiled once for a query shape and shared by all the loads of that shape.
+ * <p>
+ * Only the text is shared: the parameter names of a load are fixed by its shape (by-id loads bind <code>id</code> or
+ * <code>ids</code>, each filter binds the names of its {@link org.neo4j.ogm.cypher.function.FilterFunction}), so the
+ * parameters of each load are bound from its own ids, filter values and pagination, see
+ * {@link #parameters(Filters, Pagination)}.
+ */
+public class CompiledLoadStatement {
+
+    private final String statement;
+    private final boolean rowResult;
+
+    public CompiledLoadStatement(String statement, boolean rowResult) {
+        this.statement = statement;
+        this.rowResult = rowResult;
+    }
+
+    /**
+     * Compiles the given query, with its sort order and pagination already applied.
+     *
+     * @param query the query
+     * @return the compiled statement
+     */
+    public static CompiledLoadStatement of(PagingAndSortingQuery query) {
+        return new CompiledLoadStatement(query.getStatement(), query.needsRowResult());
+    }
+
+    public String getStatement() {
+        return statement;
+    }
+
+    /**
+     * @return true if the statement returns rows of paths and entity ids instead of a graph, see
+     * {@link PagingAndSortingQuery#needsRowResult()}
+     */
+    public boolean needsRowResult() {
+        return rowResult;
+    }
+
+    /**
+     * Binds the values of the given filters to the parameters of this statement. These are the same parameters the
+     * {@link FilteredQueryBuilder} collects while building the statement.
+     *
+     * @param filters the filters of the load, of the shape this statement was compiled for
+     * @return the parameters of the statement
+     */
+    public Map<String, Object> parameters(Filters filters) {
+        return parameters(filters, null);
+    }
+
+    /**
+     * Binds the values of the given filters and the skip and limit of the given pagination to the parameters of this
+     * statement, see {@link #parameters(Filters)} and {@link Pagination#parameters()}.
+     *
+     * @param filters    the filters of the load, of the shape this statement was compiled for
+     * @param pagination the pagination of the load, <code>null</code> if it isn't paged
+     * @return the parameters of the statement
+     */
+    public Map<String, Object> parameters(Filters filters, Pagination pagination) {
+        Map<String, Object> parameters = new HashMap<>();
+        for (Filter filter : filters) {
+            parameters.putAll(filter.parameters());
+        }
+        if (pagination != null) {
+            parameters.putAll(pagination.parameters());
+        }
+        return parameters;
+    }
+}
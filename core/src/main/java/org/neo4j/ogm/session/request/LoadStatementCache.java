@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.request;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.function.ContainsAnyComparison;
+import org.neo4j.ogm.cypher.function.DistanceComparison;
+import org.neo4j.ogm.cypher.function.PropertyComparison;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.session.LoadStrategy;
+
+/**
+ * A bounded, thread safe cache of {@link CompiledLoadStatement}s, keyed by the shape of the load: the kind of load,
+ * the entity type, the depth, the load strategy, the sort order, whether it is paged and, for filtered loads, the
+ * shape of each filter (its function, property, operators and nesting, but not its value).
+ * <p>
+ * One cache is shared by all the sessions of a {@link org.neo4j.ogm.session.SessionFactory}, so the load clauses
+ * (walking the schema for the schema load strategy) and the filtered match clauses of a query shape are built
+ * once and not once per load.
+ * <p>
+ * The skip and limit of a pagination are parameters of the statement, all the pages of a load share its shape. The
+ * least recently used shapes are evicted once the cache is full.
+ */
+public class LoadStatementCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    // the functions whose expression does not depend on their value
+    private static final Set<Class<?>> CACHEABLE_FUNCTIONS = new HashSet<>(Arrays.asList(
+            PropertyComparison.class, ContainsAnyComparison.class, DistanceComparison.class));
+
+    private enum Load {
+        BY_ID, BY_IDS, BY_TYPE
+    }
+
+    private final Map<List<Object>, CompiledLoadStatement> statements;
+
+    public LoadStatementCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public LoadStatementCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be greater than zero");
+        }
+        this.statements = Collections.synchronizedMap(new LinkedHashMap<List<Object>, CompiledLoadStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, CompiledLoadStatement> eldest) {
+                return size() > maximumSize;
+            }
+        });
+    }
+
+    /**
+     * Gets the statement compiled for the given shape, compiling and caching it first if there is none yet.
+     *
+     * @param shape the shape of the load, <code>null</code> if it can't be cached
+     * @param query builds the query of the load, with sort order and pagination applied
+     * @return the compiled statement
+     */
+    public CompiledLoadStatement compile(List<Object> shape, Supplier<PagingAndSortingQuery> query) {
+        if (shape == null) {
+            return CompiledLoadStatement.of(query.get());
+        }
+        CompiledLoadStatement statement = statements.get(shape);
+        if (statement == null) {
+            // compiled outside of the lock, concurrent loads of a new shape may both compile it
+            statement = CompiledLoadStatement.of(query.get());
+            statements.put(shape, statement);
+        }
+        return statement;
+    }
+
+    public int size() {
+        return statements.size();
+    }
+
+    public void clear() {
+        statements.clear();
+    }
+
+    /**
+     * @return the shape of a load of a single entity by id
+     */
+    public static List<Object> byId(Class<?> type, int depth, LoadStrategy loadStrategy) {
+        return Arrays.asList(Load.BY_ID, type, depth, loadStrategy);
+    }
+
+    /**
+     * @return the shape of a load of entities by ids
+     */
+    public static List<Object> byIds(Class<?> type, int depth, LoadStrategy loadStrategy, SortOrder sortOrder, Pagination pagination) {
+        return Arrays.asList(Load.BY_IDS, type, depth, loadStrategy, sortOrder.toString(), pagination != null);
+    }
+
+    /**
+     * The property names of the filters and sort order must already be resolved.
+     *
+     * @return the shape of a load of entities by type, <code>null</code> if a filter uses a custom
+     * {@link org.neo4j.ogm.cypher.function.FilterFunction}, whose expression may depend on its value
+     */
+    public static List<Object> byType(Class<?> type, int depth, LoadStrategy loadStrategy, Filters filters, SortOrder sortOrder, Pagination pagination) {
+        return byType(type, depth, loadStrategy, filters, sortOrder, pagination != null);
+    }
+
+    /**
+     * @return the shape of a load of entities by type, paged by keyset, see
+     * {@link #byType(Class, int, LoadStrategy, Filters, SortOrder, Pagination)}
+     */
+    public static List<Object> byKeyset(Class<?> type, int depth, LoadStrategy loadStrategy, Filters filters, SortOrder sortOrder, KeysetPagination pagination) {
+        return byType(type, depth, loadStrategy, filters, sortOrder, pagination.toString());
+    }
+
+    private static List<Object> byType(Class<?> type, int depth, LoadStrategy loadStrategy, Filters filters, SortOrder sortOrder, Object paging) {
+        List<Object> shape = new ArrayList<>();
+        shape.addAll(Arrays.asList(Load.BY_TYPE, type, depth, loadStrategy, sortOrder.toString(), paging));
+        for (Filter filter : filters) {
+            if (filter.getFunction() == null || !CACHEABLE_FUNCTIONS.contains(filter.getFunction().getClass())) {
+                return null;
+            }
+            shape.add(Arrays.asList(filter.getFunction().getClass(), filter.uniqueParameterName(), filter.getPropertyName(),
+                    filter.getComparisonOperator(), filter.getBooleanOperator(), filter.isNegated(),
+                    filter.getOwnerEntityType(), filter.getNestedPropertyName(), filter.getNestedPropertyType(),
+                    filter.getNestedEntityTypeLabel(), filter.isNestedRelationshipEntity(),
+                    filter.getRelationshipType(), filter.getRelationshipDirection()));
+        }
+        return shape;
+    }
+}
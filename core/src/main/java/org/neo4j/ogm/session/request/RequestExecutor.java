@@ -29,7 +29,6 @@ import org.neo4j.ogm.model.RowModel;
 import org.neo4j.ogm.request.Statement;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
-import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.transaction.AbstractTransaction;
 import org.neo4j.ogm.transaction.Transaction;
 import org.neo4j.ogm.utils.EntityUtils;
@@ -62,7 +61,21 @@ public class RequestExecutor {
      */
     public void executeSave(CompileContext context) {
 
-        executeSave(context, true);
+        executeSave(context, session.context(), true, true);
+    }
+
+    /**
+     * Execute a save request compiled against a mapping context other than the session's.
+     * The saved entities are registered in that mapping context, the session's is left untouched.
+     * New entities are not registered with the current transaction either: a rollback leaves their ids as they are,
+     * and the transaction doesn't hold on to them until it ends.
+     *
+     * @param context the CompileContext for this request
+     * @param mappingContext the mapping context the request was compiled against
+     */
+    public void executeSave(CompileContext context, MappingContext mappingContext) {
+
+        executeSave(context, mappingContext, true, false);
     }
 
 
@@ -84,7 +97,7 @@ public class RequestExecutor {
         }
 
         for (CompileContext context : contexts) {
-            executeSave(context, false);
+            executeSave(context, session.context(), false, true);
         }
 
         if (newTransaction) {
@@ -153,20 +166,21 @@ public class RequestExecutor {
      * Update the mapping context with entity ids for new/existing nodes created or updated in the request.
      *
      * @param context the compile context
-     * @param session the Session
+     * @param mappingContext the mapping context to update
      * @param entityRefMappings mapping of entity reference used in the compile context and the entity id from the database
+     * @param registerNew whether to register the new entities with the current transaction
      */
-    private void updateNodeEntities(CompileContext context, Neo4jSession session, List<ReferenceMapping> entityRefMappings) {
+    private void updateNodeEntities(CompileContext context, MappingContext mappingContext, List<ReferenceMapping> entityRefMappings, boolean registerNew) {
 
         // Ensures the last saved version of existing nodes is current in the cache
         for (Object obj : context.registry()) {
             if (!(obj instanceof TransientRelationship)) {
                 ClassInfo classInfo = session.metaData().classInfo(obj);
                 if (!classInfo.isRelationshipEntity()) {
-                    Long id = session.context().nativeId(obj);
+                    Long id = mappingContext.nativeId(obj);
                     if (id >= 0) {
                         LOGGER.debug("updating existing node id: {}, {}", id, obj);
-                        registerEntity(session.context(), classInfo, id, obj);
+                        registerEntity(mappingContext, classInfo, id, obj);
                     }
                 }
             }
@@ -181,7 +195,7 @@ public class RequestExecutor {
             if (!(referenceMapping.ref.equals(referenceMapping.id))) {
                 Object newEntity = context.getNewObject(referenceMapping.ref);
                 LOGGER.debug("creating new node id: {}, {}, {}", referenceMapping.ref, referenceMapping.id, newEntity);
-                initialiseNewEntity(referenceMapping.id, newEntity, session);
+                initialiseNewEntity(referenceMapping.id, newEntity, mappingContext, registerNew);
             }
         }
     }
@@ -190,31 +204,32 @@ public class RequestExecutor {
      * Update the mapping context with entity ids for new/existing relationship entities created in a request.
      *
      * @param context the compile context
-     * @param session the Session
+     * @param mappingContext the mapping context to update
      * @param relationshipEntityRefMappings mapping of relationship entity reference used in the compile context and the entity id from the database
+     * @param registerNew whether to register the new relationship entities with the current transaction
      */
-    private void updateRelationshipEntities(CompileContext context, Neo4jSession session, List<ReferenceMapping> relationshipEntityRefMappings) {
+    private void updateRelationshipEntities(CompileContext context, MappingContext mappingContext, List<ReferenceMapping> relationshipEntityRefMappings, boolean registerNew) {
         for (ReferenceMapping referenceMapping : relationshipEntityRefMappings) {
             if (referenceMapping.ref.equals(referenceMapping.id)) {
-                Object existingRelationshipEntity = session.context().getRelationshipEntity(referenceMapping.id);
+                Object existingRelationshipEntity = mappingContext.getRelationshipEntity(referenceMapping.id);
                 // not all relationship ids represent relationship entities
                 if (existingRelationshipEntity != null) {
                     LOGGER.debug("updating existing relationship entity id: {}", referenceMapping.id);
                     ClassInfo classInfo = session.metaData().classInfo(existingRelationshipEntity);
-                    registerEntity(session.context(), classInfo, referenceMapping.id, existingRelationshipEntity);
+                    registerEntity(mappingContext, classInfo, referenceMapping.id, existingRelationshipEntity);
                 }
             } else {
                 Object newRelationshipEntity = context.getNewObject(referenceMapping.ref);
                 // not all relationship ids represent relationship entities
                 if (newRelationshipEntity != null) {
                     LOGGER.debug("creating new relationship entity id: {}", referenceMapping.id);
-                    initialiseNewEntity(referenceMapping.id, newRelationshipEntity, session);
+                    initialiseNewEntity(referenceMapping.id, newRelationshipEntity, mappingContext, registerNew);
                 }
             }
         }
     }
 
-    private void executeSave(CompileContext context, boolean transactionRequired) {
+    private void executeSave(CompileContext context, MappingContext mappingContext, boolean transactionRequired, boolean registerNew) {
 
         Compiler compiler = context.getCompiler();
         compiler.useStatementFactory(new RowStatementFactory());
@@ -266,34 +281,38 @@ public class RequestExecutor {
             }
         }
 
+        // before the transaction ends, for the cache to know which entries it wrote to
+        session.invalidateCached(compiler.writtenNodeIds(), compiler.writtenRelationshipIds());
+
         if (transactionRequired && newTransaction) {
             tx.commit();
             tx.close();
         }
 
         //Update the mapping context now that the request is successful
-        updateNodeEntities(context, session, entityReferenceMappings);
-        updateRelationshipEntities(context, session, relReferenceMappings);
-        updateRelationships(context, session, relReferenceMappings);
+        mappingContext.reindexRelationshipEntities();
+        updateNodeEntities(context, mappingContext, entityReferenceMappings, registerNew);
+        updateRelationshipEntities(context, mappingContext, relReferenceMappings, registerNew);
+        updateRelationships(context, mappingContext, relReferenceMappings);
     }
 
     /**
      * Update the mapping context with new relationships created in a request.
      *
      * @param context the compile context
-     * @param session the Session
+     * @param mappingContext the mapping context to update
      * @param relRefMappings mapping of relationship reference used in the compile context and the relationship id from the database
      */
-    private void updateRelationships(CompileContext context, Neo4jSession session, List<ReferenceMapping> relRefMappings) {
+    private void updateRelationships(CompileContext context, MappingContext mappingContext, List<ReferenceMapping> relRefMappings) {
         final Map<Long, TransientRelationship> registeredTransientRelationshipIndex = buildRegisteredTransientRelationshipIndex(context);
         for (ReferenceMapping referenceMapping : relRefMappings) {
             if (registeredTransientRelationshipIndex.containsKey(referenceMapping.ref)) {
                 TransientRelationship transientRelationship = registeredTransientRelationshipIndex.get(referenceMapping.ref);
                 MappedRelationship mappedRelationship = new MappedRelationship(context.getId(transientRelationship.getSrc()), transientRelationship.getRel(), context.getId(transientRelationship.getTgt()), transientRelationship.getSrcClass(), transientRelationship.getTgtClass());
-                if (session.context().getRelationshipEntity(referenceMapping.id) != null) {
+                if (mappingContext.getRelationshipEntity(referenceMapping.id) != null) {
                     mappedRelationship.setRelationshipId(referenceMapping.id);
                 }
-                session.context().addRelationship(mappedRelationship);
+                mappingContext.addRelationship(mappedRelationship);
             }
         }
     }
@@ -321,17 +340,17 @@ public class RequestExecutor {
      * Register entities in the {@link MappingContext}
      *
      * @param persisted entity created as part of the request
-     * @param session the {@link Session}
+     * @param mappingContext the {@link MappingContext} to register it in
+     * @param registerNew whether to register it with the current transaction, to reset its id on rollback
      */
-    private void initialiseNewEntity(Long identity, Object persisted, Neo4jSession session) {
-        MappingContext mappingContext = session.context();
+    private void initialiseNewEntity(Long identity, Object persisted, MappingContext mappingContext, boolean registerNew) {
         Transaction tx = session.getTransaction();
         if (persisted != null) {  // it will be null if the variable represents a simple relationship.
             // set the id field of the newly created domain object
             EntityUtils.setIdentity(persisted, identity, session.metaData());
             ClassInfo classInfo = session.metaData().classInfo(persisted);
 
-            if (tx != null) {
+            if (tx != null && registerNew) {
                 ((AbstractTransaction) tx).registerNew(persisted);
             }
 
@@ -18,6 +18,7 @@ import java.util.Collection;
 
 import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.cypher.query.StatementFragments;
 import org.neo4j.ogm.exception.core.InvalidDepthException;
 import org.neo4j.ogm.session.Utils;
 import org.neo4j.ogm.session.request.FilteredQuery;
@@ -32,14 +33,14 @@ public class RelationshipQueryStatements<ID extends Serializable> implements Que
 
     private static final String MATCH_WITH_ID = "MATCH ()-[r0]-() WHERE ID(r0)={id} ";
     private static final String MATCH_WITH_TYPE_AND_IDS = "MATCH ()-[r0:`%s`]-() WHERE ID(r0) IN {ids} ";
-    private static final String MATCH_PATHS_WITH_REL_ID = " WITH r0,startnode(r0) AS n, endnode(r0) AS m " +
-            "MATCH p1 = (n)-[*%d..%d]-() WITH r0, COLLECT(DISTINCT p1) AS startPaths, m " +
+    private static final String WITH_REL_ID = " WITH r0,startnode(r0) AS n, endnode(r0) AS m";
+    private static final String LOAD_PATHS_WITH_REL_ID = " MATCH p1 = (n)-[*%d..%d]-() WITH r0, COLLECT(DISTINCT p1) AS startPaths, m " +
             "MATCH p2 = (m)-[*%d..%d]-() WITH r0, startPaths, COLLECT(DISTINCT p2) AS endPaths " +
             "WITH ID(r0) AS rId,startPaths + endPaths  AS paths " +
             "UNWIND paths AS p " +
             "RETURN DISTINCT p, rId";
-    private static final String MATCH_PATHS = " WITH STARTNODE(r0) AS n, ENDNODE(r0) AS m " +
-            "MATCH p1 = (n)-[*%d..%d]-() WITH COLLECT(DISTINCT p1) AS startPaths, m " +
+    private static final String WITH_NODES = " WITH STARTNODE(r0) AS n, ENDNODE(r0) AS m";
+    private static final String LOAD_PATHS = " MATCH p1 = (n)-[*%d..%d]-() WITH COLLECT(DISTINCT p1) AS startPaths, m " +
             "MATCH p2 = (m)-[*%d..%d]-() WITH startPaths, COLLECT(DISTINCT p2) AS endPaths " +
             "WITH startPaths + endPaths AS paths " +
             "UNWIND paths AS p " +
@@ -62,8 +63,9 @@ public class RelationshipQueryStatements<ID extends Serializable> implements Que
         int max = max(depth);
         int min = min(max);
         if (max > 0) {
-            String qry = String.format(MATCH_WITH_ID + MATCH_PATHS, min, max, min, max);
-            return new PagingAndSortingQuery(qry, Utils.map("id", id));
+            String load = String.format(LOAD_PATHS, min, max, min, max);
+            return new PagingAndSortingQuery(StatementFragments.relationships(MATCH_WITH_ID, WITH_NODES, load, true),
+                Utils.map("id", id));
         } else {
             throw new InvalidDepthException("Cannot load a relationship entity with depth 0 i.e. no start or end node");
         }
@@ -84,8 +86,9 @@ public class RelationshipQueryStatements<ID extends Serializable> implements Que
             } else {
                 matchClause = idMatchClauseBuilder.build(label, primaryId);
             }
-            String qry = String.format(matchClause + MATCH_PATHS, min, max, min, max);
-            return new PagingAndSortingQuery(qry, Utils.map("id", id));
+            String load = String.format(LOAD_PATHS, min, max, min, max);
+            return new PagingAndSortingQuery(StatementFragments.relationships(matchClause, WITH_NODES, load, true),
+                Utils.map("id", id));
         } else {
             throw new InvalidDepthException("Cannot load a relationship entity with depth 0 i.e. no start or end node");
         }
@@ -102,8 +105,9 @@ public class RelationshipQueryStatements<ID extends Serializable> implements Que
             } else {
                 matchClause = idCollectionMatchClauseBuilder.build(type, primaryId);
             }
-            String qry = String.format(matchClause + MATCH_PATHS_WITH_REL_ID, min, max, min, max);
-            return new PagingAndSortingQuery(qry, Utils.map("ids", ids));
+            String load = String.format(LOAD_PATHS_WITH_REL_ID, min, max, min, max);
+            return new PagingAndSortingQuery(StatementFragments.relationships(matchClause, WITH_REL_ID, load, true),
+                Utils.map("ids", ids));
         } else {
             throw new InvalidDepthException("Cannot load a relationship entity with depth 0 i.e. no start or end node");
         }
@@ -113,8 +117,10 @@ public class RelationshipQueryStatements<ID extends Serializable> implements Que
     public PagingAndSortingQuery findByType(String type, int depth) {
         int max = max(depth);
         if (max > 0) {
-            String qry = String.format("MATCH ()-[r0:`%s`]-() " + MATCH_PATHS_WITH_REL_ID, type, 0, max, 0, max);
-            return new PagingAndSortingQuery(qry, Utils.map());
+            String matchClause = "MATCH ()-[r0:`" + type + "`]-() ";
+            String load = String.format(LOAD_PATHS_WITH_REL_ID, 0, max, 0, max);
+            return new PagingAndSortingQuery(StatementFragments.relationships(matchClause, WITH_REL_ID, load, false),
+                Utils.map());
         } else {
             throw new InvalidDepthException("Cannot load a relationship entity with depth 0 i.e. no start or end node");
         }
@@ -127,8 +133,11 @@ public class RelationshipQueryStatements<ID extends Serializable> implements Que
         int min = min(max);
         if (max > 0) {
             FilteredQuery query = FilteredQueryBuilder.buildRelationshipQuery(type, parameters);
-            query.setReturnClause(String.format(MATCH_PATHS_WITH_REL_ID, min, max, min, max));
-            return new PagingAndSortingQuery(query.statement(), query.parameters());
+            String matchClause = query.statement();
+            String load = String.format(LOAD_PATHS_WITH_REL_ID, min, max, min, max);
+            return new PagingAndSortingQuery(
+                StatementFragments.relationships(matchClause, WITH_REL_ID, load, matchClause.contains("WHERE")),
+                query.parameters());
         } else {
             throw new InvalidDepthException("Cannot load a relationship entity with depth 0 i.e. no start or end node");
         }
@@ -13,6 +13,7 @@
 
 package org.neo4j.ogm.session.transaction;
 
+import org.neo4j.ogm.context.EntityCache;
 import org.neo4j.ogm.driver.Driver;
 import org.neo4j.ogm.exception.core.TransactionManagerException;
 import org.neo4j.ogm.session.Neo4jSession;
@@ -93,6 +94,7 @@ public class DefaultTransactionManager implements TransactionManager {
         }
 
         TRANSACTION_THREAD_LOCAL.remove();
+        ended(transaction);
     }
 
     /**
@@ -108,6 +110,16 @@ public class DefaultTransactionManager implements TransactionManager {
             throw new TransactionManagerException("Transaction is not current for this thread");
         }
         TRANSACTION_THREAD_LOCAL.remove();
+        ended(tx);
+    }
+
+    private void ended(Transaction transaction) {
+        if (session != null) {
+            EntityCache entityCache = ((Neo4jSession) session).entityCache();
+            if (entityCache != null) {
+                entityCache.transactionEnded(transaction);
+            }
+        }
     }
 
     /**
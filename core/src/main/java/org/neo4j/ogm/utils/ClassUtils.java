@@ -13,8 +13,8 @@
 
 package org.neo4j.ogm.utils;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Vince Bickers
@@ -25,7 +25,8 @@ public abstract class ClassUtils {
     private static final String primitives = "char,byte,short,int,long,float,double,boolean";
 
 
-    private static Map<String, Class<?>> descriptorTypeMappings = new HashMap<>();
+    // shared by all the sessions, descriptors that can't be resolved are not cached
+    private static final Map<String, Class<?>> descriptorTypeMappings = new ConcurrentHashMap<>();
 
     /**
      * Return the reified class for the parameter of a parameterised setter or field from the parameter signature.
@@ -35,17 +36,22 @@ public abstract class ClassUtils {
      * @return reified class for the parameter or null
      */
     public static Class<?> getType(String descriptor) {
-        if (descriptorTypeMappings.containsKey(descriptor)) {
-            return descriptorTypeMappings.get(descriptor);
+        if (descriptor == null) {
+            return null;
+        }
+        Class<?> type = descriptorTypeMappings.get(descriptor);
+        if (type != null) {
+            return type;
         }
-        Class<?> type;
         try {
             type = computeType(descriptor);
         } catch (Throwable t) {
             //return null and swallow the exception
             return null;
         }
-        descriptorTypeMappings.put(descriptor, type);
+        if (type != null) {
+            descriptorTypeMappings.put(descriptor, type);
+        }
         return type;
     }
 
@@ -13,17 +13,15 @@
 
 package org.neo4j.ogm.drivers.embedded.request;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.neo4j.graphdb.GraphDatabaseService;
 import org.neo4j.graphdb.QueryExecutionException;
 import org.neo4j.graphdb.Result;
-import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.driver.ParameterConversion;
 import org.neo4j.ogm.drivers.embedded.response.GraphModelResponse;
 import org.neo4j.ogm.drivers.embedded.response.GraphRowModelResponse;
 import org.neo4j.ogm.drivers.embedded.response.RestModelResponse;
@@ -48,15 +46,10 @@ import org.slf4j.LoggerFactory;
  */
 public class EmbeddedRequest implements Request {
 
-    private static final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
-
     private final GraphDatabaseService graphDatabaseService;
     private final Logger logger = LoggerFactory.getLogger(EmbeddedRequest.class);
     private final TransactionManager transactionManager;
 
-    private final TypeReference<HashMap<String, Object>> MAP_TYPE_REF = new TypeReference<HashMap<String, Object>>() {
-    };
-
     public EmbeddedRequest(GraphDatabaseService graphDatabaseService, TransactionManager transactionManager) {
         this.graphDatabaseService = graphDatabaseService;
         this.transactionManager = transactionManager;
@@ -78,54 +71,13 @@ public class EmbeddedRequest implements Request {
         return new RowModelResponse(executeRequest(request), transactionManager);
     }
 
+    /**
+     * Executes the statements of the request one after the other as the response is consumed, each statement once
+     * the rows of the previous one have been read. Closing the response executes the statements not reached yet.
+     */
     @Override
     public Response<RowModel> execute(DefaultRequest query) {
-        //TODO this is a hack to get the embedded driver to work with executing multiple statements
-        final List<RowModel> rowmodels = new ArrayList<>();
-        String[] columns = null;
-        for (Statement statement : query.getStatements()) {
-            Result result = executeRequest(statement);
-            if (columns == null) {
-                columns = result.columns().toArray(new String[result.columns().size()]);
-            }
-            RowModelResponse rowModelResponse = new RowModelResponse(result, transactionManager);
-            RowModel model;
-            while ((model = rowModelResponse.next()) != null) {
-                rowmodels.add(model);
-            }
-            result.close();
-        }
-
-        final String[] finalColumns = columns;
-        return new Response<RowModel>() {
-            int currentRow = 0;
-
-            @Override
-            public RowModel next() {
-                if (currentRow < rowmodels.size()) {
-                    return rowmodels.get(currentRow++);
-                }
-                return null;
-            }
-
-            @Override
-            public void close() {
-                if (transactionManager.getCurrentTransaction() != null) {
-                    logger.debug("Response closed: {}", this);
-                    // if the current transaction is an autocommit one, we should commit and close it now,
-                    EmbeddedTransaction tx = (EmbeddedTransaction) transactionManager.getCurrentTransaction();
-                    if (tx.isAutoCommit()) {
-                        tx.commit();
-                        tx.close();
-                    }
-                }
-            }
-
-            @Override
-            public String[] columns() {
-                return finalColumns;
-            }
-        };
+        return new MultiStatementResponse(query.getStatements());
     }
 
     @Override
@@ -149,8 +101,8 @@ public class EmbeddedRequest implements Request {
         try {
             String cypher = statement.getStatement();
 
-            Map<String, Object> parameterMap = mapper.convertValue(statement.getParameters(), MAP_TYPE_REF);
-            logger.info("Request: {} with params {}", cypher, parameterMap);
+            Map<String, Object> parameterMap = ParameterConversion.convertParameters(statement.getParameters());
+            logger.debug("Request: {} with params {}", cypher, parameterMap);
 
             // If we don't have a current transactional context for this operation
             // we must create one, and mark the transaction as autoCommit. This will ensure the
@@ -180,4 +132,96 @@ public class EmbeddedRequest implements Request {
             throw new RuntimeException(e);
         }
     }
+
+    /**
+     * The rows of several statements, executed and read lazily one after the other.
+     */
+    private class MultiStatementResponse implements Response<RowModel> {
+
+        private final Iterator<Statement> statements;
+        private final String[] columns;
+
+        private Result result;
+        private RowModelResponse rows;
+        private boolean closed;
+
+        MultiStatementResponse(List<Statement> statements) {
+            this.statements = statements.iterator();
+            if (advance()) {
+                this.columns = result.columns().toArray(new String[result.columns().size()]);
+            } else {
+                this.columns = null;
+            }
+        }
+
+        @Override
+        public RowModel next() {
+            while (rows != null) {
+                RowModel model = read(rows::next);
+                if (model != null) {
+                    return model;
+                }
+                advance();
+            }
+            return null;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (transactionManager.getCurrentTransaction() != null) {
+                // execute the statements not reached yet
+                while (rows != null) {
+                    read(() -> {
+                        while (result.hasNext()) {
+                            result.next();
+                        }
+                        return null;
+                    });
+                    advance();
+                }
+                logger.debug("Response closed: {}", this);
+                // if the current transaction is an autocommit one, we should commit and close it now,
+                EmbeddedTransaction tx = (EmbeddedTransaction) transactionManager.getCurrentTransaction();
+                if (tx != null && tx.isAutoCommit()) {
+                    tx.commit();
+                    tx.close();
+                }
+            }
+        }
+
+        @Override
+        public String[] columns() {
+            return columns;
+        }
+
+        private boolean advance() {
+            if (result != null) {
+                result.close();
+            }
+            if (!statements.hasNext()) {
+                result = null;
+                rows = null;
+                return false;
+            }
+            result = executeRequest(statements.next());
+            rows = new RowModelResponse(result, transactionManager);
+            return true;
+        }
+
+        private <T> T read(Supplier<T> reader) {
+            try {
+                return reader.get();
+            } catch (QueryExecutionException qee) {
+                EmbeddedTransaction tx = (EmbeddedTransaction) transactionManager.getCurrentTransaction();
+                if (tx != null) {
+                    tx.rollback();
+                }
+                throw new CypherException("Error executing Cypher", qee, qee.getStatusCode(), qee.getMessage());
+            }
+        }
+    }
 }
@@ -19,84 +19,71 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.util.TokenBuffer;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.neo4j.ogm.config.ObjectMapperFactory;
 import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.exception.ResultProcessingException;
 import org.neo4j.ogm.model.QueryStatistics;
 import org.neo4j.ogm.response.model.QueryStatisticsModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Reads the JSON response of the transactional endpoint while it is being received, one data record at a time,
+ * so that a response is mapped in constant memory whatever the number of rows.
+ * <p>
+ * The columns, statistics and errors of the response are captured when the parser reaches them. As the server
+ * reports errors after the results, a {@link CypherException} is thrown by the read that reaches them, at the latest
+ * by {@link #close()}, which reads what is left of the response before releasing the connection.
+ *
  * @author vince
  * @author Luanne Misquitta
  */
 public abstract class AbstractHttpResponse<T> {
 
     private final InputStream results;
-    private final JsonParser bufferParser;
+    private final JsonParser parser;
     private final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
-    private final TokenBuffer buffer;
     private final Class<T> resultClass;
     private final CloseableHttpResponse httpResponse;
 
     private String[] columns;
     private QueryStatistics queryStatistics;
-    private JsonNode responseNode;
+    private boolean closed;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractHttpResponse.class);
 
     public AbstractHttpResponse(CloseableHttpResponse httpResponse, Class<T> resultClass) {
 
         this.resultClass = resultClass;
+        this.httpResponse = httpResponse;
         try {
-            this.httpResponse = httpResponse;
             this.results = httpResponse.getEntity().getContent();
-            JsonParser parser = ObjectMapperFactory.jsonFactory().createParser(results);
-            buffer = new TokenBuffer(parser);
-            //Copy the contents of the response into the token buffer.
-            //This is so that we do not have to serialize the response to textual json while we get to the end of the stream to check for errors
-            parser.nextToken();
-            buffer.copyCurrentStructure(parser);
-            bufferParser = buffer.asParser();
+            this.parser = ObjectMapperFactory.jsonFactory().createParser(results);
         } catch (IOException ioException) {
+            release();
             throw new RuntimeException(ioException);
-        } finally {
-            close(); //We are done with the InputStream
-        }
-        initialise();
-    }
-
-    private void initialise() {
-        try {
-            responseNode = mapper.readTree(buffer.asParser());
-            JsonNode errors = responseNode.findValue("errors");
-            if (errors.elements().hasNext()) {
-                JsonNode errorNode = errors.elements().next();
-                throw new CypherException("Error executing Cypher " + errorNode.findValue("code"), errorNode.findValue("code").asText(), errorNode.findValue("message").asText());
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
         }
     }
 
+    /**
+     * Reads the next record held by the given field of the response.
+     *
+     * @param key the name of the field holding the records
+     * @return the next record, null once the response has been read
+     */
     public T nextDataRecord(String key) {
-        JsonToken token;
         try {
-            while ((token = bufferParser.nextToken()) != null) {
-                if (JsonToken.FIELD_NAME.equals(token)) {
-                    if (key.equals(bufferParser.getCurrentName())) {
-                        return mapper.readValue(bufferParser, resultClass);
-                    }
-                }
+            if (seek(key)) {
+                // bound from the field onwards, as the enclosing object of the record
+                return mapper.readValue(parser, resultClass);
             }
         } catch (IOException e) {
-            e.printStackTrace();
+            release();
+            throw new ResultProcessingException("Could not read the response", e);
         }
         return null;
     }
@@ -104,48 +91,131 @@ public abstract class AbstractHttpResponse<T> {
     /**
      * Returns the first set of columns from the JSON response.
      * Note that the current implementation expects that columns be standard across all statements in a Cypher transaction.
+     * As the columns of a result precede its data, reading them doesn't skip any record.
      *
      * @return the first set of columns from a JSON response
      */
     public String[] columns() {
-        if (columns == null) {
-            List<String> columnsList = new ArrayList<>();
-            List<JsonNode> columnsNodes = responseNode.findValues("columns");
-            if (columnsNodes != null && columnsNodes.size() > 0) {
-                JsonNode firstColumnsNode = columnsNodes.get(0);
-                for (JsonNode columnNode : firstColumnsNode) {
-                    columnsList.add(columnNode.asText());
+        if (columns == null && !closed) {
+            try {
+                if (seek("columns")) {
+                    parser.nextToken();
+                    readColumns();
                 }
-                columns = new String[columnsList.size()];
-                columns = columnsList.toArray(columns);
+            } catch (IOException e) {
+                release();
+                throw new ResultProcessingException("Could not read the response", e);
             }
         }
         return columns;
     }
 
     /**
-     * Extract stats from the response if present
+     * Extract stats from the response if present. The stats of a result follow its data, they are only available
+     * once all its records have been read.
      *
-     * @return queryStatistics or null if the response does not contain it
+     * @return queryStatistics or null if the response does not contain it, or it hasn't been read yet
      */
     public QueryStatistics statistics() {
-        if (queryStatistics == null) {
-            List<JsonNode> statsNodes = responseNode.findValues("stats");
+        return queryStatistics;
+    }
+
+    /**
+     * Reads the rest of the response, throwing a {@link CypherException} if it reports an error, and releases the
+     * connection. Closing a response more than once has no effect.
+     */
+    public void close() {
+        if (!closed) {
             try {
-                if (statsNodes != null && statsNodes.size() > 0) {
-                    queryStatistics = mapper.treeToValue(statsNodes.get(0), QueryStatisticsModel.class);
-                }
-            } catch (JsonProcessingException jsonException) {
-                throw new RuntimeException(jsonException);
+                seek(null);
+            } catch (IOException e) {
+                release();
+                throw new ResultProcessingException("Could not read the response", e);
             }
         }
-        return queryStatistics;
     }
 
-    private void close() {
+    /**
+     * Advances the parser to the next field with the given name, capturing the columns, statistics and errors on
+     * the way and skipping the values of any other field. Only the results, their data and the records in it are
+     * descended into.
+     *
+     * @return true if the parser is positioned on the field, false if the end of the response has been reached
+     */
+    private boolean seek(String key) throws IOException {
+        if (closed) {
+            return false;
+        }
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (token != JsonToken.FIELD_NAME) {
+                continue;
+            }
+            String name = parser.getCurrentName();
+            if (name.equals(key)) {
+                return true;
+            }
+            parser.nextToken();
+            switch (name) {
+                case "results":
+                case "data":
+                    break;
+                case "columns":
+                    readColumns();
+                    break;
+                case "stats":
+                    readStatistics();
+                    break;
+                case "errors":
+                    readErrors();
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        release();
+        return false;
+    }
+
+    private void readColumns() throws IOException {
+        if (columns != null) {
+            parser.skipChildren();
+            return;
+        }
+        List<String> columnsList = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            columnsList.add(parser.getText());
+        }
+        columns = columnsList.toArray(new String[columnsList.size()]);
+    }
+
+    private void readStatistics() throws IOException {
+        if (queryStatistics != null) {
+            parser.skipChildren();
+            return;
+        }
+        queryStatistics = mapper.readValue(parser, QueryStatisticsModel.class);
+    }
+
+    private void readErrors() throws IOException {
+        JsonNode errors = mapper.readTree(parser);
+        if (errors.elements().hasNext()) {
+            release();
+            JsonNode errorNode = errors.elements().next();
+            throw new CypherException("Error executing Cypher " + errorNode.findValue("code"), errorNode.findValue("code").asText(), errorNode.findValue("message").asText());
+        }
+    }
+
+    private void release() {
+        if (closed) {
+            return;
+        }
+        closed = true;
         try {
             LOGGER.debug("Thread {}: Releasing HttpResponse", Thread.currentThread().getId());
-            results.close();
+            if (results != null) {
+                results.close();
+            }
             httpResponse.close();
         } catch (Exception e) {
             throw new RuntimeException(e);
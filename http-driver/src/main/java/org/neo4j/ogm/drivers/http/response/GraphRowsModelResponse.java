@@ -43,9 +43,4 @@ public class GraphRowsModelResponse extends AbstractHttpResponse<ResultGraphRowL
         }
         return null;
     }
-
-    @Override
-    public void close() {
-        //Nothing to do, the response has been closed already
-    }
 }
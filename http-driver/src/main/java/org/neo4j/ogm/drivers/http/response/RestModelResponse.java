@@ -40,11 +40,6 @@ public class RestModelResponse extends AbstractHttpResponse<ResultRestModel> imp
         return defaultRestModel;
     }
 
-    @Override
-    public void close() {
-        //Nothing to do, the response has been closed already
-    }
-
     private Map<String, Object> buildModel() {
         ResultRestModel result = nextDataRecord("rest");
         Map<String, Object> row = new LinkedHashMap<>();
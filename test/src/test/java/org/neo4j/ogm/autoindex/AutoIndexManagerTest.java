@@ -6,13 +6,30 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.commons.io.IOUtils;
 import org.junit.Test;
 import org.neo4j.ogm.config.AutoIndexMode;
 import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.driver.Driver;
 import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.transaction.TransactionManager;
 
 /**
  * Make sure this tests works across all drivers supporting Neo4j 3.x and above.
@@ -28,6 +45,8 @@ public class AutoIndexManagerTest extends MultiDriverTestClass {
     private static final String CREATE_TAG_CONSTRAINT_CYPHER = "CREATE CONSTRAINT ON ( `t-a-g`:`T-A-G` ) ASSERT `t-a-g`.`short-description` IS UNIQUE";    
     private static final String CREATE_TAG_INDEX_CYPHER = "CREATE INDEX ON :`t-a-g`(`short-description`)";
     
+    private static final String CREATE_OBSOLETE_INDEX_CYPHER = "CREATE INDEX ON :`Login`(`obsolete`)";
+
     private static final String DROP_LOGIN_CONSTRAINT_CYPHER = "DROP CONSTRAINT ON (`login`:`Login`) ASSERT `login`.`userName` IS UNIQUE";
     private static final String DROP_TAG_CONSTRAINT_CYPHER = "DROP CONSTRAINT ON (`t-a-g`:`T-A-G`) ASSERT `t-a-g`.`short-description` IS UNIQUE";
 
@@ -55,6 +74,13 @@ public class AutoIndexManagerTest extends MultiDriverTestClass {
         assertThat(configuration.getAutoIndex()).isEqualTo(AutoIndexMode.DUMP);
     }
 
+    @Test
+    public void shouldPreserveUpdateConfiguration() {
+        Configuration configuration = getBaseConfiguration().autoIndex("update").autoIndexAwaitTimeout(10).build();
+        assertThat(configuration.getAutoIndex()).isEqualTo(AutoIndexMode.UPDATE);
+        assertThat(configuration.getAutoIndexAwaitTimeout()).isEqualTo(10);
+    }
+
     @Test
     public void testIndexesAreSuccessfullyValidated() {
 
@@ -121,6 +147,117 @@ public class AutoIndexManagerTest extends MultiDriverTestClass {
         dropConstraints();
     }
 
+    @Test
+    public void testIndexesAreSuccessfullyUpdated() {
+
+        getGraphDatabaseService().execute(CREATE_LOGIN_CONSTRAINT_CYPHER);
+        getGraphDatabaseService().execute(CREATE_OBSOLETE_INDEX_CYPHER);
+
+        Configuration configuration = getBaseConfiguration().autoIndex("update").autoIndexAwaitTimeout(10).build();
+        RecordingDriver recordingDriver = new RecordingDriver(driver);
+        AutoIndexManager indexManager = new AutoIndexManager(metaData, recordingDriver, configuration);
+        indexManager.build();
+
+        assertThat(descriptions("CALL db.constraints()")).containsOnly(
+                "CONSTRAINT ON ( login:Login ) ASSERT login.userName IS UNIQUE",
+                "CONSTRAINT ON ( t-a-g:T-A-G ) ASSERT t-a-g.short-description IS UNIQUE");
+        assertThat(descriptions("CALL db.indexes()")).doesNotContain("INDEX ON :Login(obsolete)");
+        // the existing constraint is left as it is, only the obsolete index is dropped and the missing constraint created
+        assertThat(recordingDriver.statements).filteredOn(statement -> statement.startsWith("DROP"))
+                .hasSize(1).allMatch(statement -> statement.contains("obsolete"));
+        assertThat(recordingDriver.statements).filteredOn(statement -> statement.startsWith("CREATE"))
+                .containsExactly(CREATE_TAG_CONSTRAINT_CYPHER);
+
+        // nothing left to change
+        recordingDriver.statements.clear();
+        indexManager.build();
+
+        assertThat(descriptions("CALL db.constraints()")).hasSize(2);
+        assertThat(recordingDriver.statements).filteredOn(statement -> statement.startsWith("DROP") || statement.startsWith("CREATE"))
+                .isEmpty();
+
+        dropConstraints();
+    }
+
+    /**
+     * Records the statements of the requests executed through the driver it delegates to.
+     */
+    private static class RecordingDriver implements Driver {
+
+        private final Driver driver;
+        private final List<String> statements = new ArrayList<>();
+
+        RecordingDriver(Driver driver) {
+            this.driver = driver;
+        }
+
+        @Override
+        public void configure(Configuration config) {
+            driver.configure(config);
+        }
+
+        @Override
+        public Transaction newTransaction(Transaction.Type type, Iterable<String> bookmarks) {
+            return driver.newTransaction(type, bookmarks);
+        }
+
+        @Override
+        public void close() {
+            driver.close();
+        }
+
+        @Override
+        public Request request() {
+            Request request = driver.request();
+            return new Request() {
+
+                @Override
+                public Response<GraphModel> execute(GraphModelRequest query) {
+                    return request.execute(query);
+                }
+
+                @Override
+                public Response<RowModel> execute(RowModelRequest query) {
+                    return request.execute(query);
+                }
+
+                @Override
+                public Response<RowModel> execute(DefaultRequest query) {
+                    for (Statement statement : query.getStatements()) {
+                        statements.add(statement.getStatement());
+                    }
+                    return request.execute(query);
+                }
+
+                @Override
+                public Response<GraphRowListModel> execute(GraphRowListModelRequest query) {
+                    return request.execute(query);
+                }
+
+                @Override
+                public Response<RestModel> execute(RestModelRequest query) {
+                    return request.execute(query);
+                }
+            };
+        }
+
+        @Override
+        public void setTransactionManager(TransactionManager tx) {
+            driver.setTransactionManager(tx);
+        }
+
+        @Override
+        public Configuration getConfiguration() {
+            return driver.getConfiguration();
+        }
+    }
+
+    private List<Object> descriptions(String procedure) {
+        List<Object> descriptions = new ArrayList<>();
+        getGraphDatabaseService().execute(procedure).columnAs("description").forEachRemaining(descriptions::add);
+        return descriptions;
+    }
+
     private void createConstraints() {
         getGraphDatabaseService().execute(CREATE_LOGIN_CONSTRAINT_CYPHER);
         getGraphDatabaseService().execute(CREATE_TAG_CONSTRAINT_CYPHER);        
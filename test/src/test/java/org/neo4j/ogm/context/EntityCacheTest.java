@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.neo4j.ogm.domain.cache.Tenant;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.response.model.RelationshipModel;
+
+public class EntityCacheTest {
+
+    private static final ClassInfo tenantInfo = new MetaData("org.neo4j.ogm.domain.cache").classInfo(Tenant.class.getName());
+
+    private final EntityCache cache = new EntityCache(2, 1, TimeUnit.HOURS);
+
+    @Test
+    public void annotatedClassesShouldBeCached() {
+        assertThat(tenantInfo.isCached()).isTrue();
+    }
+
+    @Test
+    public void shouldEvictTheLeastRecentlyUsedEntries() {
+        put(key(1L), graph(1L, 11L, 21L));
+        put(key(2L), graph(2L, 12L, 22L));
+        cache.get(key(1L));
+        put(key(3L), graph(3L, 13L, 23L));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(key(1L))).isNotNull();
+        assertThat(cache.get(key(2L))).isNull();
+        assertThat(cache.get(key(3L))).isNotNull();
+    }
+
+    @Test
+    public void shouldExpireEntries() throws InterruptedException {
+        EntityCache expiring = new EntityCache(2, 1, TimeUnit.MILLISECONDS);
+        expiring.put(key(1L), graph(1L, 11L, 21L), expiring.stamp());
+
+        Thread.sleep(5);
+
+        assertThat(expiring.get(key(1L))).isNull();
+        assertThat(expiring.size()).isZero();
+    }
+
+    @Test
+    public void shouldKeyLoadsByDepthAndStrategy() {
+        put(key(1L), graph(1L, 11L, 21L));
+
+        assertThat(cache.get(EntityCache.key(tenantInfo, 1L, 2, "strategy"))).isNull();
+        assertThat(cache.get(EntityCache.key(tenantInfo, 1L, 1, "other"))).isNull();
+        assertThat(cache.get(EntityCache.key(tenantInfo, 1L, 1, "strategy"))).hasSize(1);
+    }
+
+    @Test
+    public void shouldInvalidateEntriesContainingNodesOrRelationshipsWritten() {
+        put(key(1L), graph(1L, 11L, 21L));
+        put(key(2L), graph(2L, 12L, 22L));
+
+        cache.invalidate(singleton(11L), emptySet());
+        assertThat(cache.get(key(1L))).isNull();
+        assertThat(cache.get(key(2L))).isNotNull();
+
+        cache.invalidate(emptySet(), singleton(22L));
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void shouldNotCacheResponsesReadBeforeAnInvalidation() {
+        long stamp = cache.stamp();
+        cache.invalidate(singleton(42L), emptySet());
+
+        cache.put(key(1L), graph(1L, 11L, 21L), stamp);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void shouldNotCacheWhileATransactionThatWroteHasNotEnded() {
+        Object transaction = new Object();
+        put(key(1L), graph(1L, 11L, 21L));
+
+        cache.written(transaction, singleton(1L), emptySet());
+        assertThat(cache.get(key(1L))).isNull();
+
+        put(key(1L), graph(1L, 11L, 21L));
+        assertThat(cache.size()).isZero();
+
+        cache.transactionEnded(transaction);
+        put(key(1L), graph(1L, 11L, 21L));
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldInvalidateEverythingWrittenByATransactionWhenItEnds() {
+        Object transaction = new Object();
+        cache.writtenAll(transaction);
+        put(key(1L), graph(1L, 11L, 21L));
+        assertThat(cache.size()).isZero();
+
+        cache.transactionEnded(transaction);
+        put(key(1L), graph(1L, 11L, 21L));
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    private void put(EntityCache.Key key, List<GraphModel> graphs) {
+        cache.put(key, graphs, cache.stamp());
+    }
+
+    private static EntityCache.Key key(Long id) {
+        return EntityCache.key(tenantInfo, id, 1, "strategy");
+    }
+
+    // a tenant hosted in a region
+    private static List<GraphModel> graph(Long tenantId, Long regionId, Long relationshipId) {
+        NodeModel tenant = new NodeModel();
+        tenant.setId(tenantId);
+        tenant.setLabels(new String[]{"Tenant"});
+        NodeModel region = new NodeModel();
+        region.setId(regionId);
+        region.setLabels(new String[]{"Region"});
+        RelationshipModel hostedIn = new RelationshipModel();
+        hostedIn.setId(relationshipId);
+        hostedIn.setType("HOSTED_IN");
+        hostedIn.setStartNode(tenantId);
+        hostedIn.setEndNode(regionId);
+
+        DefaultGraphModel graph = new DefaultGraphModel();
+        graph.setNodes(new NodeModel[]{tenant, region});
+        graph.setRelationships(new RelationshipModel[]{hostedIn});
+        return singletonList(graph);
+    }
+}
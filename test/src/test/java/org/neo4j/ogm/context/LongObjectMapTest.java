@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class LongObjectMapTest {
+
+    @Test
+    public void shouldBehaveLikeAHashMap() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        Map<Long, String> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            // a narrow key range makes removals hit existing keys and probe sequences collide
+            long key = random.nextInt(2_000) - 1_000;
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                String value = String.valueOf(i);
+                assertThat(map.put(key, value)).isEqualTo(expected.put(key, value));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        assertThat(map.values()).containsOnlyElementsOf(expected.values()).hasSize(expected.size());
+        for (long key = -1_000; key < 1_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+        }
+    }
+
+    @Test
+    public void shouldKeepZeroAsAnOrdinaryKey() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+
+        assertThat(map.putIfAbsent(0L, "zero")).isNull();
+        assertThat(map.putIfAbsent(0L, "other")).isEqualTo("zero");
+        assertThat(map.containsKey(0L)).isTrue();
+        assertThat(map.values()).containsExactly("zero");
+
+        map.clear();
+
+        assertThat(map.get(0L)).isNull();
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void longLongMapShouldGrowAndKeepAllEntries() {
+        LongLongMap map = new LongLongMap();
+
+        for (long key = -50_000; key < 50_000; key++) {
+            map.put(key, key * 31);
+        }
+
+        assertThat(map.size()).isEqualTo(100_000);
+        for (long key = -50_000; key < 50_000; key++) {
+            assertThat(map.get(key, -1L)).isEqualTo(key * 31);
+        }
+        assertThat(map.containsKey(50_000L)).isFalse();
+        assertThat(map.get(50_000L, -1L)).isEqualTo(-1L);
+    }
+}
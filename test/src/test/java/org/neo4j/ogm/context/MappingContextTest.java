@@ -15,6 +15,8 @@ package org.neo4j.ogm.context;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Iterator;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -135,6 +137,39 @@ public class MappingContextTest {
         assertThat(mappingContext.getRelationships()).hasSize(1);
     }
 
+    @Test
+    public void neighboursShouldFollowTheMappedRelationshipsOfANode() {
+        Person jim = new Person("jim");
+        jim.setId(1L);
+
+        Policy healthcare = new Policy("healthcare");
+        healthcare.setId(2L);
+
+        Person rik = new Person("rik");
+        rik.setId(3L);
+
+        mappingContext.addNodeEntity(jim);
+        mappingContext.addNodeEntity(healthcare);
+        mappingContext.addNodeEntity(rik);
+
+        MappedRelationship influences = new MappedRelationship(jim.getId(), "INFLUENCES", healthcare.getId(), Person.class, Policy.class);
+        mappingContext.addRelationship(influences);
+        mappingContext.addRelationship(new MappedRelationship(rik.getId(), "WORKS_WITH", jim.getId(), Person.class, Person.class));
+
+        assertThat(mappingContext.neighbours(jim)).containsOnly(healthcare, rik);
+        assertThat(mappingContext.neighbours(healthcare)).containsOnly(jim);
+
+        Iterator<MappedRelationship> iterator = mappingContext.getRelationships().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().equals(influences)) {
+                iterator.remove();
+            }
+        }
+
+        assertThat(mappingContext.neighbours(jim)).containsOnly(rik);
+        assertThat(mappingContext.neighbours(healthcare)).isEmpty();
+    }
+
     @Test
     public void areObjectsReportedAsDirtyCorrectly() {
         Person jim = new Person("jim");
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.neo4j.ogm.exception.core.MappingException;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.response.model.DefaultRowModel;
+
+public class ProjectionMapperTest {
+
+    private final ProjectionMapper mapper = new ProjectionMapper();
+
+    @Test
+    public void shouldBindColumnsToFieldsOfTheSameName() {
+        Iterable<Person> people = mapper.map(Person.class, rows(new String[]{"age", "name"},
+                new Object[]{42L, "Frodo"}, new Object[]{null, "Sam"}));
+
+        assertThat(people).extracting(person -> person.name).containsExactly("Frodo", "Sam");
+        assertThat(people).extracting(person -> person.age).containsExactly(42, 0);
+    }
+
+    @Test
+    public void shouldCoerceIterablesToTheTypeOfTheField() {
+        Iterable<Tagged> tagged = mapper.map(Tagged.class, rows(new String[]{"tags", "scores"},
+                new Object[]{Arrays.asList("a", "b", "a"), Arrays.asList(1L, 2L)}));
+
+        Tagged first = tagged.iterator().next();
+        assertThat(first.tags).containsOnly("a", "b");
+        assertThat(first.scores).containsExactly(1, 2);
+    }
+
+    @Test
+    public void shouldBindColumnsInOrderToTheOnlyConstructorTakingAsManyParameters() {
+        Iterable<Pair> pairs = mapper.map(Pair.class, rows(new String[]{"x", "y"}, new Object[]{"left", 2L}));
+
+        Pair pair = pairs.iterator().next();
+        assertThat(pair.left).isEqualTo("left");
+        assertThat(pair.right).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldNotBindUnknownColumns() {
+        assertThatThrownBy(() -> mapper.map(Person.class, rows(new String[]{"name", "email"}, new Object[]{"Frodo", "frodo@shire"})))
+                .isInstanceOf(MappingException.class);
+    }
+
+    @Test
+    public void shouldCompileThePlanOfAClassAndColumnsOnce() {
+        ProjectionPlan plan = ProjectionMapper.plan(Person.class, new String[]{"name", "age"});
+
+        assertThat(ProjectionMapper.plan(Person.class, new String[]{"name", "age"})).isSameAs(plan);
+        assertThat(ProjectionMapper.plan(Person.class, new String[]{"age", "name"})).isNotSameAs(plan);
+    }
+
+    private static Response<RowModel> rows(String[] columns, Object[]... rows) {
+        Iterator<Object[]> iterator = Arrays.asList(rows).iterator();
+        return new Response<RowModel>() {
+
+            @Override
+            public RowModel next() {
+                return iterator.hasNext() ? new DefaultRowModel(iterator.next(), columns) : null;
+            }
+
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public String[] columns() {
+                return columns;
+            }
+        };
+    }
+
+    static class Person {
+
+        String name;
+        int age;
+    }
+
+    static class Tagged {
+
+        Set<String> tags;
+        List<Integer> scores;
+    }
+
+    static class Pair {
+
+        final String left;
+        final int right;
+
+        Pair(String left, int right) {
+            this.left = left;
+            this.right = right;
+        }
+    }
+}
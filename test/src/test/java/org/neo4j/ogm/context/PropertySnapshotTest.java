@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+
+package org.neo4j.ogm.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.domain.canonical.Mappable;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.DirtyTracking;
+
+public class PropertySnapshotTest {
+
+    private static final MetaData metaData = new MetaData("org.neo4j.ogm.domain.canonical");
+    private static final MappingContext mappingContext = new MappingContext(metaData, DirtyTracking.PROPERTY_SNAPSHOT);
+
+    private Mappable mappable;
+
+    @Before
+    public void setUp() {
+        mappingContext.clear();
+        mappable = mappable(42L);
+        mappable.setObjectString("Frodo");
+        mappable.setPrimitiveIntArray(new int[]{1, 2, 3});
+        mappable.setListOfString(new ArrayList<>(Arrays.asList("a", "b")));
+        mappingContext.addNodeEntity(mappable);
+    }
+
+    @Test
+    public void unchangedEntityShouldNotBeDirty() {
+        mappable.setObjectString(new String("Frodo"));
+        mappable.setListOfString(new ArrayList<>(Arrays.asList("a", "b")));
+
+        assertThat(mappingContext.isDirty(mappable)).isFalse();
+        assertThat(mappingContext.dirtyFields(mappable)).isEmpty();
+    }
+
+    @Test
+    public void shouldTellTheChangedPropertiesApart() {
+        mappable.setObjectString("Sam");
+        mappable.setPrimitiveLong(7L);
+
+        assertThat(mappingContext.isDirty(mappable)).isTrue();
+        assertThat(propertyNames(mappingContext.dirtyFields(mappable))).containsOnly("objectString", "primitiveLong");
+    }
+
+    @Test
+    public void shouldDetectArraysAndCollectionsChangedInPlace() {
+        mappable.getPrimitiveIntArray()[0] = 4;
+        mappable.getListOfString().add("c");
+
+        assertThat(propertyNames(mappingContext.dirtyFields(mappable))).containsOnly("primitiveIntArray", "listOfString");
+    }
+
+    @Test
+    public void entityShouldNotBeDirtyOnceRememberedAgain() {
+        mappable.setObjectString("Sam");
+        mappingContext.replaceNodeEntity(mappable, 42L);
+
+        assertThat(mappingContext.dirtyFields(mappable)).isEmpty();
+    }
+
+    @Test
+    public void allPropertiesOfAnUnknownEntityShouldBeDirty() {
+        Mappable unknown = mappable(43L);
+
+        assertThat(mappingContext.dirtyFields(unknown)).containsAll(metaData.classInfo(unknown).propertyFields());
+    }
+
+    private static Mappable mappable(Long id) {
+        Mappable mappable = new Mappable();
+        metaData.classInfo(mappable).identityField().write(mappable, id);
+        return mappable;
+    }
+
+    private static Iterable<String> propertyNames(Iterable<FieldInfo> fields) {
+        ArrayList<String> names = new ArrayList<>();
+        for (FieldInfo field : fields) {
+            names.add(field.propertyName());
+        }
+        return names;
+    }
+}
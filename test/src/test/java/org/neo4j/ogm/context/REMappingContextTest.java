@@ -13,6 +13,9 @@
 
 package org.neo4j.ogm.context;
 
+import java.lang.reflect.Field;
+import java.util.Map;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -64,6 +67,55 @@ public class REMappingContextTest {
         assertThat(entity).isNull();
     }
 
+    @Test
+    public void reassignedRelationshipEntityShouldNotKeepItsFormerNode() throws Exception {
+        User alice = user(2L);
+        User bob = user(3L);
+        User carol = user(4L);
+        likes.from = alice;
+        likes.to = bob;
+        context.addRelationshipEntity(likes, 1L);
+
+        likes.to = carol;
+        context.replaceRelationshipEntity(likes, 1L);
+
+        assertThat(relationshipEntitiesByNode()).containsOnlyKeys(alice, carol);
+
+        context.replaceNodeEntity(bob, 3L);
+        assertThat(context.getRelationshipEntity(1L)).isSameAs(likes);
+    }
+
+    @Test
+    public void reassignedRelationshipEntityShouldBeDeregisteredWithItsNewNode() throws Exception {
+        User alice = user(2L);
+        User bob = user(3L);
+        User carol = user(4L);
+        likes.from = alice;
+        likes.to = bob;
+        context.addRelationshipEntity(likes, 1L);
+
+        likes.to = carol;
+        context.reindexRelationshipEntities();
+        context.replaceNodeEntity(carol, 4L);
+
+        assertThat(context.getRelationshipEntity(1L)).isNull();
+        assertThat(relationshipEntitiesByNode()).isEmpty();
+    }
+
+    private User user(Long id) {
+        User user = new User();
+        user.id = id;
+        context.addNodeEntity(user, id);
+        return user;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Object, ?> relationshipEntitiesByNode() throws Exception {
+        Field field = MappingContext.class.getDeclaredField("relationshipEntitiesByNode");
+        field.setAccessible(true);
+        return (Map<Object, ?>) field.get(context);
+    }
+
     @NodeEntity
     static class User {
 
@@ -434,6 +434,52 @@ public class CompilerTest {
         assertThat(((List) deleteRelsStatement.get(0).getParameters().get("rows"))).hasSize(2);
     }
 
+    @Test
+    public void shouldOnlyRemoveRelationshipsOfTheSavedEntityWhenManyAreKnown() {
+
+        Long mid = 0L;
+        Long xid = 1L;
+        Long yid = 2L;
+
+        Course music = new Course("GCSE Music");
+        music.setId(mid);
+
+        Student xavier = new Student("xavier");
+        xavier.setId(xid);
+
+        Student yvonne = new Student("Yvonne");
+        yvonne.setId(yid);
+
+        music.setStudents(Arrays.asList(yvonne, xavier));
+
+        mappingContext.addRelationship(new MappedRelationship(mid, "STUDENTS", xid, Course.class, Student.class));
+        mappingContext.addRelationship(new MappedRelationship(mid, "STUDENTS", yid, Course.class, Student.class));
+        mappingContext.addNodeEntity(xavier);
+        mappingContext.addNodeEntity(yvonne);
+        mappingContext.addNodeEntity(music);
+
+        // relationships between other courses and students the session has loaded
+        for (long i = 100; i < 1100; i += 2) {
+            mappingContext.addRelationship(new MappedRelationship(i, "STUDENTS", i + 1, Course.class, Student.class));
+        }
+
+        music.setStudents(Arrays.asList(yvonne));
+
+        Compiler compiler = mapAndCompile(music);
+
+        List<Statement> deleteRelsStatement = compiler.deleteRelationshipStatements();
+        assertThat(deleteRelsStatement).hasSize(1);
+        assertThat(((List) deleteRelsStatement.get(0).getParameters().get("rows"))).hasSize(1);
+
+        assertThat(mappingContext.containsRelationship(
+                new MappedRelationship(mid, "STUDENTS", xid, Course.class, Student.class))).isFalse();
+        assertThat(mappingContext.containsRelationship(
+                new MappedRelationship(mid, "STUDENTS", yid, Course.class, Student.class))).isTrue();
+        assertThat(mappingContext.containsRelationship(
+                new MappedRelationship(100L, "STUDENTS", 101L, Course.class, Student.class))).isTrue();
+        assertThat(mappingContext.getRelationships()).hasSize(501);
+    }
+
     @Test
     public void shouldCorrectlyRemoveRelationshipWhenItemIsMovedToDifferentCollection() {
 
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.cypher.compiler.builders.statement;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.*;
+
+import org.junit.Test;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.session.Utils;
+
+public class RowMapTest {
+
+    @Test
+    public void shouldBeEqualToTheHashMapOfItsEntries() {
+        RowMap row = RowMap.of(new String[]{"nodeRef", "type"}, -1L, "node");
+
+        assertThat(row).isEqualTo(Utils.map("nodeRef", -1L, "type", "node"));
+        assertThat(row.hashCode()).isEqualTo(Utils.map("nodeRef", -1L, "type", "node").hashCode());
+        assertThat(row.get("type")).isEqualTo("node");
+        assertThat(row.get("props")).isNull();
+        assertThat(row.containsKey("nodeRef")).isTrue();
+        assertThat(row.containsKey("props")).isFalse();
+    }
+
+    @Test
+    public void shouldBeImmutable() {
+        RowMap row = RowMap.of(new String[]{"type"}, "node");
+
+        assertThatThrownBy(() -> row.put("type", "rel")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> row.entrySet().iterator().next().setValue("rel"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void shouldSkipPropertiesWithoutValuesOfNewNodes() {
+        RowMap.PropertiesBuilder builder = new RowMap.PropertiesBuilder(true);
+
+        assertThat(builder.properties(node("name", "a", "age", null))).isEqualTo(Utils.map("name", "a"));
+        assertThat(new RowMap.PropertiesBuilder(false).properties(node("name", "a", "age", null)))
+                .containsEntry("age", null)
+                .hasSize(2);
+    }
+
+    @Test
+    public void shouldShareTheKeysOfConsecutiveNodesWithTheSameProperties() {
+        RowMap.PropertiesBuilder builder = new RowMap.PropertiesBuilder(true);
+
+        RowMap first = builder.properties(node("name", "a", "age", 1));
+        RowMap second = builder.properties(node("name", "b", "age", 2));
+        RowMap third = builder.properties(node("name", "c", "age", null));
+
+        assertThat(keys(second)).isSameAs(keys(first));
+        assertThat(keys(third)).isNotSameAs(keys(first));
+        assertThat(second).isEqualTo(Utils.map("name", "b", "age", 2));
+    }
+
+    private static NodeModel node(Object... properties) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < properties.length; i += 2) {
+            map.put((String) properties[i], properties[i + 1]);
+        }
+        NodeModel node = new NodeModel();
+        node.setId(-1L);
+        node.setProperties(map);
+        return node;
+    }
+
+    private static Object keys(RowMap row) {
+        try {
+            java.lang.reflect.Field keys = RowMap.class.getDeclaredField("keys");
+            keys.setAccessible(true);
+            return keys.get(row);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
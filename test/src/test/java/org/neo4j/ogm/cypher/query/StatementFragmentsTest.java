@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.cypher.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class StatementFragmentsTest {
+
+    private static final String LOAD = " MATCH p=(n)-[*0..1]-(m) RETURN p";
+
+    @Test
+    public void shouldRenderNodeStatementWithoutSortingOrPaging() {
+        PagingAndSortingQuery query = nodes(false);
+
+        assertThat(query.getStatement()).isEqualTo("MATCH (n:`Orbit`) WITH n MATCH p=(n)-[*0..1]-(m) RETURN p");
+        assertThat(query.needsRowResult()).isFalse();
+    }
+
+    @Test
+    public void shouldComposeSortingAndPagingOfNodesBetweenFragments() {
+        PagingAndSortingQuery query = nodes(true)
+            .setSortOrder(new SortOrder().add("name"))
+            .setPagination(new Pagination(1, 10));
+
+        assertThat(query.getStatement()).isEqualTo("MATCH (n:`Orbit`) WHERE n.`name` = { `name_0` } WITH n " +
+            "ORDER BY n.name SKIP {sdnSkip} LIMIT {sdnLimit} MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+        assertThat(query.needsRowResult()).isTrue();
+    }
+
+    @Test
+    public void shouldProjectRelationshipWhenSortingWithoutIt() {
+        StatementFragments fragments = StatementFragments.relationships("MATCH ()-[r0:`ORBITS`]-() ",
+            " WITH STARTNODE(r0) AS n", " MATCH p=(n)-[*0..1]-() RETURN p", false);
+
+        PagingAndSortingQuery query = new PagingAndSortingQuery(fragments, Collections.<String, Object>emptyMap());
+        assertThat(query.getStatement())
+            .isEqualTo("MATCH ()-[r0:`ORBITS`]-()  WITH STARTNODE(r0) AS n MATCH p=(n)-[*0..1]-() RETURN p");
+
+        query.setSortOrder(new SortOrder().add(SortOrder.Direction.DESC, "distance"));
+        assertThat(query.getStatement()).isEqualTo("MATCH ()-[r0:`ORBITS`]-()  WITH STARTNODE(r0) AS n,r0 " +
+            "ORDER BY r0.distance DESC MATCH p=(n)-[*0..1]-() RETURN p");
+    }
+
+    @Test
+    public void shouldRenderAgainWhenSortOrderChanges() {
+        SortOrder sortOrder = new SortOrder().add("name");
+        PagingAndSortingQuery query = nodes(false).setSortOrder(sortOrder);
+
+        String statement = query.getStatement();
+        assertThat(query.getStatement()).isSameAs(statement);
+
+        sortOrder.add("period");
+        assertThat(query.getStatement()).contains("ORDER BY n.name,n.period");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotPageRelationshipsByKeyset() {
+        StatementFragments fragments = StatementFragments.relationships("MATCH ()-[r0:`ORBITS`]-() ",
+            " WITH r0", " MATCH p=()-[r0]-() RETURN p", false);
+
+        new PagingAndSortingQuery(fragments, Collections.<String, Object>emptyMap())
+            .setKeysetPagination(new KeysetPagination(10))
+            .getStatement();
+    }
+
+    private static PagingAndSortingQuery nodes(boolean filtered) {
+        String match = filtered ? "MATCH (n:`Orbit`) WHERE n.`name` = { `name_0` } WITH n" : "MATCH (n:`Orbit`) WITH n";
+        return new PagingAndSortingQuery(StatementFragments.nodes(match, LOAD, true, filtered),
+            Collections.<String, Object>emptyMap());
+    }
+}
@@ -31,9 +31,15 @@ import org.neo4j.ogm.domain.social.User;
 import org.neo4j.ogm.exception.CypherException;
 import org.neo4j.ogm.exception.TransactionException;
 import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.session.request.DefaultRequest;
+import org.neo4j.ogm.session.request.RowDataStatement;
 import org.neo4j.ogm.testutil.MultiDriverTestClass;
 import org.neo4j.ogm.transaction.Transaction;
 
@@ -287,6 +293,62 @@ public class BasicDriverTest extends MultiDriverTestClass {
         }
     }
 
+    @Test
+    public void shouldReadTheRowsOfAllStatementsOfARequestInOrder() {
+        try (Transaction tx = session.beginTransaction()) {
+            try (Response<RowModel> response = execute(
+                    "CREATE (u:User {name: 'Bilbo Baggins'}) RETURN u.name AS name",
+                    "UNWIND ['Frodo Baggins', 'Sam Gamgee'] AS name CREATE (u:User {name: name}) RETURN u.name AS name")) {
+
+                assertThat(response.columns()).containsExactly("name");
+                List<Object> names = new ArrayList<>();
+                RowModel row;
+                while ((row = response.next()) != null) {
+                    names.add(row.getValues()[0]);
+                }
+                assertThat(names).containsExactly("Bilbo Baggins", "Frodo Baggins", "Sam Gamgee");
+            }
+            tx.commit();
+        }
+        assertThat(session.loadAll(User.class)).hasSize(3);
+    }
+
+    @Test
+    public void shouldExecuteAllStatementsOfARequestWhenItsResponseIsClosedUnread() {
+        try (Transaction tx = session.beginTransaction()) {
+            execute("CREATE (u:User {name: 'Bilbo Baggins'}) RETURN id(u)",
+                    "CREATE (u:User {name: 'Frodo Baggins'}) RETURN id(u)").close();
+            tx.commit();
+        }
+        assertThat(session.loadAll(User.class)).hasSize(2);
+    }
+
+    @Test
+    public void shouldReportTheFailureOfALaterStatementOfARequest() {
+        try (Transaction tx = session.beginTransaction()) {
+            try (Response<RowModel> response = execute(
+                    "CREATE (u:User {name: 'Bilbo Baggins'}) RETURN id(u)",
+                    "MATCH(u:User) WHERE u.name ~ '.*Baggins' RETURN u")) {
+                while (response.next() != null) {
+                }
+            }
+            fail("Expected a CypherException but got none");
+        } catch (CypherException ce) {
+            assertThat(ce.getCode()).contains("Neo.ClientError.Statement");
+        }
+        assertThat(session.loadAll(User.class)).isEmpty();
+    }
+
+    private Response<RowModel> execute(String... statements) {
+        DefaultRequest request = new DefaultRequest();
+        List<Statement> rowStatements = new ArrayList<>();
+        for (String statement : statements) {
+            rowStatements.add(new RowDataStatement(statement, Utils.map()));
+        }
+        request.setStatements(rowStatements);
+        return ((Neo4jSession) session).requestHandler().execute(request);
+    }
+
     private void doExtendedCommitRollbackCommit() throws TransactionException {
         try (Transaction tx = session.beginTransaction()) {
             m2(); // commit_deferred
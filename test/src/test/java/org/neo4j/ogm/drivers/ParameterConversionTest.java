@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.Test;
+import org.neo4j.ogm.config.ObjectMapperFactory;
+import org.neo4j.ogm.domain.social.User;
+import org.neo4j.ogm.driver.ParameterConversion;
+import org.neo4j.ogm.session.Utils;
+
+public class ParameterConversionTest {
+
+    private static final TypeReference<HashMap<String, Object>> MAP_TYPE_REF = new TypeReference<HashMap<String, Object>>() {
+    };
+
+    @Test
+    public void shouldConvertParametersAsAJsonRoundTripDoes() {
+        Map<String, Object> props = new HashMap<>();
+        props.put("int", 42);
+        props.put("short", (short) 7);
+        props.put("float", 1.1f);
+        props.put("char", 'c');
+        props.put("enum", Thread.State.NEW);
+        props.put("chars", new char[]{'a', 'b'});
+        props.put("ints", new int[]{1, 2});
+        props.put("strings", new String[]{"a", "b"});
+        props.put("set", new TreeSet<>(Arrays.asList(3, 1)));
+        props.put("decimal", new BigDecimal("2.5"));
+        props.put("date", new Date(1000L));
+        props.put("null", null);
+        Map<Integer, Object> byNumber = new HashMap<>();
+        byNumber.put(1, 'x');
+        props.put("byNumber", byNumber);
+
+        Map<String, Object> parameters = Utils.map("rows", Arrays.asList(
+                Utils.map("nodeRef", -1, "props", props),
+                Utils.map("nodeRef", -2L, "props", new HashMap<>())));
+
+        assertThat(ParameterConversion.convertParameters(parameters))
+                .isEqualTo(ObjectMapperFactory.objectMapper().convertValue(parameters, MAP_TYPE_REF));
+    }
+
+    @Test
+    public void shouldConvertBeansThroughTheObjectMapper() {
+        Map<String, Object> parameters = Utils.map("user", new User("Bilbo Baggins"));
+
+        assertThat(ParameterConversion.convertParameters(parameters))
+                .isEqualTo(ObjectMapperFactory.objectMapper().convertValue(parameters, MAP_TYPE_REF));
+    }
+
+    @Test
+    public void shouldNotCopyNativeParameters() {
+        List<Object> ids = Arrays.asList(1L, 2L, 3L);
+        Map<String, Object> row = Utils.map("name", "Frodo", "age", 50L, "height", 1.1d, "ring", true, "ids", ids,
+                "bytes", new byte[]{1, 2, 3});
+        Map<String, Object> parameters = Utils.map("rows", Collections.singletonList(row), "type", "node");
+
+        assertThat(ParameterConversion.convertParameters(parameters)).isSameAs(parameters);
+    }
+
+    @Test
+    public void shouldCopyOnlyTheContainersOfConvertedValues() {
+        List<Object> ids = Arrays.asList(1L, 2L, 3L);
+        List<Object> rows = Arrays.asList(Utils.map("ids", ids), Utils.map("id", 4));
+        Map<String, Object> parameters = Utils.map("rows", rows);
+
+        Map<String, Object> converted = ParameterConversion.convertParameters(parameters);
+
+        assertThat(converted).isNotSameAs(parameters);
+        List<?> convertedRows = (List<?>) converted.get("rows");
+        assertThat(convertedRows).isNotSameAs(rows);
+        assertThat(((Map<?, ?>) convertedRows.get(0)).get("ids")).isSameAs(ids);
+        assertThat(convertedRows.get(0)).isSameAs(rows.get(0));
+        assertThat(convertedRows.get(1)).isEqualTo(Utils.map("id", 4L));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.bolt.response;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.*;
+
+import org.junit.Test;
+import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.InternalRelationship;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.Values;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.model.Property;
+
+public class BoltGraphModelAdapterTest {
+
+    private final BoltGraphModelAdapter adapter = new BoltGraphModelAdapter();
+
+    @Test
+    public void shouldReadNodesOfTheResult() {
+        Map<String, Value> properties = new LinkedHashMap<>();
+        properties.put("name", Values.value("Keanu"));
+        properties.put("born", Values.value(1964));
+        properties.put("aliases", Values.value(Arrays.asList("Neo", "John")));
+        properties.put("thumbnail", Values.value(new byte[]{1, 2}));
+        InternalNode person = new InternalNode(1L, Arrays.asList("Person", "Actor"), properties);
+
+        GraphModel graphModel = adapter.adapt(Collections.singletonMap("n", person));
+
+        assertThat(graphModel.getNodes()).hasSize(1);
+        Node node = graphModel.getNodes().iterator().next();
+        assertThat(node.getId()).isEqualTo(1L);
+        assertThat(node.getLabels()).containsExactly("Actor", "Person");
+        assertThat(node.labelSignature()).isEqualTo("Actor,Person");
+        assertThat(toMap(node.getPropertyList()))
+                .containsEntry("name", "Keanu")
+                .containsEntry("born", 1964L)
+                .containsEntry("aliases", Arrays.asList("Neo", "John"))
+                .containsEntry("thumbnail", Arrays.asList((byte) 1, (byte) 2));
+        assertThat(node.getPropertyList()).hasSize(4);
+        assertThat(node.getPropertyList().get(1).getKey()).isEqualTo("born");
+    }
+
+    @Test
+    public void shouldReadRelationshipsOfTheResult() {
+        InternalRelationship acted = new InternalRelationship(5L, 1L, 2L, "ACTED_IN",
+                Collections.singletonMap("role", Values.value("Neo")));
+
+        GraphModel graphModel = adapter.adapt(Collections.singletonMap("r", acted));
+
+        assertThat(graphModel.getRelationships()).hasSize(1);
+        Edge edge = graphModel.getRelationships().iterator().next();
+        assertThat(edge.getId()).isEqualTo(5L);
+        assertThat(edge.getType()).isEqualTo("ACTED_IN");
+        assertThat(edge.getStartNode()).isEqualTo(1L);
+        assertThat(edge.getEndNode()).isEqualTo(2L);
+        assertThat(toMap(edge.getPropertyList())).containsOnly(entry("role", "Neo"));
+    }
+
+    @Test
+    public void shouldAddEachNodeOnce() {
+        InternalNode node = new InternalNode(1L);
+
+        GraphModel graphModel = adapter.adapt(Collections.singletonMap("nodes", Arrays.asList(node, new InternalNode(1L))));
+
+        assertThat(graphModel.getNodes()).hasSize(1);
+    }
+
+    private static Map<String, Object> toMap(List<Property<String, Object>> properties) {
+        Map<String, Object> map = new HashMap<>();
+        for (Property<String, Object> property : properties) {
+            map.put(property.getKey(), property.getValue());
+        }
+        return map;
+    }
+}
@@ -12,6 +12,7 @@
  */
 package org.neo4j.ogm.drivers.http.response;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.io.ByteArrayInputStream;
@@ -24,6 +25,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.ogm.drivers.http.response.AbstractHttpResponse;
 import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.model.RestModel;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.response.model.DefaultRowModel;
 import org.neo4j.ogm.result.ResultRowModel;
@@ -80,6 +82,39 @@ public class JsonResponseTest {
         }
     }
 
+    @Test
+    public void shouldReportErrorsWhenClosedBeforeAllRowsAreRead() throws IOException {
+
+        CloseableHttpResponse httpResponse = mock(CloseableHttpResponse.class);
+        when(httpResponse.getEntity()).thenReturn(entity);
+        when(entity.getContent()).thenReturn(resultsAndErrors());
+
+        RowModelResponse rsp = new RowModelResponse(httpResponse);
+        assertThat(rsp.next().getValues()).containsExactly(381L);
+        assertThatThrownBy(rsp::close).isInstanceOf(CypherException.class);
+        verify(httpResponse).close();
+
+        // the response is released, closing it again has no effect
+        rsp.close();
+        assertThat(rsp.next()).isNull();
+    }
+
+    @Test
+    public void shouldReadTheStatisticsFollowingTheRows() throws IOException {
+
+        when(entity.getContent()).thenReturn(restResultsWithStatistics());
+
+        RestModelResponse rsp = new RestModelResponse(response);
+        assertThat(rsp.columns()).containsExactly("n");
+        assertThat(rsp.next().getStats()).isNull();
+        assertThat(rsp.next().getRow()).containsEntry("n", 2L);
+
+        RestModel last = rsp.next();
+        assertThat(last.getRow()).isEmpty();
+        assertThat(last.getStats().getNodesCreated()).isEqualTo(2);
+        rsp.close();
+    }
+
     private void parseResponse(Response<DefaultRowModel> rsp) {
         //noinspection StatementWithEmptyBody
         while (rsp.next() != null) ;
@@ -133,6 +168,14 @@ public class JsonResponseTest {
         return new ByteArrayInputStream(s.getBytes());
     }
 
+    private InputStream restResultsWithStatistics() {
+
+        final String s = "{\"results\": [{\"columns\": [\"n\"],\"data\": [{\"rest\": [1]},{\"rest\": [2]}]," +
+                "\"stats\": {\"contains_updates\": true,\"nodes_created\": 2}}],\"errors\": []}";
+
+        return new ByteArrayInputStream(s.getBytes());
+    }
+
     private InputStream noRowResultsAndNoErrors() {
 
         final String s = "{\"results\": [{\"columns\": [\"collect(p)\"],\"data\": [{\"row\": [[]]}]}],\"errors\": []}";
@@ -18,6 +18,7 @@ package org.neo4j.ogm.metadata;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Locale;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -240,6 +241,23 @@ public class ClassInfoTest {
     }
 
 
+    /**
+     * Relationship types are matched regardless of case, whatever the default locale
+     */
+    @Test
+    public void testRelationshipFieldIsFoundRegardlessOfCaseUnderTurkishLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            ClassInfo classInfo = metaData.classInfo("Member");
+            FieldInfo fieldInfo = classInfo.relationshipField("has_activity", OUTGOING, true);
+            assertThat(fieldInfo).isNotNull();
+            assertThat(fieldInfo.getName()).isEqualTo("activityList");
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void testRelationshipGetters() {
         ClassInfo classInfo = metaData.classInfo("User");
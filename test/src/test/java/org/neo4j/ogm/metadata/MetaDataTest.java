@@ -15,6 +15,13 @@ package org.neo4j.ogm.metadata;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.ogm.exception.core.AmbiguousBaseClassException;
@@ -142,4 +149,37 @@ public class MetaDataTest {
     public void testNonMemberAndMemberTaxa() {
         assertThat(metaData.resolve("Silver", "Pewter", "Tin").name()).isEqualTo("org.neo4j.ogm.domain.forum.SilverMembership");
     }
+
+    @Test
+    public void aClassCanBeFoundByAnyQualifiedSuffixOfItsName() {
+        assertThat(metaData.classInfo("forum.Topic").name()).isEqualTo("org.neo4j.ogm.domain.forum.Topic");
+        assertThat(metaData.classInfo("org.neo4j.ogm.domain.forum.Topic").name()).isEqualTo("org.neo4j.ogm.domain.forum.Topic");
+        assertThat(metaData.classInfo("rum.Topic")).isNull();
+    }
+
+    @Test
+    public void lookupsFromConcurrentThreadsShouldSeeTheSameMetadata() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<Object>>> lookups = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                lookups.add(executor.submit((Callable<List<Object>>) () -> {
+                    List<Object> found = new ArrayList<>();
+                    ClassInfo member = metaData.resolve("Login", "User");
+                    found.add(member);
+                    found.add(metaData.classInfo("Bronze"));
+                    found.add(member.identityField());
+                    found.add(member.propertyFields());
+                    found.add(member.relationshipFields());
+                    return found;
+                }));
+            }
+            List<Object> expected = lookups.get(0).get();
+            for (Future<List<Object>> lookup : lookups) {
+                assertThat(lookup.get()).isEqualTo(expected);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
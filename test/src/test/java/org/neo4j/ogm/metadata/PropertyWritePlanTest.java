@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.domain.canonical.Mappable;
+
+public class PropertyWritePlanTest {
+
+    private ClassInfo classInfo;
+    private PropertyWritePlan plan;
+
+    @Before
+    public void setUp() {
+        classInfo = new MetaData("org.neo4j.ogm.domain.canonical").classInfo(Mappable.class.getName());
+        plan = classInfo.propertyWritePlan();
+    }
+
+    @Test
+    public void shouldBeCompiledOncePerClass() {
+        assertThat(classInfo.propertyWritePlan()).isSameAs(plan);
+    }
+
+    @Test
+    public void shouldResolvePropertiesAsTheClassInfoDoes() {
+        assertThat(plan.writer("primitiveInt").fieldInfo()).isSameAs(classInfo.getFieldInfo("primitiveInt"));
+        assertThat(plan.writer("PRIMITIVEINT").fieldInfo()).isSameAs(classInfo.getFieldInfo("PRIMITIVEINT"));
+        assertThat(plan.writer("id")).isNull();
+        assertThat(plan.writer("unknown")).isNull();
+        assertThat(plan.labelWriter()).isNull();
+    }
+
+    @Test
+    public void shouldCoerceScalarValues() {
+        Mappable mappable = new Mappable();
+
+        plan.writer("primitiveInt").write(mappable, 42L);
+        plan.writer("primitiveFloat").write(mappable, 1.5d);
+        plan.writer("objectCharacter").write(mappable, "c");
+        plan.writer("primitiveLong").write(mappable, null);
+
+        assertThat(mappable.getPrimitiveInt()).isEqualTo(42);
+        assertThat(mappable.getPrimitiveFloat()).isEqualTo(1.5f);
+        assertThat(mappable.getObjectCharacter()).isEqualTo('c');
+        assertThat(mappable.getPrimitiveLong()).isEqualTo(0L);
+    }
+
+    @Test
+    public void shouldMergeIterablesIntoTheTypeOfTheField() {
+        Mappable mappable = new Mappable();
+
+        plan.writer("primitiveIntArray").write(mappable, Arrays.asList(1L, 2L, 3L));
+        plan.writer("listOfString").write(mappable, new String[]{"a", "b"});
+
+        assertThat(mappable.getPrimitiveIntArray()).containsExactly(1, 2, 3);
+        assertThat(mappable.getListOfString()).containsExactly("a", "b");
+    }
+}
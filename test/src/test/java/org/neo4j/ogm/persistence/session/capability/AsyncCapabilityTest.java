@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.domain.cineasts.annotated.Movie;
+import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.session.AsyncSession;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class AsyncCapabilityTest extends MultiDriverTestClass {
+
+    private SessionFactory sessionFactory;
+    private ExecutorService executor;
+    private AsyncSession session;
+
+    @Before
+    public void init() {
+        sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.cineasts.annotated");
+        executor = Executors.newFixedThreadPool(4);
+        sessionFactory.setAsyncExecutor(executor);
+        session = sessionFactory.openAsyncSession();
+        session.session().purgeDatabase();
+    }
+
+    @After
+    public void clearDatabase() {
+        session.session().purgeDatabase();
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldCompleteWithTheResultOfTheOperation() throws Exception {
+        Movie movie = new Movie("Pulp Fiction", 1994);
+
+        Collection<Movie> movies = session.saveAsync(movie)
+                .thenCompose(saved -> session.loadAllAsync(Movie.class))
+                .toCompletableFuture().get();
+
+        assertThat(movies).containsExactly(movie);
+        assertThat(movie.getId()).isNotNull();
+    }
+
+    @Test
+    public void shouldRunTheOperationsOfASessionInOrder() throws Exception {
+        List<Integer> order = new ArrayList<>();
+        List<CompletableFuture<Void>> saves = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int index = i;
+            saves.add(session.saveAsync(new Movie("Movie " + i, 2000 + i))
+                    .thenRun(() -> order.add(index)).toCompletableFuture());
+        }
+
+        Long count = session.execute(s -> s.queryForObject(Long.class, "MATCH (m:Movie) RETURN count(m)", Utils.map()))
+                .toCompletableFuture().get();
+
+        CompletableFuture.allOf(saves.toArray(new CompletableFuture[saves.size()])).get();
+        assertThat(count).isEqualTo(20L);
+        assertThat(order).isSorted().hasSize(20);
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyWhenTheOperationFails() throws Exception {
+        CompletableFuture<?> result = session.queryAsync("MATCH (m:Movie RETURN m", Utils.map()).toCompletableFuture();
+
+        assertThatThrownBy(result::get).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(CypherException.class);
+
+        // the session goes on with the next operations
+        assertThat(session.loadAllAsync(Movie.class).toCompletableFuture().get()).isEmpty();
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyTheOperationsTheExecutorRejects() throws Exception {
+        ExecutorService shutDown = Executors.newSingleThreadExecutor();
+        AsyncSession session = new AsyncSession(sessionFactory.openSession(), shutDown);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch shutdown = new CountDownLatch(1);
+
+        CompletableFuture<Integer> first = session.execute(s -> {
+            running.countDown();
+            await(shutdown);
+            return 1;
+        }).toCompletableFuture();
+        CompletableFuture<Integer> second = session.execute(s -> 2).toCompletableFuture();
+        CompletableFuture<Integer> third = session.execute(s -> 3).toCompletableFuture();
+
+        // the second operation is handed to the executor once the first is done, after the executor is shut down
+        await(running);
+        shutDown.shutdown();
+        shutdown.countDown();
+
+        assertThat(first.get()).isEqualTo(1);
+        assertThatThrownBy(() -> second.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThatThrownBy(() -> third.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThatThrownBy(() -> session.execute(s -> 4).toCompletableFuture().get(10, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
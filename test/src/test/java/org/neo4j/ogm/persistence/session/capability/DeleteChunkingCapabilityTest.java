@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
+import org.neo4j.ogm.domain.music.Recording;
+import org.neo4j.ogm.domain.music.Studio;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.event.Event;
+import org.neo4j.ogm.session.event.EventListenerAdapter;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class DeleteChunkingCapabilityTest extends MultiDriverTestClass {
+
+    private SessionFactory sessionFactory;
+    private Session session;
+    private List<Album> albums;
+    private List<Recording> recordings;
+
+    @Before
+    public void init() {
+        sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.music");
+        sessionFactory.setDeleteChunkSize(4);
+
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+        Studio studio = new Studio("Abbey Road");
+        albums = new ArrayList<>();
+        recordings = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Artist artist = new Artist("Artist " + i);
+            Album album = new Album("Album " + i);
+            album.setArtist(artist);
+            artist.getAlbums().add(album);
+            Recording recording = new Recording(album, studio, 1960 + i);
+            album.setRecording(recording);
+            albums.add(album);
+            recordings.add(recording);
+        }
+        session.save(albums);
+    }
+
+    @After
+    public void clearDatabase() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldDeleteNodesInChunks() {
+        session.delete(albums);
+
+        assertThat(count("MATCH (n:`l'album`) RETURN count(n)")).isZero();
+        assertThat(count("MATCH (n:`l'artiste`) RETURN count(n)")).isEqualTo(10);
+        assertThat(count("MATCH ()-[r:`RECORDED-AT`]->() RETURN count(r)")).isZero();
+        assertThat(session.load(Album.class, albums.get(0).getId())).isNull();
+    }
+
+    @Test
+    public void shouldDeleteRelationshipEntitiesInChunks() {
+        session.delete(recordings);
+
+        assertThat(count("MATCH ()-[r:`RECORDED-AT`]->() RETURN count(r)")).isZero();
+        assertThat(count("MATCH (n:`l'album`) RETURN count(n)")).isEqualTo(10);
+        assertThat(session.load(Album.class, albums.get(0).getId()).getRecording()).isNull();
+    }
+
+    @Test
+    public void shouldRaiseTheDeleteEventsOfEveryChunk() {
+        List<Event> events = new ArrayList<>();
+        sessionFactory.register(new EventListenerAdapter() {
+
+            @Override
+            public void onPreDelete(Event event) {
+                events.add(event);
+            }
+
+            @Override
+            public void onPostDelete(Event event) {
+                events.add(event);
+            }
+        });
+        Session session = sessionFactory.openSession();
+        List<Album> loaded = new ArrayList<>(session.loadAll(Album.class, 0));
+
+        session.delete(loaded);
+
+        assertThat(events).hasSize(20);
+        assertThat(events).filteredOn(event -> event.getLifeCycle() == Event.TYPE.POST_DELETE)
+                .extracting(Event::getObject)
+                .containsOnlyElementsOf(loaded)
+                .hasSize(10);
+    }
+
+    private long count(String cypher) {
+        return session.queryForObject(Long.class, cypher, Collections.emptyMap());
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.context.EntityCache;
+import org.neo4j.ogm.domain.cache.Region;
+import org.neo4j.ogm.domain.cache.Tenant;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.neo4j.ogm.transaction.Transaction;
+
+public class EntityCacheCapabilityTest extends MultiDriverTestClass {
+
+    private SessionFactory sessionFactory;
+    private EntityCache entityCache;
+    private Session uncachedSession;
+    private Tenant tenant;
+
+    @Before
+    public void init() {
+        sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.cache");
+        entityCache = new EntityCache(100, 1, TimeUnit.HOURS);
+        sessionFactory.setEntityCache(entityCache);
+
+        uncachedSession = new SessionFactory(driver, "org.neo4j.ogm.domain.cache").openSession();
+        uncachedSession.purgeDatabase();
+        tenant = new Tenant("Acme", new Region("eu-west"));
+        uncachedSession.save(tenant);
+    }
+
+    @After
+    public void clearDatabase() {
+        uncachedSession.purgeDatabase();
+    }
+
+    @Test
+    public void shouldLoadByIdFromTheCacheInOtherSessions() {
+        assertThat(sessionFactory.openSession().load(Tenant.class, tenant.getId()).getName()).isEqualTo("Acme");
+        assertThat(entityCache.size()).isEqualTo(1);
+
+        renameOutsideOfTheFactory("Acme Corp");
+
+        Tenant loaded = sessionFactory.openSession().load(Tenant.class, tenant.getId());
+        assertThat(loaded.getName()).isEqualTo("Acme");
+        assertThat(loaded.getRegion().getName()).isEqualTo("eu-west");
+    }
+
+    @Test
+    public void shouldNotCacheEntitiesNotAnnotated() {
+        sessionFactory.openSession().load(Region.class, tenant.getRegion().getId());
+
+        assertThat(entityCache.size()).isZero();
+    }
+
+    @Test
+    public void shouldInvalidateEntriesOfSavedNodes() {
+        Session session = sessionFactory.openSession();
+        Tenant loaded = session.load(Tenant.class, tenant.getId());
+        loaded.setName("Acme Corp");
+        session.save(loaded);
+
+        assertThat(entityCache.size()).isZero();
+        assertThat(sessionFactory.openSession().load(Tenant.class, tenant.getId()).getName()).isEqualTo("Acme Corp");
+    }
+
+    @Test
+    public void shouldInvalidateEntriesContainingSavedRelatedNodes() {
+        Session session = sessionFactory.openSession();
+        session.load(Tenant.class, tenant.getId());
+        Region region = session.load(Region.class, tenant.getRegion().getId());
+        region.setName("eu-central");
+        session.save(region);
+
+        assertThat(sessionFactory.openSession().load(Tenant.class, tenant.getId()).getRegion().getName())
+                .isEqualTo("eu-central");
+    }
+
+    @Test
+    public void shouldInvalidateEntriesOfSavedRelationships() {
+        Session session = sessionFactory.openSession();
+        Tenant loaded = session.load(Tenant.class, tenant.getId());
+        loaded.setRegion(null);
+        session.save(loaded);
+
+        assertThat(sessionFactory.openSession().load(Tenant.class, tenant.getId()).getRegion()).isNull();
+    }
+
+    @Test
+    public void shouldInvalidateEntriesOfDeletedNodes() {
+        Session session = sessionFactory.openSession();
+        session.delete(session.load(Tenant.class, tenant.getId()));
+
+        assertThat(sessionFactory.openSession().load(Tenant.class, tenant.getId())).isNull();
+    }
+
+    @Test
+    public void shouldInvalidateAllEntriesWhenQueriesWrite() {
+        sessionFactory.openSession().load(Tenant.class, tenant.getId());
+
+        sessionFactory.openSession().query("MATCH (t:Tenant) SET t.name = 'Acme Corp'", Collections.emptyMap());
+
+        assertThat(entityCache.size()).isZero();
+        assertThat(sessionFactory.openSession().load(Tenant.class, tenant.getId()).getName()).isEqualTo("Acme Corp");
+    }
+
+    @Test
+    public void shouldNotCacheWithinTransactions() {
+        Session session = sessionFactory.openSession();
+        try (Transaction tx = session.beginTransaction()) {
+            session.load(Tenant.class, tenant.getId());
+            tx.commit();
+        }
+
+        assertThat(entityCache.size()).isZero();
+    }
+
+    @Test
+    public void shouldInvalidateEntriesWrittenByATransactionWhenItEnds() {
+        sessionFactory.openSession().load(Tenant.class, tenant.getId());
+
+        Session session = sessionFactory.openSession();
+        try (Transaction tx = session.beginTransaction()) {
+            Tenant loaded = session.load(Tenant.class, tenant.getId());
+            loaded.setName("Acme Corp");
+            session.save(loaded);
+            assertThat(entityCache.size()).isZero();
+            tx.commit();
+        }
+
+        assertThat(sessionFactory.openSession().load(Tenant.class, tenant.getId()).getName()).isEqualTo("Acme Corp");
+        assertThat(entityCache.size()).isEqualTo(1);
+    }
+
+    private void renameOutsideOfTheFactory(String name) {
+        uncachedSession.query("MATCH (t:Tenant) WHERE ID(t) = {id} SET t.name = {name}",
+                Utils.map("id", tenant.getId(), "name", name));
+    }
+}
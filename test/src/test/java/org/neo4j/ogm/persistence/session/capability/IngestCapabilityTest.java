@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.domain.cineasts.annotated.Movie;
+import org.neo4j.ogm.domain.cineasts.annotated.User;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.neo4j.ogm.transaction.AbstractTransaction;
+import org.neo4j.ogm.transaction.Transaction;
+
+public class IngestCapabilityTest extends MultiDriverTestClass {
+
+    private Session session;
+
+    @Before
+    public void init() {
+        session = new SessionFactory(driver, "org.neo4j.ogm.domain.cineasts.annotated").openSession();
+        session.purgeDatabase();
+    }
+
+    @After
+    public void clearDatabase() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldSaveEntitiesInBatchesWithoutRegisteringThemInTheSession() {
+        List<Movie> movies = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            movies.add(new Movie("Movie " + i, 2000 + i));
+        }
+
+        session.ingest(movies, 10);
+
+        assertThat(session.countEntitiesOfType(Movie.class)).isEqualTo(25);
+        for (Movie movie : movies) {
+            assertThat(movie.getId()).isNotNull();
+            assertThat(((Neo4jSession) session).context().getNodeEntity(movie.getId())).isNull();
+        }
+        assertThat(session.queryForObject(String.class, "MATCH (m:Movie) WHERE ID(m) = {id} RETURN m.title",
+                Utils.map("id", movies.get(24).getId()))).isEqualTo("Movie 24");
+    }
+
+    @Test
+    public void shouldNotRegisterTheEntitiesWithTheOpenTransaction() {
+        List<Movie> movies = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            movies.add(new Movie("Movie " + i, 2000 + i));
+        }
+
+        try (Transaction tx = session.beginTransaction()) {
+            session.ingest(movies, 10);
+
+            assertThat(((AbstractTransaction) tx).registeredNew()).isEmpty();
+            assertThat(session.countEntitiesOfType(Movie.class)).isEqualTo(25);
+            tx.commit();
+        }
+        assertThat(session.countEntitiesOfType(Movie.class)).isEqualTo(25);
+    }
+
+    @Test
+    public void shouldSaveRelationshipsToEntitiesOfEarlierBatches() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            User user = new User("user" + i, "User " + i, "secret");
+            if (i > 0) {
+                user.addFriends(users.get(i - 1));
+            }
+            users.add(user);
+        }
+
+        session.ingest(users, 3);
+
+        assertThat(session.countEntitiesOfType(User.class)).isEqualTo(10);
+        assertThat(session.queryForObject(Long.class, "MATCH (:User)-[r:FRIENDS]->(:User) RETURN count(r)", Utils.map()))
+                .isEqualTo(18L);
+    }
+
+    @Test
+    public void shouldCommitEachBatch() {
+        Iterator<Movie> failing = IntStream.range(0, 15).mapToObj(i -> {
+            if (i == 12) {
+                throw new IllegalStateException("Source failed");
+            }
+            return new Movie("Movie " + i, 2000 + i);
+        }).iterator();
+
+        assertThatThrownBy(() -> session.ingest(() -> failing, 5)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(session.countEntitiesOfType(Movie.class)).isEqualTo(10);
+    }
+
+    @Test
+    public void shouldSaveTheEntitiesOfAStream() {
+        Stream<Movie> movies = IntStream.range(0, 7).mapToObj(i -> new Movie("Movie " + i, 2000 + i));
+
+        session.ingest(movies::iterator, 2, 0);
+
+        assertThat(session.countEntitiesOfType(Movie.class)).isEqualTo(7);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.KeysetPage;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
+import org.neo4j.ogm.domain.music.Recording;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class KeysetPaginationCapabilityTest extends MultiDriverTestClass {
+
+    private SessionFactory sessionFactory;
+    private Session session;
+
+    @Before
+    public void init() {
+        sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.music");
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+        List<Artist> artists = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            // pairs of artists share a name, the id breaks the tie
+            Artist artist = new Artist(String.format("Artist %02d", i / 2));
+            Album album = new Album("Album " + i);
+            album.setArtist(artist);
+            artist.getAlbums().add(album);
+            artists.add(artist);
+        }
+        session.save(artists);
+        session.clear();
+    }
+
+    @After
+    public void clearDatabase() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldPageThroughAllEntitiesInOrder() {
+        SortOrder sortOrder = new SortOrder().add("name");
+
+        List<Artist> artists = loadAllPages(new Filters(), sortOrder, 10, 1);
+
+        assertThat(artists).hasSize(25);
+        assertThat(artists).extracting(Artist::getName).isSorted();
+        assertThat(artists).extracting(Artist::getId).doesNotHaveDuplicates();
+        for (Artist artist : artists) {
+            assertThat(artist.getAlbums()).hasSize(1);
+        }
+    }
+
+    @Test
+    public void shouldPageInDescendingOrderWithFilters() {
+        SortOrder sortOrder = new SortOrder().add(SortOrder.Direction.DESC, "name");
+        Filters filters = new Filters().add(new Filter("name", ComparisonOperator.GREATER_THAN, "Artist 03"));
+
+        List<Artist> artists = loadAllPages(filters, sortOrder, 4, 0);
+
+        assertThat(artists).hasSize(17);
+        assertThat(artists).extracting(Artist::getName).first().isEqualTo("Artist 12");
+        assertThat(artists).extracting(Artist::getName).last().isEqualTo("Artist 04");
+        assertThat(artists).extracting(Artist::getId).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void shouldEndWithAnEmptyPageWhenTheLastPageIsFull() {
+        Session session = sessionFactory.openSession();
+        KeysetPage<Artist> page = session.loadPage(Artist.class, new SortOrder(), new KeysetPagination(25));
+
+        assertThat(page.getContent()).hasSize(25);
+        assertThat(page.isLast()).isFalse();
+
+        KeysetPage<Artist> next = session.loadPage(Artist.class, new SortOrder(), new KeysetPagination(25, page.getContinuationToken()));
+
+        assertThat(next.getContent()).isEmpty();
+        assertThat(next.isLast()).isTrue();
+    }
+
+    @Test
+    public void shouldPageByTheValuesReturnedRatherThanTheValuesOfTheSession() {
+        Session session = sessionFactory.openSession();
+        for (Artist artist : session.loadAll(Artist.class, 0)) {
+            artist.setName("Renamed");
+        }
+
+        List<Artist> artists = new ArrayList<>();
+        String token = null;
+        do {
+            KeysetPage<Artist> page = session.loadPage(Artist.class, new Filters(), new SortOrder().add("name"),
+                    new KeysetPagination(10, token), 0);
+            page.forEach(artists::add);
+            token = page.getContinuationToken();
+        } while (token != null);
+
+        assertThat(artists).hasSize(25);
+        assertThat(artists).extracting(Artist::getId).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void shouldNotPageRelationshipEntities() {
+        assertThatThrownBy(() -> session.loadPage(Recording.class, new SortOrder(), new KeysetPagination(10)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private List<Artist> loadAllPages(Filters filters, SortOrder sortOrder, int pageSize, int depth) {
+        List<Artist> artists = new ArrayList<>();
+        String token = null;
+        do {
+            KeysetPage<Artist> page = sessionFactory.openSession()
+                    .loadPage(Artist.class, filters, sortOrder, new KeysetPagination(pageSize, token), depth);
+            assertThat(page.getContent().size()).isLessThanOrEqualTo(pageSize);
+            page.forEach(artists::add);
+            token = page.getContinuationToken();
+        } while (token != null);
+        return artists;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.context.LazyCollection;
+import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.event.Event;
+import org.neo4j.ogm.session.event.EventListenerAdapter;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class LazyLoadingCapabilityTest extends MultiDriverTestClass {
+
+    private SessionFactory sessionFactory;
+    private Session session;
+    private List<Artist> artists;
+
+    @Before
+    public void init() {
+        sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.music");
+        sessionFactory.setLazyLoading(true);
+
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+        artists = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Artist artist = new Artist("Artist " + i);
+            for (int j = 0; j < 2; j++) {
+                Album album = new Album("Album " + i + "." + j);
+                album.setArtist(artist);
+                artist.getAlbums().add(album);
+            }
+            artists.add(artist);
+        }
+        session.save(artists);
+    }
+
+    @After
+    public void clearDatabase() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldLoadCollectionOnFirstAccess() {
+        Artist artist = sessionFactory.openSession().load(Artist.class, artists.get(0).getId(), 0);
+
+        assertThat(artist.getAlbums()).isInstanceOf(LazyCollection.class);
+        assertThat(loaded(artist.getAlbums())).isFalse();
+
+        assertThat(artist.getAlbums()).extracting(Album::getName).containsOnly("Album 0.0", "Album 0.1");
+        assertThat(artist.getAlbums()).extracting(Album::getArtist).containsOnly(artist);
+        assertThat(loaded(artist.getGuestAlbums())).isFalse();
+    }
+
+    @Test
+    public void shouldLoadOnlyTheCollectionAccessed() {
+        List<Artist> loaded = new ArrayList<>(sessionFactory.openSession().loadAll(Artist.class, 0));
+        assertThat(loaded).hasSize(3);
+
+        assertThat(loaded.get(0).getAlbums()).hasSize(2);
+
+        assertThat(loaded(loaded.get(1).getAlbums())).isFalse();
+        assertThat(loaded(loaded.get(2).getAlbums())).isFalse();
+    }
+
+    @Test
+    public void shouldLoadCollectionsOfTheEntitiesLoadedNextTogether() {
+        sessionFactory.setLazyLoadBatchSize(2);
+        List<Artist> loaded = new ArrayList<>(sessionFactory.openSession().loadAll(Artist.class, 0));
+
+        assertThat(loaded.get(1).getAlbums()).hasSize(2);
+
+        assertThat(loaded(loaded.get(0).getAlbums())).isFalse();
+        assertThat(loaded(loaded.get(2).getAlbums())).isTrue();
+        assertThat(loaded(loaded.get(2).getGuestAlbums())).isFalse();
+        assertThat(loaded.get(2).getAlbums()).extracting(Album::getArtist).containsOnly(loaded.get(2));
+    }
+
+    @Test
+    public void shouldNotLoadCollectionsWhenSaving() {
+        List<Object> saved = new ArrayList<>();
+        sessionFactory.register(new EventListenerAdapter() {
+
+            @Override
+            public void onPreSave(Event event) {
+                saved.add(event.getObject());
+            }
+        });
+        Session lazySession = sessionFactory.openSession();
+        Artist artist = lazySession.load(Artist.class, artists.get(0).getId(), 0);
+        artist.setName("Renamed");
+
+        lazySession.save(artist);
+
+        assertThat(saved).containsExactly(artist);
+        assertThat(loaded(artist.getAlbums())).isFalse();
+        assertThat(loaded(artist.getGuestAlbums())).isFalse();
+        assertThat(count("MATCH (:`l'artiste` {name: 'Renamed'})-[r:`HAS-ALBUM`]->() RETURN count(r)")).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldSaveChangesToLoadedCollections() {
+        Session lazySession = sessionFactory.openSession();
+        Artist artist = lazySession.load(Artist.class, artists.get(0).getId(), 0);
+
+        Album album = new Album("Album 0.2");
+        album.setArtist(artist);
+        artist.getAlbums().add(album);
+        lazySession.save(artist);
+
+        assertThat(artist.getAlbums()).hasSize(3);
+        assertThat(count("MATCH (a:`l'artiste`)-[r:`HAS-ALBUM`]->() WHERE ID(a) = " + artist.getId() + " RETURN count(r)"))
+            .isEqualTo(3);
+    }
+
+    @Test
+    public void shouldNotLoadLazilyUnlessEnabled() {
+        sessionFactory.setLazyLoading(false);
+
+        Artist artist = sessionFactory.openSession().load(Artist.class, artists.get(0).getId(), 0);
+
+        assertThat(artist.getAlbums()).isNotInstanceOf(LazyCollection.class).isEmpty();
+    }
+
+    private static boolean loaded(Collection<?> collection) {
+        return ((LazyCollection<?>) collection).isLoaded();
+    }
+
+    private long count(String cypher) {
+        return session.queryForObject(Long.class, cypher, Collections.emptyMap());
+    }
+}
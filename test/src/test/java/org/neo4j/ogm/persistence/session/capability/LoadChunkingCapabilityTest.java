@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.neo4j.ogm.transaction.Transaction;
+
+public class LoadChunkingCapabilityTest extends MultiDriverTestClass {
+
+    private SessionFactory sessionFactory;
+    private ExecutorService executor;
+    private List<Long> ids;
+
+    @Before
+    public void init() {
+        sessionFactory = new SessionFactory(driver, "org.neo4j.ogm.domain.music");
+        sessionFactory.setLoadChunkSize(4);
+        executor = Executors.newFixedThreadPool(2);
+        sessionFactory.setAsyncExecutor(executor);
+
+        Session session = sessionFactory.openSession();
+        session.purgeDatabase();
+        List<Artist> artists = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            Artist artist = new Artist("Artist " + i);
+            Album album = new Album("Album " + i);
+            album.setArtist(artist);
+            artist.getAlbums().add(album);
+            artists.add(artist);
+        }
+        session.save(artists);
+
+        ids = new ArrayList<>();
+        for (Artist artist : artists) {
+            ids.add(artist.getId());
+        }
+        Collections.reverse(ids);
+    }
+
+    @After
+    public void clearDatabase() {
+        sessionFactory.openSession().purgeDatabase();
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldLoadChunksInTheOrderOfTheIds() {
+        assertLoaded(sessionFactory.openSession().loadAll(Artist.class, ids));
+    }
+
+    @Test
+    public void shouldLoadChunksConcurrently() {
+        sessionFactory.setLoadParallelism(4);
+
+        assertLoaded(sessionFactory.openSession().loadAll(Artist.class, ids));
+    }
+
+    @Test
+    public void shouldLoadChunksWithinTheCurrentTransaction() {
+        sessionFactory.setLoadParallelism(4);
+        Session session = sessionFactory.openSession();
+
+        try (Transaction tx = session.beginTransaction()) {
+            Artist artist = new Artist("Uncommitted");
+            session.save(artist);
+            List<Long> withUncommitted = new ArrayList<>(ids);
+            withUncommitted.add(artist.getId());
+
+            Collection<Artist> artists = session.loadAll(Artist.class, withUncommitted);
+
+            assertThat(artists).hasSize(26);
+            assertThat(artists).last().extracting(Artist::getName).containsExactly("Uncommitted");
+            tx.rollback();
+        }
+    }
+
+    @Test
+    public void shouldNotSplitPagedLoads() {
+        Collection<Artist> artists = sessionFactory.openSession().loadAll(Artist.class, ids, new Pagination(0, 10));
+
+        assertThat(artists).hasSize(10);
+    }
+
+    private void assertLoaded(Collection<Artist> artists) {
+        assertThat(artists).extracting(Artist::getId).containsExactlyElementsOf(ids);
+        for (Artist artist : artists) {
+            assertThat(artist.getAlbums()).extracting(Album::getName)
+                    .containsExactly(artist.getName().replace("Artist", "Album"));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.domain.cineasts.annotated.Movie;
+import org.neo4j.ogm.exception.core.MappingException;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+
+public class ProjectionCapabilityTest extends MultiDriverTestClass {
+
+    private Session session;
+    private List<Movie> movies;
+
+    @Before
+    public void init() {
+        session = new SessionFactory(driver, "org.neo4j.ogm.domain.cineasts.annotated").openSession();
+        session.purgeDatabase();
+        movies = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            movies.add(new Movie("Movie " + i, 2000 + i));
+        }
+        session.save(movies);
+        session.clear();
+    }
+
+    @After
+    public void clearDatabase() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldProjectColumnsOntoFieldsWithoutRegisteringAnything() {
+        Iterable<MovieSummary> summaries = session.queryForProjection(MovieSummary.class,
+                "MATCH (m:Movie) WHERE m.year >= {year} RETURN ID(m) AS id, m.title AS title, m.year AS year ORDER BY m.year",
+                Utils.map("year", 2003));
+
+        assertThat(summaries).extracting(summary -> summary.title).containsExactly("Movie 3", "Movie 4");
+        assertThat(summaries).extracting(summary -> summary.year).containsExactly(2003, 2004);
+        for (MovieSummary summary : summaries) {
+            assertThat(((Neo4jSession) session).context().getNodeEntity(summary.id)).isNull();
+        }
+    }
+
+    @Test
+    public void shouldProjectColumnsOntoConstructorParameters() {
+        Iterable<Decade> decades = session.queryForProjection(Decade.class,
+                "MATCH (m:Movie) WITH m ORDER BY m.title RETURN m.year / 10 * 10 AS decade, count(m) AS movies, collect(m.title) AS titles",
+                Utils.map());
+
+        assertThat(decades).hasSize(1);
+        Decade decade = decades.iterator().next();
+        assertThat(decade.decade).isEqualTo(2000);
+        assertThat(decade.movies).isEqualTo(5);
+        assertThat(decade.titles).containsExactly("Movie 0", "Movie 1", "Movie 2", "Movie 3", "Movie 4");
+    }
+
+    @Test
+    public void shouldFailWhenColumnsCannotBeBound() {
+        assertThatThrownBy(() -> session.queryForProjection(MovieSummary.class,
+                "MATCH (m:Movie) RETURN m.title AS name", Utils.map()))
+                .isInstanceOf(MappingException.class)
+                .hasMessageContaining("[name]");
+    }
+
+    static class MovieSummary {
+
+        private Long id;
+        private String title;
+        private int year;
+    }
+
+    static class Decade {
+
+        private final int decade;
+        private final long movies;
+        private final String[] titles;
+
+        Decade(int decade, long movies, String[] titles) {
+            this.decade = decade;
+            this.movies = movies;
+            this.titles = titles;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.persistence.session.capability;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.domain.cineasts.annotated.Movie;
+import org.neo4j.ogm.domain.cineasts.annotated.User;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.testutil.MultiDriverTestClass;
+import org.neo4j.ogm.testutil.TestUtils;
+import org.neo4j.ogm.transaction.Transaction;
+
+public class StreamCapabilityTest extends MultiDriverTestClass {
+
+    private Session session;
+
+    @Before
+    public void init() throws IOException {
+        session = new SessionFactory(driver, "org.neo4j.ogm.domain.cineasts.annotated").openSession();
+        session.purgeDatabase();
+        session.clear();
+        session.query(TestUtils.readCQLFile("org/neo4j/ogm/cql/cineasts.cql").toString(), Utils.map());
+    }
+
+    @After
+    public void clearDatabase() {
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldStreamTheEntitiesLoadAllReturns() {
+        List<String> streamed;
+        try (Stream<Movie> movies = session.stream(Movie.class)) {
+            streamed = movies.map(Movie::getTitle).collect(Collectors.toList());
+        }
+
+        assertThat(streamed).containsOnly("Pulp Fiction", "Top Gear", "Django Unchained").hasSize(3);
+    }
+
+    @Test
+    public void shouldHydrateRelationshipsOfStreamedEntities() {
+        List<User> users = session.stream(User.class, new Filters(new Filter("name", ComparisonOperator.EQUALS, "Michal")), 1)
+                .collect(Collectors.toList());
+
+        assertThat(users).hasSize(1);
+        assertThat(users.get(0).getRatings()).hasSize(2);
+        assertThat(users.get(0).getFriends()).extracting(User::getName).containsExactly("Vince");
+    }
+
+    @Test
+    public void shouldStreamEntitiesAndScalarsFromCypher() {
+        try (Stream<User> users = session.stream(User.class, "MATCH (u:User)-[:RATED]->(m:Movie) RETURN u", Utils.map())) {
+            assertThat(users.map(User::getName)).containsOnly("Michal", "Vince").hasSize(2);
+        }
+        try (Stream<Integer> stars = session.stream(Integer.class, "MATCH ()-[r:RATED]->() RETURN r.stars ORDER BY r.stars", Utils.map())) {
+            assertThat(stars).containsExactly(3, 4, 5);
+        }
+    }
+
+    @Test
+    public void shouldReleaseTheResultWhenClosedEarly() {
+        try (Transaction tx = session.beginTransaction()) {
+            try (Stream<Movie> movies = session.stream(Movie.class, 0)) {
+                assertThat(movies.findFirst()).isPresent();
+            }
+            assertThat(session.countEntitiesOfType(Movie.class)).isEqualTo(3);
+            tx.commit();
+        }
+    }
+}
@@ -19,7 +19,9 @@ import org.junit.Before;
 import org.junit.Test;
 
 import org.neo4j.ogm.domain.filesystem.Document;
+import org.neo4j.ogm.session.DirtyTracking;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.neo4j.ogm.session.Utils;
 import org.neo4j.ogm.testutil.MultiDriverTestClass;
@@ -126,4 +128,24 @@ public class DirtyObjectsTest extends MultiDriverTestClass {
         // and in fact, d3 and d are the same object.
         assertThat(d3).isSameAs(d);
     }
+
+    @Test
+    public void savingAnObjectTrackedByPropertySnapshotShouldOnlyWriteItsModifiedProperties() {
+
+        sessionFactory.setDirtyTracking(DirtyTracking.PROPERTY_SNAPSHOT);
+        Session snapshotSession = sessionFactory.openSession();
+
+        Document d = new Document();
+        snapshotSession.save(d);
+
+        // perform an out-of-session update on another property of the object
+        session.query("MATCH (n) SET n.uuid='6a1c2d6e'", Utils.map());
+
+        d.setName("Document");
+        snapshotSession.save(d);
+
+        Document d2 = sessionFactory.openSession().load(Document.class, d.getId());
+        assertThat(d2.getName()).isEqualTo("Document");
+        assertThat(d2.getUuid()).isEqualTo("6a1c2d6e");
+    }
 }
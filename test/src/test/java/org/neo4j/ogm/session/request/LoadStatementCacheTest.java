@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.request;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.function.FilterFunction;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.domain.cineasts.annotated.Movie;
+import org.neo4j.ogm.session.LoadStrategy;
+import org.neo4j.ogm.session.request.strategy.impl.NodeQueryStatements;
+
+public class LoadStatementCacheTest {
+
+    private final LoadStatementCache cache = new LoadStatementCache();
+    private final AtomicInteger compilations = new AtomicInteger();
+
+    @Test
+    public void filtersDifferingOnlyInValueShouldShareTheirStatement() {
+        Filters pulpFiction = new Filters(new Filter("title", ComparisonOperator.EQUALS, "Pulp Fiction"));
+        Filters djangoUnchained = new Filters(new Filter("title", ComparisonOperator.EQUALS, "Django Unchained"));
+
+        CompiledLoadStatement first = cache.compile(shape(pulpFiction, new SortOrder(), null), query(pulpFiction));
+        CompiledLoadStatement second = cache.compile(shape(djangoUnchained, new SortOrder(), null), query(djangoUnchained));
+
+        assertThat(second).isSameAs(first);
+        assertThat(compilations.get()).isEqualTo(1);
+        assertThat(first.parameters(pulpFiction)).containsEntry("title_0", "Pulp Fiction").hasSize(1);
+        assertThat(second.parameters(djangoUnchained)).containsEntry("title_0", "Django Unchained").hasSize(1);
+    }
+
+    @Test
+    public void shouldCompileEachShapeOnce() {
+        Filters equals = new Filters(new Filter("title", ComparisonOperator.EQUALS, "Pulp Fiction"));
+        Filters startingWith = new Filters(new Filter("title", ComparisonOperator.STARTING_WITH, "Pulp"));
+
+        CompiledLoadStatement byEquals = cache.compile(shape(equals, new SortOrder(), null), query(equals));
+        CompiledLoadStatement byStartingWith = cache.compile(shape(startingWith, new SortOrder(), null), query(startingWith));
+        CompiledLoadStatement sorted = cache.compile(shape(equals, new SortOrder().add("title"), null), query(equals));
+        CompiledLoadStatement paged = cache.compile(shape(equals, new SortOrder(), new Pagination(1, 10)), query(equals));
+
+        assertThat(byStartingWith.getStatement()).isNotEqualTo(byEquals.getStatement());
+        assertThat(sorted).isNotSameAs(byEquals);
+        assertThat(paged).isNotSameAs(byEquals);
+        assertThat(compilations.get()).isEqualTo(4);
+        assertThat(cache.size()).isEqualTo(4);
+
+        assertThat(LoadStatementCache.byType(Movie.class, 1, LoadStrategy.SCHEMA_LOAD_STRATEGY, equals, new SortOrder(), null))
+                .isNotEqualTo(shape(equals, new SortOrder(), null));
+        assertThat(LoadStatementCache.byType(Movie.class, 2, LoadStrategy.PATH_LOAD_STRATEGY, equals, new SortOrder(), null))
+                .isNotEqualTo(shape(equals, new SortOrder(), null));
+    }
+
+    @Test
+    public void pagesShouldShareTheirStatement() {
+        Filters filters = new Filters(new Filter("title", ComparisonOperator.EQUALS, "Pulp Fiction"));
+        Pagination firstPage = new Pagination(0, 10);
+        Pagination thirdPage = new Pagination(2, 10);
+
+        CompiledLoadStatement first = cache.compile(shape(filters, new SortOrder(), firstPage), paged(filters, firstPage));
+        CompiledLoadStatement third = cache.compile(shape(filters, new SortOrder(), thirdPage), paged(filters, thirdPage));
+
+        assertThat(third).isSameAs(first);
+        assertThat(compilations.get()).isEqualTo(1);
+        assertThat(first.getStatement()).contains(" SKIP {sdnSkip} LIMIT {sdnLimit} ");
+        assertThat(first.parameters(filters, firstPage))
+                .containsOnly(entry("title_0", "Pulp Fiction"), entry("sdnSkip", 0), entry("sdnLimit", 10));
+        assertThat(third.parameters(filters, thirdPage))
+                .containsOnly(entry("title_0", "Pulp Fiction"), entry("sdnSkip", 20), entry("sdnLimit", 10));
+    }
+
+    @Test
+    public void shouldNotCacheFiltersWithCustomFunctions() {
+        Filters filters = new Filters(new Filter("title", new FilterFunction<String>() {
+
+            private Filter filter;
+
+            @Override
+            public Filter getFilter() {
+                return filter;
+            }
+
+            @Override
+            public void setFilter(Filter filter) {
+                this.filter = filter;
+            }
+
+            @Override
+            public String getValue() {
+                return "Pulp Fiction";
+            }
+
+            @Override
+            public String expression(String nodeIdentifier) {
+                return String.format("%s.title = 'Pulp Fiction' ", nodeIdentifier);
+            }
+
+            @Override
+            public Map<String, Object> parameters() {
+                return new HashMap<>();
+            }
+        }));
+
+        assertThat(shape(filters, new SortOrder(), null)).isNull();
+
+        cache.compile(null, query(filters));
+        cache.compile(null, query(filters));
+
+        assertThat(compilations.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void shouldEvictTheLeastRecentlyUsedShape() {
+        LoadStatementCache cache = new LoadStatementCache(2);
+        Filters filters = new Filters();
+
+        List<Object> first = shape(filters, new SortOrder(), null);
+        cache.compile(first, query(filters));
+        cache.compile(shape(filters, new SortOrder().add("title"), null), query(filters));
+        cache.compile(first, query(filters));
+        cache.compile(shape(filters, new SortOrder().add("released"), null), query(filters));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(compilations.get()).isEqualTo(3);
+
+        cache.compile(first, query(filters));
+        assertThat(compilations.get()).isEqualTo(3);
+    }
+
+    private static List<Object> shape(Filters filters, SortOrder sortOrder, Pagination pagination) {
+        return LoadStatementCache.byType(Movie.class, 1, LoadStrategy.PATH_LOAD_STRATEGY, filters, sortOrder, pagination);
+    }
+
+    private Supplier<PagingAndSortingQuery> paged(Filters filters, Pagination pagination) {
+        Supplier<PagingAndSortingQuery> query = query(filters);
+        return () -> query.get().setPagination(pagination);
+    }
+
+    private Supplier<PagingAndSortingQuery> query(Filters filters) {
+        return () -> {
+            compilations.incrementAndGet();
+            NodeQueryStatements<Long> statements = new NodeQueryStatements<>();
+            return filters.isEmpty() ? statements.findByType("Movie", 1) : statements.findByType("Movie", filters, 1);
+        };
+    }
+}
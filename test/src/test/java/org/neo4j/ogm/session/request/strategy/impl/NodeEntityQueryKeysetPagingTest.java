@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2002-2017 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.request.strategy.impl;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Test;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.KeysetPagination;
+import org.neo4j.ogm.cypher.query.SortOrder;
+
+public class NodeEntityQueryKeysetPagingTest {
+
+    private final NodeQueryStatements<Long> queryStatements = new NodeQueryStatements<>();
+    private final SortOrder sortOrder = new SortOrder().add("`name`");
+    private final String token = KeysetPagination.continuationToken(sortOrder, Arrays.asList("velociraptor"), 42L);
+
+    @Test
+    public void shouldOrderTheFirstPageById() {
+        assertThat(queryStatements.findByType("Raptor", 1).setKeysetPagination(new KeysetPagination(2)).getStatement())
+                .isEqualTo("MATCH (n:`Raptor`) WITH n ORDER BY ID(n) LIMIT {sdnLimit} MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+    }
+
+    @Test
+    public void shouldStartTheNextPageAfterTheKeysetOfTheToken() {
+        assertThat(queryStatements.findByType("Raptor", 0).setSortOrder(sortOrder)
+                .setKeysetPagination(new KeysetPagination(2, token)).getStatement())
+                .isEqualTo("MATCH (n:`Raptor`) WITH n WHERE (n.`name` > { keyset_0 }) OR (n.`name` = { keyset_0 } AND ID(n) > { keyset_id }) " +
+                        "WITH n ORDER BY n.`name`,ID(n) LIMIT {sdnLimit} RETURN n");
+    }
+
+    @Test
+    public void shouldComposeWithFiltersAndDescendingSortOrders() {
+        SortOrder descending = new SortOrder().add(SortOrder.Direction.DESC, "`name`");
+        String descendingToken = KeysetPagination.continuationToken(descending, Arrays.asList("velociraptor"), 42L);
+        Filters filters = new Filters().add(new Filter("age", ComparisonOperator.GREATER_THAN, 2));
+
+        assertThat(queryStatements.findByType("Raptor", filters, 1).setSortOrder(descending)
+                .setKeysetPagination(new KeysetPagination(2, descendingToken)).getStatement())
+                .isEqualTo("MATCH (n:`Raptor`) WHERE n.`age` > { `age_0` } WITH n " +
+                        "WHERE (n.`name` < { keyset_0 }) OR (n.`name` = { keyset_0 } AND ID(n) > { keyset_id }) " +
+                        "WITH n ORDER BY n.`name` DESC,ID(n) LIMIT {sdnLimit} MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+    }
+
+    @Test
+    public void shouldReadTheParametersOfTheToken() {
+        Map<String, Object> parameters = new KeysetPagination(2, token).parameters(sortOrder);
+
+        assertThat(parameters).containsOnly(entry("keyset_0", "velociraptor"), entry("keyset_id", 42L), entry("sdnLimit", 2));
+        assertThat(new KeysetPagination(2).parameters(sortOrder)).containsOnly(entry("sdnLimit", 2));
+    }
+
+    @Test
+    public void shouldRejectTheTokenOfAnotherSortOrder() {
+        assertThatThrownBy(() -> new KeysetPagination(2, token).parameters(new SortOrder().add("`age`")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new KeysetPagination(2, "not a token").parameters(sortOrder))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void shouldRejectAPageSizeOfZero() {
+        assertThatThrownBy(() -> new KeysetPagination(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Page size must be greater than zero");
+    }
+}
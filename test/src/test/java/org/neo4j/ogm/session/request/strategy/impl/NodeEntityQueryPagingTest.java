@@ -22,6 +22,7 @@ import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 /**
  * @author Vince Bickers
@@ -35,55 +36,55 @@ public class NodeEntityQueryPagingTest {
     @Test
     public void testFindByType() {
         assertThat(queryStatements.findByType("Raptor", 1).setPagination(paging).getStatement())
-                .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP 4 LIMIT 2 MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+                .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP {sdnSkip} LIMIT {sdnLimit} MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
     }
 
     @Test
     public void testFindByTypeZeroDepth() throws Exception {
         assertThat(queryStatements.findByType("Raptor", 0).setPagination(paging).getStatement())
-                .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP 4 LIMIT 2 RETURN n");
+                .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP {sdnSkip} LIMIT {sdnLimit} RETURN n");
     }
 
     @Test
     public void testFindByTypeInfiniteDepth() throws Exception {
         assertThat(queryStatements.findByType("Raptor", -1).setPagination(paging).getStatement())
-                .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP 4 LIMIT 2 MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)");
+                .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP {sdnSkip} LIMIT {sdnLimit} MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)");
     }
 
     @Test
     public void testFindByProperty() {
         assertThat(queryStatements.findByType("Raptor", filters, 2).setPagination(paging).getStatement())
-                .isEqualTo("MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP 4 LIMIT 2 MATCH p=(n)-[*0..2]-(m) RETURN p, ID(n)");
+                .isEqualTo("MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP {sdnSkip} LIMIT {sdnLimit} MATCH p=(n)-[*0..2]-(m) RETURN p, ID(n)");
     }
 
     @Test
     public void testFindByPropertyZeroDepth() {
         assertThat(queryStatements.findByType("Raptor", filters, 0).setPagination(paging).getStatement())
-                .isEqualTo("MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP 4 LIMIT 2 RETURN n");
+                .isEqualTo("MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP {sdnSkip} LIMIT {sdnLimit} RETURN n");
     }
 
     @Test
     public void testFindByPropertyInfiniteDepth() {
         assertThat(queryStatements.findByType("Raptor", filters, -1).setPagination(paging).getStatement())
-                .isEqualTo("MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP 4 LIMIT 2 MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)");
+                .isEqualTo("MATCH (n:`Raptor`) WHERE n.`name` = { `name_0` } WITH n SKIP {sdnSkip} LIMIT {sdnLimit} MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)");
     }
 
     @Test
     public void testFindAllByType() throws Exception {
         assertThat(queryStatements.findAllByType("Raptor", newArrayList(1L, 2L), 1).setPagination(paging).getStatement())
-                .isEqualTo("MATCH (n:`Raptor`) WHERE ID(n) IN { ids } WITH n SKIP 4 LIMIT 2 MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+                .isEqualTo("MATCH (n:`Raptor`) WHERE ID(n) IN { ids } WITH n SKIP {sdnSkip} LIMIT {sdnLimit} MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
     }
 
     @Test
     public void testFindAllByTypeZeroDepth() throws Exception {
         assertThat(queryStatements.findAllByType("Raptor", newArrayList(1L, 2L), 0).setPagination(paging).getStatement())
-                .isEqualTo("MATCH (n:`Raptor`) WHERE ID(n) IN { ids } WITH n SKIP 4 LIMIT 2 RETURN n");
+                .isEqualTo("MATCH (n:`Raptor`) WHERE ID(n) IN { ids } WITH n SKIP {sdnSkip} LIMIT {sdnLimit} RETURN n");
     }
 
     @Test
     public void testFindAllByTypeInfiniteDepth() throws Exception {
         assertThat(queryStatements.findAllByType("Raptor", newArrayList(1L, 2L), -1).setPagination(paging).getStatement())
-                .isEqualTo("MATCH (n:`Raptor`) WHERE ID(n) IN { ids } WITH n SKIP 4 LIMIT 2 MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)");
+                .isEqualTo("MATCH (n:`Raptor`) WHERE ID(n) IN { ids } WITH n SKIP {sdnSkip} LIMIT {sdnLimit} MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)");
     }
 
     @Test
@@ -92,7 +93,18 @@ public class NodeEntityQueryPagingTest {
         pagination.setOffset(3);
         PagingAndSortingQuery query = queryStatements.findByType("Raptor", 1).setPagination(pagination);
         assertThat(query.getStatement())
-                .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP 3 LIMIT 5 MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+                .isEqualTo("MATCH (n:`Raptor`) WITH n SKIP {sdnSkip} LIMIT {sdnLimit} MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)");
+        assertThat(query.getParameters()).containsOnly(entry("sdnSkip", 3), entry("sdnLimit", 5));
+    }
+
+    @Test
+    public void testPagesShareTheirStatement() {
+        PagingAndSortingQuery query = queryStatements.findByType("Raptor", filters, 1).setPagination(paging);
+        assertThat(query.getParameters()).containsOnly(entry("name_0", "velociraptor"), entry("sdnSkip", 4), entry("sdnLimit", 2));
+
+        PagingAndSortingQuery next = queryStatements.findByType("Raptor", filters, 1).setPagination(new Pagination(3, 2));
+        assertThat(next.getStatement()).isEqualTo(query.getStatement());
+        assertThat(next.getParameters()).containsOnly(entry("name_0", "velociraptor"), entry("sdnSkip", 6), entry("sdnLimit", 2));
     }
 
 }